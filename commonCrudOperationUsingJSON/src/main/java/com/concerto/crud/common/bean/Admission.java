@@ -0,0 +1,53 @@
+package com.concerto.crud.common.bean;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.bean.Admission.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:39:18 PM
+ * @Purpose : Represents the admission limits of a module: how many of its
+ *          requests may run at once, how many more may wait for a free slot
+ *          and how long they may wait. Settings left at zero fall back to the
+ *          application defaults.
+ * @Version : 1.0
+ */
+
+public class Admission {
+
+	private int maxConcurrent;
+
+	private int maxQueued;
+
+	private long queueTimeoutMs;
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	public void setMaxConcurrent(int maxConcurrent) {
+		this.maxConcurrent = maxConcurrent;
+	}
+
+	public int getMaxQueued() {
+		return maxQueued;
+	}
+
+	public void setMaxQueued(int maxQueued) {
+		this.maxQueued = maxQueued;
+	}
+
+	public long getQueueTimeoutMs() {
+		return queueTimeoutMs;
+	}
+
+	public void setQueueTimeoutMs(long queueTimeoutMs) {
+		this.queueTimeoutMs = queueTimeoutMs;
+	}
+
+	@Override
+	public String toString() {
+		return "Admission [maxConcurrent=" + maxConcurrent + ", maxQueued=" + maxQueued + ", queueTimeoutMs="
+				+ queueTimeoutMs + "]";
+	}
+}
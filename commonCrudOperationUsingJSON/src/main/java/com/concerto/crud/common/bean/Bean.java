@@ -3,6 +3,7 @@ package com.concerto.crud.common.bean;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -26,6 +27,9 @@ public class Bean implements Entity {
 	@JsonProperty("Fields")
 	private List<Field> fields;
 
+	@JsonIgnore
+	private FieldIndex fieldIndex;
+
 	
 	@Override
 	public String getEntityName() {
@@ -45,6 +49,15 @@ public class Bean implements Entity {
 		this.fields = fields;
 	}
 
+	@Override
+	public FieldIndex getFieldIndex() {
+		return fieldIndex;
+	}
+
+	public void setFieldIndex(FieldIndex fieldIndex) {
+		this.fieldIndex = fieldIndex;
+	}
+
 	@Override
 	public String toString() {
 		return "Bean [beanName=" + beanName + ", fields=" + fields +  "]";
@@ -14,7 +14,8 @@ import java.util.List;
  *          is considered a sub-bean. Entities are used to model the underlying
  *          data structure and support interactions with the database. This
  *          interface provides methods for retrieving the entity name, list of
- *          fields, and determining whether it is a sub-bean.
+ *          fields, and determining whether it is a sub-bean, along with the
+ *          index used to look its fields up by name.
  * @Version : 1.0
  */
 
@@ -24,5 +25,7 @@ public interface Entity {
 
 	List<Field> getFields();
 
+	FieldIndex getFieldIndex();
+
 	boolean isSubBean();
 }
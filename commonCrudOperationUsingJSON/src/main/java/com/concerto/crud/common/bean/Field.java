@@ -1,6 +1,9 @@
 
 package com.concerto.crud.common.bean;
 
+import com.concerto.crud.common.validationservice.FieldValidator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
  *
@@ -25,6 +28,9 @@ public class Field {
 
 	private Validation validation;
 
+	@JsonIgnore
+	private FieldValidator validator;
+
 	public String getName() {
 		return name;
 	}
@@ -49,6 +55,14 @@ public class Field {
 		this.validation = validation;
 	}
 
+	public FieldValidator getValidator() {
+		return validator;
+	}
+
+	public void setValidator(FieldValidator validator) {
+		this.validator = validator;
+	}
+
 	@Override
 	public String toString() {
 		return "Field [name=" + name + ", type=" + type + ", validation=" + validation + "]";
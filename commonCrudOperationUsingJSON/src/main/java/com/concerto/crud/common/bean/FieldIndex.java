@@ -0,0 +1,182 @@
+package com.concerto.crud.common.bean;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.bean.FieldIndex.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:34:25 PM
+ * @Purpose : Immutable lookup from field names to their position in a list of
+ *          fields, built once when the modules are loaded. Names are resolved
+ *          exactly or case-insensitively; a field listed twice keeps its first
+ *          position. The positions of the primary key fields are kept in field
+ *          order, and rows whose keys differ from the field names only in case
+ *          can be normalised once so that later lookups are exact.
+ * @Version : 1.0
+ */
+
+public final class FieldIndex {
+
+	private final List<Field> fields;
+
+	private final Map<String, Integer> ordinals;
+
+	private final Map<String, Integer> caseInsensitiveOrdinals;
+
+	private final int[] keyOrdinals;
+
+	private FieldIndex(List<Field> fields) {
+		this.fields = Collections.unmodifiableList(fields);
+		this.ordinals = new HashMap<>(fields.size() * 2);
+		this.caseInsensitiveOrdinals = new HashMap<>(fields.size() * 2);
+		for (int i = 0; i < fields.size(); i++) {
+			String name = fields.get(i).getName();
+			ordinals.putIfAbsent(name, i);
+			caseInsensitiveOrdinals.putIfAbsent(name.toUpperCase(Locale.ROOT), i);
+		}
+		int keys = 0;
+		for (Field field : fields) {
+			if (field.isPrimaryKey()) {
+				keys++;
+			}
+		}
+		this.keyOrdinals = new int[keys];
+		for (int i = 0, k = 0; i < fields.size(); i++) {
+			if (fields.get(i).isPrimaryKey()) {
+				keyOrdinals[k++] = i;
+			}
+		}
+	}
+
+	/**
+	 * Builds the index of the given fields, skipping repeated names.
+	 *
+	 * @param fieldLists
+	 *            The field lists to index, in order.
+	 * @return The index.
+	 */
+	public static FieldIndex of(Collection<List<Field>> fieldLists) {
+		List<Field> fields = new ArrayList<>();
+		Map<String, Boolean> seen = new HashMap<>();
+		for (List<Field> list : fieldLists) {
+			if (list == null) {
+				continue;
+			}
+			for (Field field : list) {
+				if (seen.put(field.getName(), Boolean.TRUE) == null) {
+					fields.add(field);
+				}
+			}
+		}
+		return new FieldIndex(fields);
+	}
+
+	public static FieldIndex of(List<Field> fields) {
+		return of(Collections.singletonList(fields));
+	}
+
+	/**
+	 * Returns the position of a field given its exact name.
+	 *
+	 * @param name
+	 *            The field name.
+	 * @return The position, or -1 if there is no such field.
+	 */
+	public int ordinal(String name) {
+		Integer ordinal = ordinals.get(name);
+		return ordinal == null ? -1 : ordinal;
+	}
+
+	/**
+	 * Returns the position of a field, ignoring the case of its name.
+	 *
+	 * @param name
+	 *            The field name in any case.
+	 * @return The position, or -1 if there is no such field.
+	 */
+	public int resolve(String name) {
+		Integer ordinal = ordinals.get(name);
+		if (ordinal == null) {
+			ordinal = caseInsensitiveOrdinals.get(name.toUpperCase(Locale.ROOT));
+		}
+		return ordinal == null ? -1 : ordinal;
+	}
+
+	/**
+	 * Renames, in place, the keys of a row that match a field name only when the
+	 * case is ignored, so that the row can be read with the exact field names.
+	 * Keys that are not field names are left as they are, and a key already
+	 * spelled exactly wins over a differently cased one.
+	 *
+	 * @param row
+	 *            The row to normalise, as received or read from the database.
+	 * @return The same row.
+	 */
+	public Map<String, Object> normalise(Map<String, Object> row) {
+		if (row == null) {
+			return null;
+		}
+		List<String> renamed = null;
+		for (String key : row.keySet()) {
+			if (!ordinals.containsKey(key) && caseInsensitiveOrdinals.containsKey(key.toUpperCase(Locale.ROOT))) {
+				if (renamed == null) {
+					renamed = new ArrayList<>();
+				}
+				renamed.add(key);
+			}
+		}
+		if (renamed != null) {
+			for (String key : renamed) {
+				String name = name(caseInsensitiveOrdinals.get(key.toUpperCase(Locale.ROOT)));
+				Object value = row.remove(key);
+				row.putIfAbsent(name, value);
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Returns the number of primary key fields.
+	 *
+	 * @return The number of primary key fields.
+	 */
+	public int keyCount() {
+		return keyOrdinals.length;
+	}
+
+	/**
+	 * Returns the position of a primary key field.
+	 *
+	 * @param key
+	 *            The index of the key field, from 0 to keyCount() - 1, in field
+	 *            order.
+	 * @return The position of the field.
+	 */
+	public int keyOrdinal(int key) {
+		return keyOrdinals[key];
+	}
+
+	public Field field(int ordinal) {
+		return fields.get(ordinal);
+	}
+
+	public String name(int ordinal) {
+		return fields.get(ordinal).getName();
+	}
+
+	public int size() {
+		return fields.size();
+	}
+
+	public List<Field> getFields() {
+		return fields;
+	}
+}
@@ -3,6 +3,7 @@ package com.concerto.crud.common.bean;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -32,6 +33,15 @@ public class Module implements Entity {
 	@JsonProperty("Beans")
 	private List<Bean> beans;
 
+	@JsonProperty("Admission")
+	private Admission admission;
+
+	@JsonIgnore
+	private FieldIndex fieldIndex;
+
+	@JsonIgnore
+	private FieldIndex rowIndex;
+
 	public String getEntityName() {
 		return moduleName;
 	}
@@ -48,6 +58,17 @@ public class Module implements Entity {
 		this.moduleName = moduleName;
 	}
 
+	/**
+	 * Admission limits of the module, or null to use the application defaults.
+	 */
+	public Admission getAdmission() {
+		return admission;
+	}
+
+	public void setAdmission(Admission admission) {
+		this.admission = admission;
+	}
+
 	@Override
 	public List<Field> getFields() {
 		return fields;
@@ -57,6 +78,27 @@ public class Module implements Entity {
 		this.fields = fields;
 	}
 
+	@Override
+	public FieldIndex getFieldIndex() {
+		return fieldIndex;
+	}
+
+	public void setFieldIndex(FieldIndex fieldIndex) {
+		this.fieldIndex = fieldIndex;
+	}
+
+	/**
+	 * Index of the fields a child row may carry: the fields of all beans of the
+	 * module. Null if the module has no beans.
+	 */
+	public FieldIndex getRowIndex() {
+		return rowIndex;
+	}
+
+	public void setRowIndex(FieldIndex rowIndex) {
+		this.rowIndex = rowIndex;
+	}
+
 	@Override
 	public String toString() {
 		return "Module [moduleName=" + moduleName + ", fields=" + fields + ", beans=" + beans + "]";
@@ -22,6 +22,10 @@ public class Validation {
 
 	private int maximum;
 
+	private String regex;
+
+	private String dateFormat;
+
 	public String getPattern() {
 		return pattern;
 	}
@@ -46,9 +50,26 @@ public class Validation {
 		this.maximum = maximum;
 	}
 
+	public String getRegex() {
+		return regex;
+	}
+
+	public void setRegex(String regex) {
+		this.regex = regex;
+	}
+
+	public String getDateFormat() {
+		return dateFormat;
+	}
+
+	public void setDateFormat(String dateFormat) {
+		this.dateFormat = dateFormat;
+	}
+
 	@Override
 	public String toString() {
-		return "Validation [pattern=" + pattern + ", minimum=" + minimum + ", maximum=" + maximum + "]";
+		return "Validation [pattern=" + pattern + ", minimum=" + minimum + ", maximum=" + maximum + ", regex="
+				+ regex + ", dateFormat=" + dateFormat + "]";
 	}
 
 }
@@ -0,0 +1,164 @@
+package com.concerto.crud.common.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.cache.CountingBloomFilter.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:18:45 PM
+ * @Purpose : Counting Bloom filter over string keys. Each slot holds an 8-bit
+ *          saturating counter so that keys can be removed as well as added. A
+ *          negative answer from mightContain is definite; a positive answer
+ *          may be a false positive at the configured rate. Writers are
+ *          serialised, readers use optimistic reads and do not block.
+ * @Version : 1.0
+ */
+
+public class CountingBloomFilter {
+
+	private static final int MAX_COUNT = 0xFF;
+
+	private final byte[] counters;
+
+	private final int hashFunctions;
+
+	private final AtomicLong keyCount = new AtomicLong();
+
+	private final StampedLock lock = new StampedLock();
+
+	/**
+	 * Creates a filter sized for the expected number of keys and false-positive
+	 * rate, capped at the given memory budget.
+	 *
+	 * @param expectedKeys
+	 *            The number of keys the filter is sized for.
+	 * @param falsePositiveRate
+	 *            The target false-positive rate at the expected number of keys.
+	 * @param maxMemoryBytes
+	 *            The maximum number of counters (one byte each).
+	 */
+	public CountingBloomFilter(long expectedKeys, double falsePositiveRate, long maxMemoryBytes) {
+		long keys = Math.max(1, expectedKeys);
+		double rate = Math.min(Math.max(falsePositiveRate, 1.0E-9), 0.5);
+		long slots = (long) Math.ceil(-keys * Math.log(rate) / (Math.log(2) * Math.log(2)));
+		slots = Math.max(64, Math.min(slots, Math.min(maxMemoryBytes, Integer.MAX_VALUE - 8)));
+		this.counters = new byte[(int) slots];
+		this.hashFunctions = (int) Math.max(1, Math.min(16, Math.round((double) slots / keys * Math.log(2))));
+	}
+
+	public void add(String key) {
+		long hash = hash(key);
+		long stamp = lock.writeLock();
+		try {
+			for (int i = 0; i < hashFunctions; i++) {
+				int index = index(hash, i);
+				int count = counters[index] & MAX_COUNT;
+				if (count < MAX_COUNT) {
+					counters[index] = (byte) (count + 1);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		keyCount.incrementAndGet();
+	}
+
+	/**
+	 * Removes a key that was previously added. Saturated counters are left
+	 * untouched, so removal never introduces a false negative.
+	 *
+	 * @param key
+	 *            The key to remove.
+	 */
+	public void remove(String key) {
+		long hash = hash(key);
+		long stamp = lock.writeLock();
+		try {
+			for (int i = 0; i < hashFunctions; i++) {
+				if ((counters[index(hash, i)] & MAX_COUNT) == 0) {
+					return;
+				}
+			}
+			for (int i = 0; i < hashFunctions; i++) {
+				int index = index(hash, i);
+				int count = counters[index] & MAX_COUNT;
+				if (count < MAX_COUNT) {
+					counters[index] = (byte) (count - 1);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		keyCount.decrementAndGet();
+	}
+
+	public boolean mightContain(String key) {
+		long hash = hash(key);
+		long stamp = lock.tryOptimisticRead();
+		boolean present = test(hash);
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				present = test(hash);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return present;
+	}
+
+	public long getKeyCount() {
+		return Math.max(0, keyCount.get());
+	}
+
+	public long getMemoryBytes() {
+		return counters.length;
+	}
+
+	/**
+	 * Estimates the current false-positive rate from the number of keys held.
+	 *
+	 * @return The estimated probability that an absent key is reported present.
+	 */
+	public double getEstimatedFalsePositiveRate() {
+		double fill = 1 - Math.exp(-(double) hashFunctions * getKeyCount() / counters.length);
+		return Math.pow(fill, hashFunctions);
+	}
+
+	private boolean test(long hash) {
+		for (int i = 0; i < hashFunctions; i++) {
+			if (counters[index(hash, i)] == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int index(long hash, int i) {
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		int combined = h1 + i * h2;
+		return (combined & Integer.MAX_VALUE) % counters.length;
+	}
+
+	/**
+	 * 64-bit FNV-1a over the characters of the key followed by the MurmurHash3
+	 * finaliser, split into two 32-bit halves for double hashing.
+	 */
+	private static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,421 @@
+package com.concerto.crud.common.cache;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.bean.Bean;
+import com.concerto.crud.common.bean.Entity;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.tenant.Tenant;
+import com.concerto.crud.common.tenant.TenantContext;
+import com.concerto.crud.common.tenant.TenantDirectory;
+import com.concerto.crud.common.util.JsonToJavaConverter;
+import com.concerto.crud.common.util.Logging;
+import com.concerto.crud.common.util.ModuleRegistryReloadedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.cache.MasterKeyIndex.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:18:45 PM
+ * @Purpose : Keeps a counting Bloom filter of the primary keys held in each
+ *          <X>_MASTER table. A negative lookup proves that a key is absent from
+ *          the master table, which lets ADD submissions skip the master
+ *          existence query. Filters are loaded by a streaming key scan at
+ *          startup and kept current on every approved add and delete. Until an
+ *          entity's filter has been loaded, or when its keys cannot be
+ *          normalised, every lookup answers "might contain" so that callers
+ *          always fall back to the database. Each tenant has its own filters,
+ *          loaded from its own database, and a tenant's filters are rebuilt
+ *          when its module file is reloaded. A filter only learns the keys
+ *          approved on this node, so a negative answer is only complete when
+ *          this node is the single writer of the master tables
+ *          (crud.bloom.single-writer); otherwise no filters are loaded and
+ *          every lookup goes to the database.
+ * @Version : 1.0
+ */
+
+@Component
+public class MasterKeyIndex {
+
+	private static final char KEY_SEPARATOR = '\u0001';
+
+	private static final int MIN_EXPECTED_KEYS = 1024;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final MeterRegistry meterRegistry;
+
+	private final TenantDirectory tenantDirectory;
+
+	/** Filters by tenant and entity name, see {@link #slotKey}. */
+	private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+	@Value("${crud.bloom.enabled:true}")
+	private boolean enabled;
+
+	@Value("${crud.bloom.single-writer:false}")
+	private boolean singleWriter;
+
+	@Value("${crud.bloom.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	@Value("${crud.bloom.max-memory-bytes:16777216}")
+	private long maxMemoryBytes;
+
+	@Value("${crud.bloom.headroom:2.0}")
+	private double headroom;
+
+	@Value("${crud.bloom.fetch-size:5000}")
+	private int fetchSize;
+
+	@Autowired
+	public MasterKeyIndex(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+			TenantDirectory tenantDirectory) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.meterRegistry = meterRegistry;
+		this.tenantDirectory = tenantDirectory;
+	}
+
+	/**
+	 * Loads the filters of all tenants on a background thread so that
+	 * application startup is not held up by large master tables.
+	 */
+	public void loadAsync() {
+		startLoader(this::load);
+	}
+
+	/**
+	 * Loads the filters of one tenant on a background thread.
+	 *
+	 * @param tenantId
+	 *            The tenant to load.
+	 */
+	public void loadAsync(String tenantId) {
+		startLoader(() -> load(tenantId));
+	}
+
+	/**
+	 * Loads the filters of all modules and beans of every tenant from their
+	 * master tables.
+	 */
+	public void load() {
+		for (Tenant tenant : tenantDirectory.getTenants()) {
+			load(tenant.getId());
+		}
+	}
+
+	/**
+	 * Loads the filters of all modules and beans of a tenant from its master
+	 * tables.
+	 *
+	 * @param tenantId
+	 *            The tenant to load.
+	 */
+	public void load(String tenantId) {
+		TenantContext.runAs(tenantId, () -> {
+			for (Module module : JsonToJavaConverter.getModuleMap().values()) {
+				loadEntity(tenantId, module);
+				if (module.getBeans() != null) {
+					for (Bean bean : module.getBeans()) {
+						loadEntity(tenantId, bean);
+					}
+				}
+			}
+		});
+	}
+
+	private void startLoader(Runnable load) {
+		if (!enabled || !singleWriter) {
+			return;
+		}
+		Thread loader = new Thread(load, AppConstant.MASTER_KEY_INDEX_THREAD);
+		loader.setDaemon(true);
+		loader.start();
+	}
+
+	/**
+	 * Rebuilds the filters after the module file has been reloaded, since
+	 * modules may have been added or their primary keys changed. Lookups fall
+	 * back to the database until the new filters are loaded.
+	 *
+	 * @param event
+	 *            The reload event.
+	 */
+	@EventListener
+	public void onModulesReloaded(ModuleRegistryReloadedEvent event) {
+		String prefix = slotKey(event.getTenantId(), "");
+		slots.keySet().removeIf(key -> key.startsWith(prefix));
+		loadAsync(event.getTenantId());
+	}
+
+	/**
+	 * Tells whether the master table of the entity might hold the key carried by
+	 * the given row.
+	 *
+	 * @param entity
+	 *            The module or bean the row belongs to.
+	 * @param row
+	 *            The request or table row holding the primary key values.
+	 * @return false only if the key is definitely absent from the master table.
+	 */
+	public boolean mightContain(Entity entity, Map<String, Object> row) {
+		Slot slot = slots.get(slotKey(TenantContext.current(), entity.getEntityName()));
+		if (slot == null || !slot.ready) {
+			return true;
+		}
+		String key = toKey(primaryFields(entity), row);
+		if (key == null) {
+			return true;
+		}
+		boolean present = slot.filter.mightContain(key);
+		(present ? slot.maybePresent : slot.absent).increment();
+		return present;
+	}
+
+	/**
+	 * Records a key that has been inserted into the master table.
+	 *
+	 * @param entity
+	 *            The module or bean the row belongs to.
+	 * @param row
+	 *            The inserted row.
+	 */
+	public void add(Entity entity, Map<String, Object> row) {
+		String slotKey = slotKey(TenantContext.current(), entity.getEntityName());
+		Slot slot = slots.get(slotKey);
+		if (slot == null) {
+			return;
+		}
+		String key = toKey(primaryFields(entity), row);
+		if (key == null) {
+			slots.remove(slotKey);
+			return;
+		}
+		slot.filter.add(key);
+	}
+
+	/**
+	 * Forgets a key that has been deleted from the master table. Removals are
+	 * ignored while the filter is loading, since the scan may not have reached
+	 * the key yet; the stale entry only costs a database lookup.
+	 *
+	 * @param entity
+	 *            The module or bean the row belongs to.
+	 * @param row
+	 *            The deleted row.
+	 */
+	public void remove(Entity entity, Map<String, Object> row) {
+		Slot slot = slots.get(slotKey(TenantContext.current(), entity.getEntityName()));
+		if (slot == null || !slot.ready) {
+			return;
+		}
+		String key = toKey(primaryFields(entity), row);
+		if (key != null) {
+			slot.filter.remove(key);
+		}
+	}
+
+	private void loadEntity(String tenantId, Entity entity) {
+		String entityName = entity.getEntityName();
+		String slotKey = slotKey(tenantId, entityName);
+		List<String> primaryFields = primaryFields(entity);
+		if (primaryFields == null || primaryFields.isEmpty()) {
+			return;
+		}
+		String tableName = entityName + AppConstant.MASTER_TABLE_SUFFIX;
+		try {
+			Long count = jdbcTemplate.queryForObject(String.format(AppConstant.COUNT_QUERY, tableName), Long.class);
+			long expectedKeys = Math.max(MIN_EXPECTED_KEYS, (long) ((count == null ? 0 : count) * headroom));
+			Slot slot = new Slot(tenantId, entityName,
+					new CountingBloomFilter(expectedKeys, falsePositiveRate, maxMemoryBytes));
+			slots.put(slotKey, slot);
+
+			String scanQuery = String.format(AppConstant.KEY_SCAN_QUERY,
+					String.join(AppConstant.COMMA, primaryFields), tableName);
+			boolean[] supported = { true };
+			jdbcTemplate.query(connection -> {
+				PreparedStatement preparedStatement = connection.prepareStatement(scanQuery,
+						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				preparedStatement.setFetchSize(fetchSize);
+				return preparedStatement;
+			}, resultSet -> {
+				if (!supported[0]) {
+					return;
+				}
+				StringBuilder key = new StringBuilder();
+				for (int i = 1; i <= primaryFields.size(); i++) {
+					String value = normalise(resultSet.getObject(i));
+					if (value == null) {
+						supported[0] = false;
+						return;
+					}
+					if (i > 1) {
+						key.append(KEY_SEPARATOR);
+					}
+					key.append(value);
+				}
+				slot.filter.add(key.toString());
+			});
+
+			if (supported[0] && slots.get(slotKey) == slot) {
+				slot.ready = true;
+				Logging.info(String.format(AppConstant.MASTER_KEY_INDEX_LOADED, entityName,
+						slot.filter.getKeyCount(), slot.filter.getMemoryBytes()));
+			} else {
+				slots.remove(slotKey, slot);
+			}
+		} catch (Exception e) {
+			slots.remove(slotKey);
+			Logging.error(AppConstant.MASTER_KEY_INDEX_LOAD_FAILED + tableName, e);
+		}
+	}
+
+	static String slotKey(String tenantId, String entityName) {
+		return tenantId + KEY_SEPARATOR + entityName;
+	}
+
+	private static List<String> primaryFields(Entity entity) {
+		return entity.isSubBean() ? JsonToJavaConverter.getBeanPrimaryfields(entity.getEntityName())
+				: JsonToJavaConverter.getPrimaryfields(entity.getEntityName());
+	}
+
+	static String toKey(List<String> primaryFields, Map<String, Object> row) {
+		if (primaryFields == null || primaryFields.isEmpty()) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder();
+		for (int i = 0; i < primaryFields.size(); i++) {
+			String value = normalise(row.get(primaryFields.get(i)));
+			if (value == null) {
+				return null;
+			}
+			if (i > 0) {
+				key.append(KEY_SEPARATOR);
+			}
+			key.append(value);
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Brings a key value to the form SQL Server compares it in: numbers and
+	 * numeric strings by value, other strings case-insensitively and without
+	 * surrounding blanks. Values of any other type are not normalised and
+	 * disable the fast path.
+	 */
+	static String normalise(Object value) {
+		if (value instanceof Number) {
+			return canonicalNumber(value.toString());
+		}
+		if (value instanceof CharSequence) {
+			String text = value.toString().trim();
+			String number = isNumeric(text) ? canonicalNumber(text) : null;
+			return number != null ? number : text.toUpperCase(Locale.ROOT);
+		}
+		return null;
+	}
+
+	private static String canonicalNumber(String text) {
+		try {
+			BigDecimal number = new BigDecimal(text);
+			return number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static boolean isNumeric(String text) {
+		int length = text.length();
+		int i = (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) ? 1 : 0;
+		boolean digits = false;
+		boolean point = false;
+		for (; i < length; i++) {
+			char c = text.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits = true;
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				return false;
+			}
+		}
+		return digits;
+	}
+
+	private Slot slot(String tenantId, String entityName) {
+		return slots.get(slotKey(tenantId, entityName));
+	}
+
+	/**
+	 * Filter of one entity together with its load state and lookup counters.
+	 */
+	private final class Slot {
+
+		private final CountingBloomFilter filter;
+
+		private final Counter absent;
+
+		private final Counter maybePresent;
+
+		private volatile boolean ready;
+
+		Slot(String tenantId, String entityName, CountingBloomFilter filter) {
+			this.filter = filter;
+			this.absent = meterRegistry.counter(AppConstant.METRIC_BLOOM_LOOKUPS, AppConstant.METRIC_TAG_TENANT,
+					tenantId, AppConstant.METRIC_TAG_ENTITY, entityName, AppConstant.METRIC_TAG_RESULT,
+					AppConstant.METRIC_RESULT_ABSENT);
+			this.maybePresent = meterRegistry.counter(AppConstant.METRIC_BLOOM_LOOKUPS,
+					AppConstant.METRIC_TAG_TENANT, tenantId, AppConstant.METRIC_TAG_ENTITY, entityName,
+					AppConstant.METRIC_TAG_RESULT, AppConstant.METRIC_RESULT_MAYBE);
+			Gauge.builder(AppConstant.METRIC_BLOOM_KEYS, MasterKeyIndex.this,
+					index -> index.gauge(tenantId, entityName, GaugeKind.KEYS))
+					.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_ENTITY, entityName)
+					.register(meterRegistry);
+			Gauge.builder(AppConstant.METRIC_BLOOM_MEMORY, MasterKeyIndex.this,
+					index -> index.gauge(tenantId, entityName, GaugeKind.MEMORY))
+					.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_ENTITY, entityName)
+					.baseUnit(AppConstant.METRIC_UNIT_BYTES).register(meterRegistry);
+			Gauge.builder(AppConstant.METRIC_BLOOM_FALSE_POSITIVE_RATE, MasterKeyIndex.this,
+					index -> index.gauge(tenantId, entityName, GaugeKind.FALSE_POSITIVE_RATE))
+					.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_ENTITY, entityName)
+					.register(meterRegistry);
+		}
+	}
+
+	private enum GaugeKind {
+		KEYS, MEMORY, FALSE_POSITIVE_RATE
+	}
+
+	private double gauge(String tenantId, String entityName, GaugeKind kind) {
+		Slot slot = slot(tenantId, entityName);
+		if (slot == null) {
+			return Double.NaN;
+		}
+		switch (kind) {
+		case KEYS:
+			return slot.filter.getKeyCount();
+		case MEMORY:
+			return slot.filter.getMemoryBytes();
+		default:
+			return slot.filter.getEstimatedFalsePositiveRate();
+		}
+	}
+}
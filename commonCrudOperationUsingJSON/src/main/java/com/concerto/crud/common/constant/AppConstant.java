@@ -23,11 +23,13 @@ public class AppConstant {
 	public static final String COMMA = ", ";
 	public static final String COMMA_SPLIT = ",";
 	public static final String EQUAL_QUERY_PARAM = " = ?";
+	public static final String EQUAL = " = ";
 	public static final String QUERY_PARAM = "?";
 	public static final String OPEN_BRACKET = " (";
 	public static final String CLOSE_BRACKET = ")";
 	public static final String APPEND_PARAM = "= ?,";
 	public static final String MODULE_NAME_INCORRECT = "Module not found";
+	public static final String MODULE_NAME_VARIABLE = "moduleName";
 	public static final String COMMON_DATA_NOT_FOUND = "Data Not found for given details";
 	public static final String COMMON_MODULE_MESSAGE = "message";
 	public static final String COMMON_MODULE_ERROR = "error";
@@ -73,14 +75,28 @@ public class AppConstant {
 	public static final String SELECT_QUERY = "SELECT %s FROM %s WHERE %s = ?";
 	public static final String SELECT_ALL_QUERY = "SELECT * FROM %s";
 	public static final String SELECT_QUERY1 = "SELECT * FROM %s WHERE %s";
+	public static final String COUNT_QUERY = "SELECT COUNT_BIG(*) FROM %s";
+	public static final String KEY_SCAN_QUERY = "SELECT %s FROM %s";
 	public static final String DELETE_QUERY = "DELETE FROM %s WHERE %s";
 	public static final String UPDATE_QUERY = "UPDATE %s%s SET %s WHERE %s";
 
 	public static final String INSERT_QUERY = "INSERT INTO %s (%s) VALUES %s";
+	public static final String INSERT_WHERE_NOT_EXISTS_QUERY = "INSERT INTO %s (%s) SELECT %s WHERE NOT EXISTS (SELECT 1 FROM %s m WHERE %s)";
+	public static final String INSERT_FROM_MASTER_QUERY = "INSERT INTO %s (%s) SELECT %s FROM %s m WHERE %s";
+	public static final String MASTER_ALIAS = "m.";
+	public static final String KEYS_ALIAS = "k.";
+	public static final String MASTER_ROWS_BY_KEYS_QUERY = "SELECT k.ROW_ORDINAL, m.* FROM (VALUES %s) AS k (ROW_ORDINAL, %s) JOIN %s m ON %s";
+	public static final String VALUES_ROW = "(%s)";
+	public static final int MAX_VALUES_ROWS = 1000;
+	public static final int MAX_QUERY_PARAMETERS = 2000;
+	public static final String PENDING_DETECTION_CONSTRAINT = "constraint";
+	public static final int DUPLICATE_KEY_ERROR_CODE = 2627;
+	public static final int DUPLICATE_INDEX_ERROR_CODE = 2601;
 
 	public static final String DATA_PRESENT = "Data already Present.";
 	public static final String DATASOURCE_NULL = "Datasource cannot be null";
 	public static final String DATA_NOT_PRESENT = "Data not present in Master table.";
+	public static final String NO_CHANGES_DETECTED = "No changes detected compared to Master table.";
 
 	public static final String APP_PATH = System.getProperty("configPath");
 	public static final String APP_CONFIG_PATH = APP_PATH + "//Configuration//";
@@ -280,6 +296,117 @@ public class AppConstant {
 	public static final String MODULE_RETRIEVING_ERROR = "An exception occurred while retrieving module data: ";
 	public static final String MODULE_DATA_RETRIEVAL_FAILED = "Failed to retrieve module data";
 	public static final String JSON_TO_JAVA_CONVERSION_FAILED = "Failed to read and convert JSON to Java";
+	public static final String REQUEST_BODY_NOT_OBJECT = "Request body must be a JSON object";
+	public static final String REQUEST_BODY_TRAILING_CONTENT = "Unexpected content after the request body";
+	public static final String REQUEST_BODY_MALFORMED = "Request body is not valid JSON";
+	public static final String REQUEST_BODY_UNREADABLE = "Request body could not be read";
+	public static final String REQUEST_UNKNOWN_FIELD = "Unknown field : %s";
+	public static final String REQUEST_FIELD_NOT_ARRAY = "Field %s must be an array";
+	public static final String REQUEST_ROW_NOT_OBJECT = "%s[%d] must be an object";
+	public static final String REQUEST_TOO_MANY_ROWS = "Request holds more than %d rows";
+	public static final String REQUEST_VALUE_TOO_LONG = "Value of %s is longer than %d characters";
+	public static final String REQUEST_VALUE_TOO_DEEP = "Value of %s is nested deeper than %d levels";
+	public static final String VALIDATION_SETTINGS_REJECTED = "Validation settings of field %s are rejected: %s";
+	public static final String UNIT_OF_WORK_ERROR = "An error occurred while completing the unit of work.";
+	public static final String BATCH_ROW_FAILED = "Batch statement failed at row %d : %s";
+	public static final String BATCH_ROW_NOT_APPLIED = "Batch statement affected no rows at row %d : %s";
+	public static final String AFTER_COMMIT_ACTION_FAILED = "An after-commit action failed.";
+	public static final String MASTER_KEY_INDEX_LOAD_FAILED = "Failed to load the master key index for table : ";
+	public static final String MASTER_KEY_INDEX_LOADED = "Master key index loaded for %s : %d keys, %d bytes";
+	public static final String MASTER_KEY_INDEX_THREAD = "master-key-index-loader";
+	public static final String VALIDATION_THREAD = "validation-worker-";
+	public static final String MODULE_WATCH_THREAD = "module-file-watcher";
+	public static final String MODULE_WATCH_FAILED = "Failed to watch the module file : ";
+	public static final String MODULE_RELOAD_FAILED = "Module file rejected, keeping the current modules : ";
+	public static final String MODULE_RELOADED = "Reloaded %d modules from %s";
+	public static final String MODULE_RELOAD_ERROR = "Failed to reload the modules of tenant : ";
+
+	// Metrics
+	public static final String ACTUATOR_PATH = "/actuator";
+	public static final String METRIC_TAG_ENTITY = "entity";
+	public static final String METRIC_TAG_RESULT = "result";
+	public static final String METRIC_UNIT_BYTES = "bytes";
+	public static final String METRIC_BLOOM_LOOKUPS = "crud.bloom.lookups";
+	public static final String METRIC_BLOOM_KEYS = "crud.bloom.keys";
+	public static final String METRIC_BLOOM_MEMORY = "crud.bloom.memory";
+	public static final String METRIC_BLOOM_FALSE_POSITIVE_RATE = "crud.bloom.false.positive.rate";
+	public static final String METRIC_RESULT_ABSENT = "absent";
+	public static final String METRIC_RESULT_MAYBE = "maybe";
+	public static final String METRIC_TAG_MODULE = "module";
+	public static final String METRIC_ADMISSION_REQUESTS = "crud.admission.requests";
+	public static final String METRIC_ADMISSION_ACTIVE = "crud.admission.active";
+	public static final String METRIC_ADMISSION_QUEUED = "crud.admission.queued";
+	public static final String METRIC_ADMISSION_LIMIT = "crud.admission.limit";
+	public static final String METRIC_RESULT_ADMITTED = "admitted";
+	public static final String METRIC_RESULT_REJECTED = "rejected";
+	public static final String RETRY_AFTER_HEADER = "Retry-After";
+	public static final String MODULE_BUSY = "Too many requests for this module, retry later";
+	public static final String METRIC_TAG_OPERATION = "operation";
+	public static final String METRIC_DAO_LIMIT = "crud.dao.limit";
+	public static final String METRIC_DAO_INFLIGHT = "crud.dao.inflight";
+	public static final String METRIC_DAO_REJECTED = "crud.dao.rejected";
+	public static final String METRIC_DAO_COALESCED = "crud.dao.coalesced";
+	public static final String METRIC_TAG_QUERY = "query";
+	public static final String DATABASE_OVERLOADED = "The database is busy, retry later";
+	public static final String POOL_NAME_PREFIX = "crud-";
+	public static final String POOL_PROPERTY_PREFIX = "crud.datasource.";
+	public static final String LANE_MAX_WAIT_PREFIX = "crud.datasource.max-wait.";
+	public static final long DEFAULT_LANE_MAX_WAIT_MS = 30000;
+	public static final String DATASOURCE_PROPERTY_PREFIX = "spring.datasource";
+	public static final String DOT = ".";
+	public static final String HYPHEN = "-";
+	public static final String DEFAULT_TENANT = "default";
+	public static final String TENANT_HEADER = "X-Tenant-ID";
+	public static final String TENANT_IDS_PROPERTY = "crud.tenants.ids";
+	public static final String TENANT_PROPERTY_PREFIX = "crud.tenants.";
+	public static final String TENANT_MODULE_FILE_SUFFIX = ".module-file";
+	public static final String TENANT_DATASOURCE_SUFFIX = ".datasource";
+	public static final String TENANT_ID_PATTERN = "[A-Za-z0-9_-]+";
+	public static final String TENANT_ID_INVALID = "Tenant id %s may only contain letters, digits, _ and -";
+	public static final String TENANT_NOT_FOUND = "Tenant not found";
+	public static final String TENANT_POOL_CLOSE_FAILED = "Failed to close a tenant connection pool";
+	public static final String METRIC_TAG_TENANT = "tenant";
+	public static final String MODULE_FILE_PROPERTY = "input.json.file.path";
+	public static final String EXECUTOR_PROPERTY_PREFIX = "crud.executor.";
+	public static final String READ_EXECUTOR = "read";
+	public static final String WRITE_EXECUTOR = "write";
+	public static final String EXPORT_EXECUTOR = "export";
+	public static final String EXECUTOR_THREAD_SUFFIX = "-worker-";
+	public static final String SERVER_BUSY = "The server is busy, retry later";
+	public static final String COLON = ":";
+	public static final String METRIC_GROUP_COMMIT_SIZE = "crud.group.commit.size";
+	public static final String METRIC_TRANSACTION_RETRIES = "crud.transaction.retries";
+	public static final String METRIC_TAG_REASON = "reason";
+	public static final String METRIC_RESULT_RETRIED = "retried";
+	public static final String METRIC_RESULT_EXHAUSTED = "exhausted";
+	public static final String METRIC_RESULT_BUDGET_EXHAUSTED = "budget_exhausted";
+	public static final String RETRY_REASON_DEADLOCK = "deadlock";
+	public static final String RETRY_REASON_LOCK_TIMEOUT = "lock_timeout";
+	public static final String RETRY_REASON_SERIALIZATION = "serialization";
+	public static final String TRANSACTION_RETRY = "Transaction failed with %s, replaying as attempt %d";
+	public static final String METRIC_KEY_LOCK_TIMEOUTS = "crud.key.lock.timeouts";
+	public static final String RECORD_BUSY = "Another request for this record is in progress, retry later";
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+	public static final String SLASH = "/";
+	public static final String PROCESS = "process";
+	public static final String RECTIFY_ACTION = "rectifyAction";
+	public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+	public static final String IDEMPOTENCY_KEY_INVALID = "Idempotency-Key must not be longer than 255 characters";
+	public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used for a different request";
+	public static final String IDEMPOTENCY_STORE_FAILED = "Failed to access the idempotency key table";
+	public static final String IDEMPOTENCY_SELECT_QUERY = "SELECT FINGERPRINT, STATUS_CODE, RESPONSE_BODY, CREATED_DATE_TIME FROM IDEMPOTENCY_KEYS WHERE IDEMPOTENCY_KEY = ?";
+	public static final String IDEMPOTENCY_DELETE_QUERY = "DELETE FROM IDEMPOTENCY_KEYS WHERE IDEMPOTENCY_KEY = ?";
+	public static final String IDEMPOTENCY_INSERT_QUERY = "INSERT INTO IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY, FINGERPRINT, STATUS_CODE, RESPONSE_BODY, CREATED_DATE_TIME) VALUES (?, ?, ?, ?, ?)";
+	public static final String IDEMPOTENCY_FINGERPRINT_COLUMN = "FINGERPRINT";
+	public static final String IDEMPOTENCY_STATUS_COLUMN = "STATUS_CODE";
+	public static final String IDEMPOTENCY_BODY_COLUMN = "RESPONSE_BODY";
+	public static final String IDEMPOTENCY_CREATED_COLUMN = "CREATED_DATE_TIME";
+	public static final String SHA_256 = "SHA-256";
+	public static final String METRIC_IDEMPOTENCY_REQUESTS = "crud.idempotency.requests";
+	public static final String METRIC_RESULT_EXECUTED = "executed";
+	public static final String METRIC_RESULT_REPLAYED = "replayed";
+	public static final String METRIC_RESULT_CONFLICT = "conflict";
 
 	// Mail Configuration
 	public static final String MAIL_FROM = "mail.From";
@@ -596,6 +723,7 @@ public class AppConstant {
 	public static final String VALIDATION_INVALID_PORT = "common.validation.invalid.port";
 	public static final String VALIDATION_INVALID_TELEPHONE = "common.validation.invalid.tel";
 	public static final String VALIDATION_INVALID_DATE = "common.validation.invalid.date";
+	public static final String VALIDATION_INVALID_FORMAT = "common.validation.invalid.format";
 	public static final String VALIDATION_ENTER_ONLY = "common.validation.enter.only";
 	public static final String VALIDATION_ENTER_ALPHA = "common.validation.enter.alpha";
 	public static final String VALIDATION_ENTER_ALPHANUMERIC = "common.validation.enter.alphanumeric";
@@ -4,19 +4,32 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.RequestRejectedException;
+import com.concerto.crud.common.exception.ServiceOverloadedException;
+import com.concerto.crud.common.idempotency.IdempotencyStore;
+import com.concerto.crud.common.request.ModuleRequestBody;
 import com.concerto.crud.common.service.CommonService;
 import com.concerto.crud.common.util.Logging;
 
@@ -27,7 +40,11 @@ import com.concerto.crud.common.util.Logging;
  * @Author : Suyog Kedar
  * @AddedDate : October 03, 2023 12:30:40 PM
  * @Purpose : Handles HTTP requests for creating, updating, reading, and
- *          deleting data for a specified module.
+ *          deleting data for a specified module. The work of each request runs
+ *          on the read, write or export executor, releasing the request thread
+ *          until the response is ready. Write requests sent with an
+ *          Idempotency-Key header run once per key; a retry gets the response
+ *          of the first execution.
  * @Version : 1.0
  */
 
@@ -38,6 +55,24 @@ public class CommonController {
 	@Autowired
 	private CommonService commonService;
 
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	@Qualifier("readExecutor")
+	private Executor readExecutor;
+
+	@Autowired
+	@Qualifier("writeExecutor")
+	private Executor writeExecutor;
+
+	@Autowired
+	@Qualifier("exportExecutor")
+	private Executor exportExecutor;
+
+	@Value("${crud.dao.limit.retry-after-seconds:1}")
+	private int retryAfterSeconds;
+
 	/**
 	 * Handles HTTP GET requests to retrieve specific data for a given module,
 	 * filtering based on a specified field name and value.
@@ -53,20 +88,23 @@ public class CommonController {
 	 *         (OK) or failure (BAD_REQUEST).
 	 */
 	@GetMapping("/readData/{moduleName}")
-	public ResponseEntity<List<Map<String, Object>>> getData(@RequestParam String fieldName, @RequestParam Object value,
-			@PathVariable String moduleName) {
-		List<Map<String, Object>> response = new ArrayList<>();
-		try {
-			response = commonService.getData(fieldName, value, moduleName);
-		} catch (Exception e) {
-			Logging.error(AppConstant.DATA_READING_ERROR, e);
-			List<Map<String, Object>> errorDetails = new ArrayList<>();
-			Map<String, Object> errorMap = new HashMap<>();
-			errorMap.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.DATA_READING_ERROR);
-			errorDetails.add(errorMap);
-			return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
-		}
-		return new ResponseEntity<>(response, HttpStatus.OK);
+	public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getData(@RequestParam String fieldName,
+			@RequestParam Object value, @PathVariable String moduleName) {
+		return async(readExecutor, () -> {
+			List<Map<String, Object>> response = new ArrayList<>();
+			try {
+				response = commonService.getData(fieldName, value, moduleName);
+			} catch (Exception e) {
+				ServiceOverloadedException.rethrowIfOverloaded(e);
+				Logging.error(AppConstant.DATA_READING_ERROR, e);
+				List<Map<String, Object>> errorDetails = new ArrayList<>();
+				Map<String, Object> errorMap = new HashMap<>();
+				errorMap.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.DATA_READING_ERROR);
+				errorDetails.add(errorMap);
+				return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+			}
+			return new ResponseEntity<>(response, HttpStatus.OK);
+		});
 	}
 
 	/**
@@ -79,19 +117,22 @@ public class CommonController {
 	 *         indicates success (OK) or failure (BAD_REQUEST).
 	 */
 	@GetMapping("/readAllData/{moduleName}")
-	public ResponseEntity<List<Map<String, Object>>> getAllData(@PathVariable String moduleName) {
-		List<Map<String, Object>> response = new ArrayList<>();
-		try {
-			response = commonService.getAllData(moduleName);
-		} catch (Exception e) {
-			Logging.error(AppConstant.DATA_READING_ERROR, e);
-			List<Map<String, Object>> errorDetails = new ArrayList<>();
-			Map<String, Object> errorMap = new HashMap<>();
-			errorMap.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.DATA_READING_ERROR);
-			errorDetails.add(errorMap);
-			return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
-		}
-		return new ResponseEntity<>(response, HttpStatus.OK);
+	public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getAllData(@PathVariable String moduleName) {
+		return async(exportExecutor, () -> {
+			List<Map<String, Object>> response = new ArrayList<>();
+			try {
+				response = commonService.getAllData(moduleName);
+			} catch (Exception e) {
+				ServiceOverloadedException.rethrowIfOverloaded(e);
+				Logging.error(AppConstant.DATA_READING_ERROR, e);
+				List<Map<String, Object>> errorDetails = new ArrayList<>();
+				Map<String, Object> errorMap = new HashMap<>();
+				errorMap.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.DATA_READING_ERROR);
+				errorDetails.add(errorMap);
+				return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+			}
+			return new ResponseEntity<>(response, HttpStatus.OK);
+		});
 	}
 
 	/**
@@ -106,28 +147,34 @@ public class CommonController {
 	 *            performed.
 	 * @param action
 	 *            The action to be performed (approve or reject).
+	 * @param idempotencyKey
+	 *            Optional key under which the outcome is kept for retries.
 	 * @return A ResponseEntity containing a map with the result of the approval or
 	 *         rejection or an error message if the operation fails. The HTTP status
 	 *         indicates success (OK) or failure (BAD_REQUEST).
 	 */
 	@PostMapping("{action}/{moduleName}")
-	public ResponseEntity<Map<String, Object>> approveOrRejectControl(@RequestBody Map<String, Object> input,
-			@PathVariable String moduleName, @PathVariable String action) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			if (AppConstant.APPROVE.equalsIgnoreCase(action) || AppConstant.REJECT.equalsIgnoreCase(action)
-					|| AppConstant.RECTIFY.equalsIgnoreCase(action)) {
-				response = commonService.doApproveOrReject(input, moduleName, action);
-			} else {
-				response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.ACTION_INCORRECT);
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> approveOrRejectControl(
+			@RequestBody Map<String, Object> input, @PathVariable String moduleName, @PathVariable String action,
+			@RequestHeader(value = AppConstant.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		String operation = action + AppConstant.SLASH + moduleName;
+		return idempotencyStore.execute(idempotencyKey, operation, input, () -> async(writeExecutor, () -> {
+			Map<String, Object> response = new HashMap<>();
+			try {
+				if (AppConstant.APPROVE.equalsIgnoreCase(action) || AppConstant.REJECT.equalsIgnoreCase(action)
+						|| AppConstant.RECTIFY.equalsIgnoreCase(action)) {
+					response = commonService.doApproveOrReject(input, moduleName, action);
+				} else {
+					response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.ACTION_INCORRECT);
+				}
+			} catch (Exception e) {
+				ServiceOverloadedException.rethrowIfOverloaded(e);
+				Logging.error(AppConstant.ACTION_CONTROL_ERROR, e);
+				response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.ACTION_CONTROL_ERROR);
+				return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 			}
-		} catch (Exception e) {
-			Logging.error(AppConstant.ACTION_CONTROL_ERROR, e);
-			response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.ACTION_CONTROL_ERROR);
-			return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-		}
-		return new ResponseEntity<>(response, HttpStatus.OK);
-
+			return new ResponseEntity<>(response, HttpStatus.OK);
+		}));
 	}
 
 	/**
@@ -141,29 +188,39 @@ public class CommonController {
 	 * @param request
 	 *            The type of CUD operation to be executed (create, update, or
 	 *            delete).
+	 * @param validationMode
+	 *            Optional validation mode, FAIL_FAST or COLLECT_ALL.
+	 * @param idempotencyKey
+	 *            Optional key under which the outcome is kept for retries.
 	 * @return A ResponseEntity containing a map with the result of the CUD
 	 *         operation or an error message if the operation fails. The HTTP status
 	 *         indicates success (OK) or failure (BAD_REQUEST).
 	 */
 	@PostMapping("process/{moduleName}")
-	public ResponseEntity<Map<String, Object>> doCUDprocess(@RequestBody Map<String, Object> requestBody,
-			@PathVariable String moduleName, @RequestParam String request) {
-		Map<String, Object> response = new HashMap<>();
-		try {
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> doCUDprocess(
+			@ModuleRequestBody Map<String, Object> requestBody, @PathVariable String moduleName,
+			@RequestParam String request, @RequestParam(required = false) String validationMode,
+			@RequestHeader(value = AppConstant.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		String operation = AppConstant.PROCESS + AppConstant.SLASH + moduleName + AppConstant.SLASH + request;
+		return idempotencyStore.execute(idempotencyKey, operation, requestBody, () -> async(writeExecutor, () -> {
+			Map<String, Object> response = new HashMap<>();
+			try {
 
-			if (AppConstant.ADD.equalsIgnoreCase(request) || AppConstant.UPDATE.equalsIgnoreCase(request)
-					|| AppConstant.DELETE.equalsIgnoreCase(request)) {
-				response = commonService.doCUDprocess(requestBody, moduleName, request);
-			} else {
-				response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.REQUEST_INCORRECT);
-			}
+				if (AppConstant.ADD.equalsIgnoreCase(request) || AppConstant.UPDATE.equalsIgnoreCase(request)
+						|| AppConstant.DELETE.equalsIgnoreCase(request)) {
+					response = commonService.doCUDprocess(requestBody, moduleName, request, validationMode);
+				} else {
+					response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.REQUEST_INCORRECT);
+				}
 
-		} catch (Exception e) {
-			Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
-			response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.CUD_PROCESS_ERROR + request);
-			return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-		}
-		return new ResponseEntity<>(response, HttpStatus.OK);
+			} catch (Exception e) {
+				ServiceOverloadedException.rethrowIfOverloaded(e);
+				Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
+				response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.CUD_PROCESS_ERROR + request);
+				return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+			}
+			return new ResponseEntity<>(response, HttpStatus.OK);
+		}));
 	}
 
 	/**
@@ -174,22 +231,79 @@ public class CommonController {
 	 *            The request body containing data for rectification.
 	 * @param moduleName
 	 *            The name of the module to be rectified.
+	 * @param validationMode
+	 *            Optional validation mode, FAIL_FAST or COLLECT_ALL.
+	 * @param idempotencyKey
+	 *            Optional key under which the outcome is kept for retries.
 	 * @return A ResponseEntity containing the rectification response and status.
 	 */
 	@PostMapping("rectifyAction/{moduleName}")
-	public ResponseEntity<Map<String, Object>> doRectify(@RequestBody Map<String, Object> requestBody,
-			@PathVariable String moduleName) {
-		Map<String, Object> response = new HashMap<>();
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> doRectify(
+			@ModuleRequestBody Map<String, Object> requestBody, @PathVariable String moduleName,
+			@RequestParam(required = false) String validationMode,
+			@RequestHeader(value = AppConstant.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		String operation = AppConstant.RECTIFY_ACTION + AppConstant.SLASH + moduleName;
+		return idempotencyStore.execute(idempotencyKey, operation, requestBody, () -> async(writeExecutor, () -> {
+			Map<String, Object> response = new HashMap<>();
 
+			try {
+				response = commonService.doRectify(requestBody, moduleName, validationMode);
+			} catch (Exception e) {
+				ServiceOverloadedException.rethrowIfOverloaded(e);
+				Logging.error(AppConstant.DATA_RECTIFICATION_ERROR, e);
+				response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.DATA_RECTIFICATION_ERROR);
+				return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+			}
+			return new ResponseEntity<>(response, HttpStatus.OK);
+		}));
+	}
+
+	/**
+	 * Runs the work of a request on an executor.
+	 *
+	 * @throws ServiceOverloadedException
+	 *             If the executor has no room for the work.
+	 */
+	private static <T> CompletableFuture<T> async(Executor executor, Supplier<T> work) {
 		try {
-			response = commonService.doRectify(requestBody, moduleName);
-		} catch (Exception e) {
-			Logging.error(AppConstant.DATA_RECTIFICATION_ERROR, e);
-			response.put(AppConstant.COMMON_MODULE_ERROR, AppConstant.DATA_RECTIFICATION_ERROR);
-			return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+			return CompletableFuture.supplyAsync(work, executor);
+		} catch (RejectedExecutionException e) {
+			throw new ServiceOverloadedException(AppConstant.SERVER_BUSY);
 		}
-		return new ResponseEntity<>(response, HttpStatus.OK);
+	}
 
+	/**
+	 * Answers a request whose body was rejected while it was being read.
+	 *
+	 * @param e
+	 *            The rejection.
+	 * @return A ResponseEntity with the reason and status BAD_REQUEST.
+	 */
+	@ExceptionHandler(RequestRejectedException.class)
+	public ResponseEntity<Map<String, Object>> handleRejectedRequest(RequestRejectedException e) {
+		Logging.info(e.getMessage());
+		Map<String, Object> response = new HashMap<>();
+		response.put(AppConstant.COMMON_MODULE_ERROR, e.getMessage());
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * Answers a request whose database work was shed because the database is
+	 * overloaded.
+	 *
+	 * @param e
+	 *            The overload.
+	 * @return A ResponseEntity with the reason, a Retry-After header and status
+	 *         SERVICE_UNAVAILABLE.
+	 */
+	@ExceptionHandler(ServiceOverloadedException.class)
+	public ResponseEntity<Map<String, Object>> handleOverload(ServiceOverloadedException e) {
+		Logging.info(e.getMessage());
+		Map<String, Object> response = new HashMap<>();
+		response.put(AppConstant.COMMON_MODULE_ERROR, e.getMessage());
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		return new ResponseEntity<>(response, headers, HttpStatus.SERVICE_UNAVAILABLE);
 	}
 
 }
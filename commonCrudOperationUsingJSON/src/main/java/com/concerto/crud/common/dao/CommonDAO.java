@@ -35,9 +35,12 @@ public interface CommonDAO {
 
 	boolean performUpdate(Map<String, Object> data, Module module, String tableSuffix);
 
-	boolean doCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData, Module module,
+	String doCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData, Module module,
 			String request);
 
+	String doConstrainedCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData,
+			Module module, String request);
+
 	boolean deleteDataForBean(Map<String, Object> input, Bean bean, String tableSuffix, Connection connection);
 
 	boolean addToHistBean(Map<String, Object> input, Bean bean, String request, String action, Connection connection);
@@ -1,13 +1,23 @@
 package com.concerto.crud.common.dao;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -19,17 +29,25 @@ import javax.sql.DataSource;
 
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import com.concerto.crud.common.bean.Bean;
+import com.concerto.crud.common.bean.Entity;
 import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.FieldIndex;
 import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.cache.MasterKeyIndex;
 import com.concerto.crud.common.constant.AppConstant;
 import com.concerto.crud.common.exception.DataSourceException;
 import com.concerto.crud.common.init.AppInitializer;
+import com.concerto.crud.common.transaction.UnitOfWork;
 import com.concerto.crud.common.util.JsonToJavaConverter;
 import com.concerto.crud.common.util.Logging;
+import com.concerto.crud.common.util.ModuleRegistry;
+import com.concerto.crud.common.util.RowDiff;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -53,15 +71,21 @@ public class CommonDAOImpl implements CommonDAO {
 
 	private DataSource dataSource;
 
+	private MasterKeyIndex masterKeyIndex;
+
+	@Value("${crud.jdbc.batch-size:500}")
+	private int batchSize;
+
 	private static Properties configProperties = AppInitializer.getProps();
 
 	@Autowired
-	public CommonDAOImpl(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+	public CommonDAOImpl(DataSource dataSource, JdbcTemplate jdbcTemplate, MasterKeyIndex masterKeyIndex) {
 		if (dataSource == null) {
 			throw new DataSourceException(AppConstant.DATASOURCE_NULL);
 		}
 		this.dataSource = dataSource;
 		this.jdbcTemplate = jdbcTemplate;
+		this.masterKeyIndex = masterKeyIndex;
 	}
 
 	/**
@@ -80,24 +104,15 @@ public class CommonDAOImpl implements CommonDAO {
 	public List<Map<String, Object>> executeGetData(String fieldName, Object value, Module module) {
 		Map<String, Object> result = new HashMap<>();
 		String tableName = module.getEntityName();
-		List<Field> fields = module.getFields();
 		List<Bean> beans = module.getBeans();
 		String tableNameWithSuffix = tableName + AppConstant.MASTER_TABLE_SUFFIX;
 		StringBuilder whereClause = new StringBuilder();
 		List<Object> parameterValues = new ArrayList<>();
 
-		for (Field field : fields) {
-			if (field.getName().equalsIgnoreCase(fieldName)) {
-				Object primaryKeyValue = value;
-
-				if (primaryKeyValue != null && whereClause.length() > 0) {
-					whereClause.append(AppConstant.AND);
-				}
-
-				whereClause.append(fieldName).append(AppConstant.EQUAL_QUERY_PARAM);
-				parameterValues.add(primaryKeyValue);
-
-			}
+		int ordinal = module.getFieldIndex().resolve(fieldName);
+		if (ordinal >= 0) {
+			whereClause.append(module.getFieldIndex().name(ordinal)).append(AppConstant.EQUAL_QUERY_PARAM);
+			parameterValues.add(value);
 		}
 		Object[] parametersArray = parameterValues.toArray();
 		String selectQuery = String.format(AppConstant.SELECT_QUERY1, tableNameWithSuffix, whereClause);
@@ -318,12 +333,15 @@ public class CommonDAOImpl implements CommonDAO {
 				+ String.join(AppConstant.COMMA, Collections.nCopies(columnNames.length, AppConstant.QUERY_PARAM))
 				+ AppConstant.CLOSE_BRACKET;
 
-		try (Connection connection = dataSource.getConnection();
+		try (Connection connection = getConnection();
 				PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
 			connection.setAutoCommit(false);
 
 			setParameters(preparedStatement, dataMap, columnNames);
 			int rowsAffected = preparedStatement.executeUpdate();
+			if (rowsAffected > 0) {
+				masterKeyIndex.add(module, dataMap);
+			}
 
 			if (rowsAffected > 0 && beans != null) {
 				response = processAddToMasterForBeans(input, connection, beans);
@@ -348,48 +366,62 @@ public class CommonDAOImpl implements CommonDAO {
 	}
 
 	/**
-	 * Processes the addition of data to the child master table for a specified bean
-	 * and connection.
+	 * Processes the addition of data to the child master table for the specified
+	 * beans. All child rows are sent through one batch per bean, and the addition
+	 * only succeeds if every row is inserted.
 	 *
 	 * @param input
 	 *            The input data to be added to the child master table.
-	 * @param bean
-	 *            The bean for which data is added.
 	 * @param connection
 	 *            The database connection.
+	 * @param beans
+	 *            The beans for which data is added.
 	 * @return A boolean indicating whether the data addition was successful.
 	 */
 	@SuppressWarnings("unchecked")
 	private boolean processAddToMasterForBeans(Map<String, Object> input, Connection connection, List<Bean> beans) {
-		boolean response = false;
-		for (Bean bean : beans) {
-			List<Map<String, Object>> subBeanDataMap = (List<Map<String, Object>>) input.get(AppConstant.BEAN_DATA);
-			if (subBeanDataMap != null) {
+		List<Map<String, Object>> subBeanDataMap = (List<Map<String, Object>>) input.get(AppConstant.BEAN_DATA);
+		if (subBeanDataMap == null || subBeanDataMap.isEmpty()) {
+			return false;
+		}
+		try (ChildBatch batch = new ChildBatch(connection)) {
+			for (Bean bean : beans) {
 				for (int i = 0; i < subBeanDataMap.size(); i++) {
-					Map<String, Object> beanMap = subBeanDataMap.get(i);
-					boolean result = addToChildMaster(beanMap, bean, connection);
-					if (result) {
-						response = true;
-					}
+					addToChildMaster(subBeanDataMap.get(i), bean, batch, i);
 				}
 			}
+			if (!batch.flush()) {
+				return false;
+			}
+		} catch (Exception e) {
+			Logging.error(AppConstant.ADD_MASTER_PROCESS_ERROR, e);
+			return false;
 		}
-		return response;
+		for (Bean bean : beans) {
+			for (Map<String, Object> beanMap : subBeanDataMap) {
+				masterKeyIndex.add(bean, beanMap);
+			}
+		}
+		return true;
 	}
 
 	/**
-	 * Adds data to the child master table in the database for a specified bean.
+	 * Adds a row to the child master table batch for a specified bean.
 	 *
 	 * @param input
 	 *            The input data to be added to the child master table.
 	 * @param bean
 	 *            The bean for which data is added.
-	 * @param connection
-	 *            The database connection.
-	 * @return A boolean indicating whether the data addition was successful.
+	 * @param batch
+	 *            The batch collecting the child rows.
+	 * @param rowIndex
+	 *            The position of the row in the request, used when reporting
+	 *            failures.
+	 * @throws SQLException
+	 *             If the statement cannot be prepared or executed.
 	 */
-	private boolean addToChildMaster(Map<String, Object> input, Bean bean, Connection connection) {
-		boolean response = false;
+	private void addToChildMaster(Map<String, Object> input, Bean bean, ChildBatch batch, int rowIndex)
+			throws SQLException {
 		String tableName = bean.getEntityName();
 		List<Field> fields = bean.getFields();
 		String request = input.get(AppConstant.REQUEST).toString();
@@ -407,19 +439,7 @@ public class CommonDAOImpl implements CommonDAO {
 				+ String.join(AppConstant.COMMA, Collections.nCopies(columnNames.length, AppConstant.QUERY_PARAM))
 				+ AppConstant.CLOSE_BRACKET;
 
-		try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
-			setParameters(preparedStatement, input, columnNames);
-
-			int rowsAffected = preparedStatement.executeUpdate();
-			if (rowsAffected > 0) {
-				response = true;
-			}
-
-		} catch (Exception e) {
-			Logging.error(AppConstant.ADD_MASTER_PROCESS_ERROR, e);
-			return response;
-		}
-		return response;
+		batch.add(insertQuery, columnValues(input, columnNames), rowIndex, true);
 	}
 
 	/**
@@ -441,7 +461,6 @@ public class CommonDAOImpl implements CommonDAO {
 	public boolean deleteData(Map<String, Object> input, Module module, String action, String tableSuffix) {
 		boolean response = false;
 		String tableName = module.getEntityName();
-		List<Field> fields = module.getFields();
 		StringBuilder whereClause = new StringBuilder();
 		List<Object> parameterValues = new ArrayList<>();
 		List<Bean> beans = module.getBeans();
@@ -457,19 +476,16 @@ public class CommonDAOImpl implements CommonDAO {
 
 		}
 
-		for (Field field : fields) {
-			if (field.isPrimaryKey()) {
-				String fieldName = field.getName();
-				Object value = dataMap.entrySet().stream()
-						.filter(entry -> entry.getKey().equalsIgnoreCase(fieldName.toLowerCase()))
-						.map(Map.Entry::getValue).findFirst().orElse(null);
+		FieldIndex index = module.getFieldIndex();
+		for (int k = 0; k < index.keyCount(); k++) {
+			String fieldName = index.name(index.keyOrdinal(k));
+			Object value = dataMap.get(fieldName);
 
-				if (value != null && whereClause.length() > 0) {
-					whereClause.append(AppConstant.AND);
-				}
-				whereClause.append(fieldName).append(AppConstant.EQUAL_QUERY_PARAM);
-				parameterValues.add(value);
+			if (value != null && whereClause.length() > 0) {
+				whereClause.append(AppConstant.AND);
 			}
+			whereClause.append(fieldName).append(AppConstant.EQUAL_QUERY_PARAM);
+			parameterValues.add(value);
 		}
 		if (whereClause.length() == 0) {
 			return response;
@@ -478,7 +494,7 @@ public class CommonDAOImpl implements CommonDAO {
 		String tableNameWithSuffix = tableName + tableSuffix;
 		String deleteQuery = String.format(AppConstant.DELETE_QUERY, tableNameWithSuffix, whereClause);
 
-		try (Connection connection = dataSource.getConnection();
+		try (Connection connection = getConnection();
 				PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery)) {
 			connection.setAutoCommit(false);
 			for (int i = 0; i < parameterValues.size(); i++) {
@@ -488,6 +504,9 @@ public class CommonDAOImpl implements CommonDAO {
 
 			if (rowsDeleted > 0) {
 				response = handleDeleteResponse(beans, input, module, action, tableSuffix, connection, dataMap);
+				if (response && AppConstant.MASTER_TABLE_SUFFIX.equals(tableSuffix)) {
+					UnitOfWork.runAfterCommit(() -> masterKeyIndex.remove(module, dataMap));
+				}
 			} else {
 				connection.rollback();
 			}
@@ -576,18 +595,16 @@ public class CommonDAOImpl implements CommonDAO {
 	private boolean handleDeleteForBean(Bean bean, Map<String, Object> input, String tableSuffix,
 			Connection connection) {
 		List<Map<String, Object>> subBeanDataMap = (List<Map<String, Object>>) input.get(AppConstant.BEAN_DATA);
-		boolean result = false;
-
-		if (subBeanDataMap != null) {
-			for (Map<String, Object> beanMap : subBeanDataMap) {
-				beanMap.put(AppConstant.REJECT_REMARK, input.get(AppConstant.REJECT_REMARK));
-				beanMap.put(AppConstant.APPROVE_BY, AppConstant.USERNAME);
-				beanMap.put(AppConstant.APPROVE_DATE_TIME, new Date());
-				result = deleteDataForBean(beanMap, bean, tableSuffix, connection);
-			}
+		if (subBeanDataMap == null || subBeanDataMap.isEmpty()) {
+			return false;
 		}
 
-		return result;
+		for (Map<String, Object> beanMap : subBeanDataMap) {
+			beanMap.put(AppConstant.REJECT_REMARK, input.get(AppConstant.REJECT_REMARK));
+			beanMap.put(AppConstant.APPROVE_BY, AppConstant.USERNAME);
+			beanMap.put(AppConstant.APPROVE_DATE_TIME, new Date());
+		}
+		return deleteDataForBeans(subBeanDataMap, bean, tableSuffix, connection);
 	}
 
 	/**
@@ -606,53 +623,84 @@ public class CommonDAOImpl implements CommonDAO {
 	 */
 	@Override
 	public boolean deleteDataForBean(Map<String, Object> input, Bean bean, String tableSuffix, Connection connection) {
-		boolean response = false;
-		String tableName = bean.getEntityName();
-		List<Field> fields = bean.getFields();
+		return deleteDataForBeans(Collections.singletonList(input), bean, tableSuffix, connection);
+	}
+
+	/**
+	 * Deletes the given child rows of a bean in batches. The deletion only
+	 * succeeds if every row is deleted.
+	 *
+	 * @param rows
+	 *            The child rows to delete.
+	 * @param bean
+	 *            The bean for which data is deleted.
+	 * @param tableSuffix
+	 *            The suffix for the table from which data is deleted.
+	 * @param connection
+	 *            The database connection.
+	 * @return A boolean indicating whether all rows were deleted.
+	 */
+	private boolean deleteDataForBeans(List<Map<String, Object>> rows, Bean bean, String tableSuffix,
+			Connection connection) {
+		String tableNameWithSuffix = bean.getEntityName() + tableSuffix;
+		try (ChildBatch batch = new ChildBatch(connection)) {
+			for (int i = 0; i < rows.size(); i++) {
+				List<Object> parameterValues = new ArrayList<>();
+				String deleteQuery = buildDeleteForBean(rows.get(i), bean, tableSuffix, parameterValues);
+				if (deleteQuery == null) {
+					return false;
+				}
+				batch.add(deleteQuery, parameterValues, i, false);
+			}
+			if (!batch.flush()) {
+				return false;
+			}
+		} catch (Exception e) {
+			Logging.error(AppConstant.DELETE_PROCESS_ERROR + tableNameWithSuffix, e);
+			return false;
+		}
+
+		if (AppConstant.MASTER_TABLE_SUFFIX.equals(tableSuffix)) {
+			UnitOfWork.runAfterCommit(() -> rows.forEach(row -> masterKeyIndex.remove(bean, row)));
+		}
+		return true;
+	}
+
+	/**
+	 * Builds the DELETE statement for one child row of a bean.
+	 *
+	 * @param input
+	 *            The child row to delete.
+	 * @param bean
+	 *            The bean for which data is deleted.
+	 * @param tableSuffix
+	 *            The suffix for the table from which data is deleted.
+	 * @param parameterValues
+	 *            Receives the primary key values in statement order.
+	 * @return The DELETE statement, or null if the bean has no primary key.
+	 */
+	private String buildDeleteForBean(Map<String, Object> input, Bean bean, String tableSuffix,
+			List<Object> parameterValues) {
 		StringBuilder whereClause = new StringBuilder();
-		List<Object> parameterValues = new ArrayList<>();
 		if (AppConstant.MASTER_TABLE_SUFFIX.equals(tableSuffix)) {
 			input.put(AppConstant.APPROVE_BY, AppConstant.USERNAME);
 			input.put(AppConstant.APPROVE_DATE_TIME, new Date());
 		}
-		for (Field field : fields) {
-			if (field.isPrimaryKey()) {
-				String fieldName = field.getName();
-				Object value = input.entrySet().stream()
-						.filter(entry -> entry.getKey().equalsIgnoreCase(fieldName.toLowerCase()))
-						.map(Map.Entry::getValue).findFirst().orElse(null);
+		FieldIndex index = bean.getFieldIndex();
+		for (int k = 0; k < index.keyCount(); k++) {
+			String fieldName = index.name(index.keyOrdinal(k));
+			Object value = input.get(fieldName);
 
-				if (value != null && whereClause.length() > 0) {
-					whereClause.append(AppConstant.AND);
-				}
-				whereClause.append(fieldName).append(AppConstant.EQUAL_QUERY_PARAM);
-				parameterValues.add(value);
+			if (value != null && whereClause.length() > 0) {
+				whereClause.append(AppConstant.AND);
 			}
+			whereClause.append(fieldName).append(AppConstant.EQUAL_QUERY_PARAM);
+			parameterValues.add(value);
 		}
 		if (whereClause.length() == 0) {
-			return response;
-		}
-
-		String tableNameWithSuffix = tableName + tableSuffix;
-		String deleteQuery = String.format(AppConstant.DELETE_QUERY, tableNameWithSuffix, whereClause);
-
-		try (PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery)) {
-
-			for (int i = 0; i < parameterValues.size(); i++) {
-				preparedStatement.setObject(i + 1, parameterValues.get(i));
-			}
-			int rowsDeleted = preparedStatement.executeUpdate();
-
-			if (rowsDeleted > 0) {
-				response = true;
-			}
-
-		} catch (Exception e) {
-			Logging.error(AppConstant.DELETE_PROCESS_ERROR + tableNameWithSuffix, e);
-			return response;
+			return null;
 		}
-
-		return response;
+		return String.format(AppConstant.DELETE_QUERY, bean.getEntityName() + tableSuffix, whereClause);
 	}
 
 	/**
@@ -669,62 +717,19 @@ public class CommonDAOImpl implements CommonDAO {
 	@Override
 	public boolean performUpdate(Map<String, Object> data, Module module, String tableSuffix) {
 		boolean response = false;
-		boolean primaryKeyAppended = false;
-		List<Field> fields = module.getFields();
-		List<Object> primaryKeyValues = new ArrayList<>();
-		StringBuilder setClause = new StringBuilder();
-		List<Object> setValues = new ArrayList<>();
-		StringBuilder whereClause = new StringBuilder();
-		String tableName = module.getEntityName();
 		List<Bean> beans = module.getBeans();
 		Map<String, Object> dataMap = (Map<String, Object>) data.get(AppConstant.PARENT_DATA);
-		dataMap.put(AppConstant.APPROVE_BY,AppConstant.USERNAME);
-		dataMap.put(AppConstant.APPROVE_DATE_TIME, new Date());
-
-		for (Field field : fields) {
-			if (field.isPrimaryKey()) {
-				whereClause.append(field.getName()).append(AppConstant.AND_CONDITION);
-				primaryKeyValues.add(dataMap.get(field.getName()));
-				primaryKeyAppended = true;
-			} else {
-				setClause.append(field.getName()).append(AppConstant.APPEND_PARAM);
-				setValues.add(dataMap.get(field.getName()));
-			}
-		}
-		setClause.append(AppConstant.UPDATED_BY).append(AppConstant.APPEND_PARAM);
-		setValues.add(dataMap.get(AppConstant.UPDATED_BY));
-
-		setClause.append(AppConstant.UPDATED_DATE_TIME).append(AppConstant.APPEND_PARAM);
-		setValues.add(dataMap.get(AppConstant.UPDATED_DATE_TIME));
-
-		setClause.append(AppConstant.APPROVE_BY).append(AppConstant.APPEND_PARAM);
-		setValues.add(dataMap.get(AppConstant.APPROVE_BY));
-
-		setClause.append(AppConstant.APPROVE_DATE_TIME).append(AppConstant.APPEND_PARAM);
-		setValues.add(dataMap.get(AppConstant.APPROVE_DATE_TIME));
-
-		if (AppConstant.TEMP_TABLE_SUFFIX.equalsIgnoreCase(tableSuffix)) {
-			setClause.append(AppConstant.STATUS).append(AppConstant.APPEND_PARAM);
-			setValues.add(AppConstant.RECTIFY);
-
-			setClause.append(AppConstant.RECTIFY_REMARK).append(AppConstant.APPEND_PARAM);
-			setValues.add(data.get(AppConstant.RECTIFY_REMARK));
-		}
-		setClause.setLength(setClause.length() - 1);
-
-		if (primaryKeyAppended) {
-			whereClause.setLength(whereClause.length() - AppConstant.AND.length());
-		}
+		List<Object> allValues = new ArrayList<>();
+		Map<String, Object> masterRow = AppConstant.MASTER_TABLE_SUFFIX.equals(tableSuffix)
+				? masterRow(module, dataMap)
+				: null;
+		String updateQuery = buildUpdate(module, dataMap, tableSuffix, data.get(AppConstant.RECTIFY_REMARK),
+				masterRow, allValues);
 		int count = 0;
 
-		String updateQuery = String.format(AppConstant.UPDATE_QUERY, tableName, tableSuffix, setClause, whereClause);
-
-		try (Connection connection = dataSource.getConnection();
+		try (Connection connection = getConnection();
 				PreparedStatement preparedStatement = connection.prepareStatement(updateQuery)) {
 			connection.setAutoCommit(false);
-			List<Object> allValues = new ArrayList<>();
-			allValues.addAll(setValues);
-			allValues.addAll(primaryKeyValues);
 
 			for (Object value : allValues) {
 				preparedStatement.setObject(count + 1, value);
@@ -800,10 +805,10 @@ public class CommonDAOImpl implements CommonDAO {
 			try {
 				if (subBeanDataMap != null) {
 					for (Map<String, Object> beanMap : subBeanDataMap) {
-
 						beanMap.put(AppConstant.RECTIFY_REMARK, rectifyRemark);
-						response = performUpdateForBean(beanMap, bean, connection, tableSuffix);
 					}
+					response = !subBeanDataMap.isEmpty()
+							&& performUpdateForBeans(subBeanDataMap, bean, connection, tableSuffix);
 					if (response) {
 						connection.commit();
 					} else {
@@ -833,74 +838,223 @@ public class CommonDAOImpl implements CommonDAO {
 	 */
 	public boolean performUpdateForBean(Map<String, Object> data, Bean bean, Connection connection,
 			String tableSuffix) {
+		return performUpdateForBeans(Collections.singletonList(data), bean, connection, tableSuffix);
+	}
 
-		boolean response = false;
-		boolean primaryKeyAppended = false;
-		List<Field> fields = bean.getFields();
-		List<Object> primaryKeyValues = new ArrayList<>();
-		StringBuilder setClause = new StringBuilder();
+	/**
+	 * Updates the given child rows of a bean in batches. The update only succeeds
+	 * if every row is updated. When the master table is updated, the current
+	 * master rows of all child rows are read up front with one keyed query per
+	 * chunk, rather than one query per row.
+	 *
+	 * @param rows
+	 *            The child rows to update.
+	 * @param bean
+	 *            The bean for which the update operation is performed.
+	 * @param connection
+	 *            The database connection.
+	 * @param tableSuffix
+	 *            The suffix for the table to update.
+	 * @return A boolean indicating whether all rows were updated.
+	 */
+	private boolean performUpdateForBeans(List<Map<String, Object>> rows, Bean bean, Connection connection,
+			String tableSuffix) {
+		try (ChildBatch batch = new ChildBatch(connection)) {
+			List<Map<String, Object>> masterRows = AppConstant.MASTER_TABLE_SUFFIX.equals(tableSuffix)
+					? readMasterRows(connection, bean, rows)
+					: null;
+			for (int i = 0; i < rows.size(); i++) {
+				List<Object> allValues = new ArrayList<>();
+				String updateQuery = buildUpdateForBean(rows.get(i), bean, tableSuffix,
+						masterRows == null ? null : masterRows.get(i), allValues);
+				batch.add(updateQuery, allValues, i, false);
+			}
+			return batch.flush();
+		} catch (Exception e) {
+			Logging.error(AppConstant.UPDATE_PROCESS_ERROR, e);
+			return false;
+		}
+	}
+
+	/**
+	 * Builds the UPDATE statement for one child row of a bean.
+	 *
+	 * @param data
+	 *            The child row to update.
+	 * @param bean
+	 *            The bean for which the update operation is performed.
+	 * @param tableSuffix
+	 *            The suffix for the table to update.
+	 * @param masterRow
+	 *            The current master row, or null to write every column.
+	 * @param allValues
+	 *            Receives the SET values followed by the primary key values.
+	 * @return The UPDATE statement.
+	 */
+	private String buildUpdateForBean(Map<String, Object> data, Bean bean, String tableSuffix,
+			Map<String, Object> masterRow, List<Object> allValues) {
+		return buildUpdate(bean, data, tableSuffix, data.get(AppConstant.RECTIFY_REMARK), masterRow, allValues);
+	}
+
+	/**
+	 * Builds the UPDATE statement for one row of a module or bean. When the
+	 * current master row is given, only the columns whose value differs from it
+	 * are written, together with the audit columns. The statement text is cached
+	 * per table and column set with the module snapshot.
+	 *
+	 * @param entity
+	 *            The module or bean for which the update operation is performed.
+	 * @param data
+	 *            The row to update.
+	 * @param tableSuffix
+	 *            The suffix for the table to update.
+	 * @param rectifyRemark
+	 *            The rectify remark written when the temp table is updated.
+	 * @param masterRow
+	 *            The current master row, or null to write every column.
+	 * @param allValues
+	 *            Receives the SET values followed by the primary key values.
+	 * @return The UPDATE statement.
+	 */
+	private String buildUpdate(Entity entity, Map<String, Object> data, String tableSuffix, Object rectifyRemark,
+			Map<String, Object> masterRow, List<Object> allValues) {
+		List<String> setColumns = new ArrayList<>();
 		List<Object> setValues = new ArrayList<>();
-		StringBuilder whereClause = new StringBuilder();
-		String tableName = bean.getEntityName();
-		data.put(AppConstant.APPROVE_BY,AppConstant.USERNAME);
+		List<String> keyColumns = new ArrayList<>();
+		List<Object> primaryKeyValues = new ArrayList<>();
+		data.put(AppConstant.APPROVE_BY, AppConstant.USERNAME);
 		data.put(AppConstant.APPROVE_DATE_TIME, new Date());
-		for (Field field : fields) {
+
+		Set<String> changedColumns = masterRow == null ? null
+				: new HashSet<>(RowDiff.changedFields(entity, data, masterRow));
+		for (Field field : entity.getFields()) {
+			String fieldName = field.getName();
 			if (field.isPrimaryKey()) {
-				whereClause.append(field.getName()).append(AppConstant.AND_CONDITION);
-				primaryKeyValues.add(data.get(field.getName()));
-				primaryKeyAppended = true;
-			} else {
-				setClause.append(field.getName()).append(AppConstant.APPEND_PARAM);
-				setValues.add(data.get(field.getName()));
+				keyColumns.add(fieldName);
+				primaryKeyValues.add(data.get(fieldName));
+			} else if (changedColumns == null || changedColumns.contains(fieldName)) {
+				setColumns.add(fieldName);
+				setValues.add(data.get(fieldName));
 			}
 		}
-		setClause.append(AppConstant.UPDATED_BY).append(AppConstant.APPEND_PARAM);
-		setValues.add(data.get(AppConstant.UPDATED_BY));
-		setClause.append(AppConstant.UPDATED_DATE_TIME).append(AppConstant.APPEND_PARAM);
-		setValues.add(data.get(AppConstant.UPDATED_DATE_TIME));
-		setClause.append(AppConstant.APPROVE_BY).append(AppConstant.APPEND_PARAM);
-		setValues.add(data.get(AppConstant.APPROVE_BY));
-		setClause.append(AppConstant.APPROVE_DATE_TIME).append(AppConstant.APPEND_PARAM);
-		setValues.add(data.get(AppConstant.APPROVE_DATE_TIME));
-
+		for (String auditColumn : new String[] { AppConstant.UPDATED_BY, AppConstant.UPDATED_DATE_TIME,
+				AppConstant.APPROVE_BY, AppConstant.APPROVE_DATE_TIME }) {
+			setColumns.add(auditColumn);
+			setValues.add(data.get(auditColumn));
+		}
 		if (AppConstant.TEMP_TABLE_SUFFIX.equalsIgnoreCase(tableSuffix)) {
-			setClause.append(AppConstant.STATUS).append(AppConstant.APPEND_PARAM);
+			setColumns.add(AppConstant.STATUS);
 			setValues.add(AppConstant.RECTIFY);
 
-			setClause.append(AppConstant.RECTIFY_REMARK).append(AppConstant.APPEND_PARAM);
-			setValues.add(data.get(AppConstant.RECTIFY_REMARK));
-
-		}
-		setClause.setLength(setClause.length() - 1);
-
-		if (primaryKeyAppended) {
-			whereClause.setLength(whereClause.length() - AppConstant.AND.length());
+			setColumns.add(AppConstant.RECTIFY_REMARK);
+			setValues.add(rectifyRemark);
 		}
-		int count = 0;
-		String updateQuery = String.format(AppConstant.UPDATE_QUERY, tableName, tableSuffix, setClause, whereClause);
-
-		try (PreparedStatement preparedStatement = connection.prepareStatement(updateQuery)) {
-			List<Object> allValues = new ArrayList<>();
-			allValues.addAll(setValues);
-			allValues.addAll(primaryKeyValues);
-
-			for (Object value : allValues) {
-				preparedStatement.setObject(count + 1, value);
-				count++;
+		allValues.addAll(setValues);
+		allValues.addAll(primaryKeyValues);
+
+		String tableName = entity.getEntityName();
+		String cacheKey = tableName + tableSuffix + setColumns + keyColumns;
+		ModuleRegistry registry = JsonToJavaConverter.getRegistry();
+		String updateQuery = registry.getStatement(cacheKey);
+		if (updateQuery == null) {
+			StringBuilder setClause = new StringBuilder();
+			for (String column : setColumns) {
+				setClause.append(column).append(AppConstant.APPEND_PARAM);
 			}
+			setClause.setLength(setClause.length() - 1);
 
-			int rowsUpdated = preparedStatement.executeUpdate();
-
-			if (rowsUpdated > 0) {
-				response = true;
+			StringBuilder whereClause = new StringBuilder();
+			for (String column : keyColumns) {
+				whereClause.append(column).append(AppConstant.AND_CONDITION);
+			}
+			if (!keyColumns.isEmpty()) {
+				whereClause.setLength(whereClause.length() - AppConstant.AND.length());
 			}
+			updateQuery = String.format(AppConstant.UPDATE_QUERY, tableName, tableSuffix, setClause, whereClause);
+			registry.putStatement(cacheKey, updateQuery);
+		}
+		return updateQuery;
+	}
 
-		} catch (Exception e) {
-			Logging.error(AppConstant.UPDATE_PROCESS_ERROR, e);
-			return response;
+	/**
+	 * Reads the current master row of a module row.
+	 *
+	 * @param entity
+	 *            The module the row belongs to.
+	 * @param data
+	 *            The row about to be written to the master table.
+	 * @return The master row, or null if it could not be read.
+	 */
+	private Map<String, Object> masterRow(Entity entity, Map<String, Object> data) {
+		List<Map<String, Object>> masterResult = getById(entity.getEntityName() + AppConstant.MASTER_TABLE_SUFFIX,
+				data, entity.isSubBean());
+		return masterResult.isEmpty() ? null : masterResult.get(0);
+	}
 
+	/**
+	 * Reads the current master rows of many rows of an entity. The keys of a
+	 * chunk of rows are passed as a table value constructor together with the
+	 * position of each row, and joined with the master table, so that each
+	 * master row comes back tagged with the row it belongs to. Keys are compared
+	 * by the database, the same way the UPDATE statements compare them.
+	 *
+	 * @param connection
+	 *            The connection of the current transaction.
+	 * @param entity
+	 *            The module or bean the rows belong to.
+	 * @param rows
+	 *            The rows about to be written to the master table.
+	 * @return The master row of each row in row order, null where a row has
+	 *         none; null if the entity has no primary key.
+	 * @throws SQLException
+	 *             If the master table cannot be read.
+	 */
+	private List<Map<String, Object>> readMasterRows(Connection connection, Entity entity,
+			List<Map<String, Object>> rows) throws SQLException {
+		FieldIndex index = entity.getFieldIndex();
+		int keyCount = index.keyCount();
+		if (keyCount == 0) {
+			return null;
 		}
-		return response;
+		List<String> keyColumns = new ArrayList<>();
+		List<String> joinConditions = new ArrayList<>();
+		for (int k = 0; k < keyCount; k++) {
+			String column = index.name(index.keyOrdinal(k));
+			keyColumns.add(column);
+			joinConditions.add(AppConstant.MASTER_ALIAS + column + AppConstant.EQUAL
+					+ AppConstant.KEYS_ALIAS + column);
+		}
+		String tableName = entity.getEntityName() + AppConstant.MASTER_TABLE_SUFFIX;
+		String joinClause = String.join(AppConstant.AND, joinConditions);
+		int chunkSize = Math.max(1,
+				Math.min(AppConstant.MAX_VALUES_ROWS, AppConstant.MAX_QUERY_PARAMETERS / (keyCount + 1)));
+		String rowParameters = String.format(AppConstant.VALUES_ROW,
+				String.join(AppConstant.COMMA, Collections.nCopies(keyCount + 1, AppConstant.QUERY_PARAM)));
+
+		List<Map<String, Object>> masterRows = new ArrayList<>(Collections.nCopies(rows.size(), null));
+		ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+		for (int start = 0; start < rows.size(); start += chunkSize) {
+			int end = Math.min(rows.size(), start + chunkSize);
+			String query = String.format(AppConstant.MASTER_ROWS_BY_KEYS_QUERY,
+					String.join(AppConstant.COMMA, Collections.nCopies(end - start, rowParameters)),
+					String.join(AppConstant.COMMA, keyColumns), tableName, joinClause);
+			try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+				int parameter = 1;
+				for (int i = start; i < end; i++) {
+					preparedStatement.setInt(parameter++, i);
+					for (String column : keyColumns) {
+						preparedStatement.setObject(parameter++, rows.get(i).get(column));
+					}
+				}
+				try (ResultSet resultSet = preparedStatement.executeQuery()) {
+					int rowNumber = 0;
+					while (resultSet.next()) {
+						masterRows.set(resultSet.getInt(1), rowMapper.mapRow(resultSet, rowNumber++));
+					}
+				}
+			}
+		}
+		return masterRows;
 	}
 
 	/**
@@ -998,13 +1152,11 @@ public class CommonDAOImpl implements CommonDAO {
 		if (beans != null) {
 			for (Bean bean : beans) {
 				List<Map<String, Object>> subBeanDataMap = (List<Map<String, Object>>) input.get(AppConstant.BEAN_DATA);
-				if (subBeanDataMap != null) {
-					for (Map<String, Object> beanMap : subBeanDataMap) {
-						boolean result = addToHistBean(beanMap, bean, request, action, connection);
-						if (result) {
-							response = true;
-						}
+				if (subBeanDataMap != null && !subBeanDataMap.isEmpty()) {
+					if (!addToHistBeans(subBeanDataMap, bean, request, action, connection)) {
+						return false;
 					}
+					response = true;
 				}
 			}
 		}
@@ -1032,47 +1184,56 @@ public class CommonDAOImpl implements CommonDAO {
 	@Override
 	public boolean addToHistBean(Map<String, Object> input, Bean bean, String request, String action,
 			Connection connection) {
-		boolean response = false;
-		String tableName = bean.getEntityName();
-
-		String tableNameWithSuffix = tableName + AppConstant.HIST_TABLE_SUFFIX;
-
-		input.entrySet().removeIf(entry -> Objects.isNull(entry.getValue()));
+		return addToHistBeans(Collections.singletonList(input), bean, request, action, connection);
+	}
 
-		StringBuilder setClauseBuilder = new StringBuilder();
-		Set<String> keys = input.keySet();
-		for (String key : keys) {
-			setClauseBuilder.append(key).append(AppConstant.COMMA_SPLIT);
-		}
-
-		if (setClauseBuilder.length() > 0) {
-			setClauseBuilder.deleteCharAt(setClauseBuilder.length() - 1); // Remove the last comma
-		}
+	/**
+	 * Adds the given child rows of a bean to its historical table in batches.
+	 * Rows with the same set of non-null columns share one prepared statement.
+	 *
+	 * @param rows
+	 *            The child rows to be added to the historical table.
+	 * @param bean
+	 *            The bean for which data is added to the historical table.
+	 * @param request
+	 *            The request associated with the historical data addition.
+	 * @param action
+	 *            The action associated with the historical data addition.
+	 * @param connection
+	 *            The database connection.
+	 * @return A boolean indicating whether all rows were added.
+	 */
+	private boolean addToHistBeans(List<Map<String, Object>> rows, Bean bean, String request, String action,
+			Connection connection) {
+		String tableNameWithSuffix = bean.getEntityName() + AppConstant.HIST_TABLE_SUFFIX;
+		try (ChildBatch batch = new ChildBatch(connection)) {
+			for (int i = 0; i < rows.size(); i++) {
+				Map<String, Object> input = rows.get(i);
+				input.entrySet().removeIf(entry -> Objects.isNull(entry.getValue()));
+
+				StringBuilder setClauseBuilder = new StringBuilder();
+				Set<String> keys = input.keySet();
+				for (String key : keys) {
+					setClauseBuilder.append(key).append(AppConstant.COMMA_SPLIT);
+				}
 
-		String setClause = setClauseBuilder.toString();
-		String[] columnNames = setClause.split(AppConstant.COMMA_SPLIT);
+				if (setClauseBuilder.length() > 0) {
+					setClauseBuilder.deleteCharAt(setClauseBuilder.length() - 1); // Remove the last comma
+				}
 
-		String insertQuery = AppConstant.INSERT + tableNameWithSuffix + AppConstant.OPEN_BRACKET + setClause
-				+ AppConstant.VALUES
-				+ String.join(AppConstant.COMMA, Collections.nCopies(columnNames.length, AppConstant.QUERY_PARAM))
-				+ AppConstant.CLOSE_BRACKET;
-		try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
-			input.put(AppConstant.STATUS, action);
-			input.put(AppConstant.REQUEST, request);
-			setParameters(preparedStatement, input, columnNames);
+				String setClause = setClauseBuilder.toString();
+				String[] columnNames = setClause.split(AppConstant.COMMA_SPLIT);
 
-			int rowsAffected = preparedStatement.executeUpdate();
-			if (rowsAffected > 0) {
-				response = true;
+				String insertQuery = generateInsertQuery(tableNameWithSuffix, setClause, columnNames.length);
+				input.put(AppConstant.STATUS, action);
+				input.put(AppConstant.REQUEST, request);
+				batch.add(insertQuery, columnValues(input, columnNames), i, true);
 			}
-
+			return batch.flush();
 		} catch (Exception e) {
 			Logging.error(AppConstant.HIST_PROCESS_ERROR, e);
-			return response;
-
+			return false;
 		}
-		return response;
-
 	}
 
 	/**
@@ -1114,7 +1275,17 @@ public class CommonDAOImpl implements CommonDAO {
 			if (!parameterValuesList.isEmpty()) {
 				String selectQuery = String.format(AppConstant.SELECT_QUERY1, tableName, whereClause);
 				Object[] parameterValues = parameterValuesList.toArray();
-				result = jdbcTemplate.queryForList(selectQuery, parameterValues);
+				UnitOfWork unitOfWork = UnitOfWork.current();
+				if (unitOfWork == null) {
+					result = jdbcTemplate.queryForList(selectQuery, parameterValues);
+				} else {
+					String cacheKey = selectQuery + parameterValuesList;
+					result = unitOfWork.getCachedRead(cacheKey);
+					if (result == null) {
+						result = unitOfWork.getJdbcTemplate().queryForList(selectQuery, parameterValues);
+						unitOfWork.cacheRead(cacheKey, result);
+					}
+				}
 			}
 
 		} catch (Exception e) {
@@ -1126,7 +1297,10 @@ public class CommonDAOImpl implements CommonDAO {
 
 	/**
 	 * Performs create, update, or delete (CUD) operations on the database for the
-	 * specified parent body, bean data, module, and request.
+	 * specified parent body, bean data, module, and request. An update that
+	 * would leave the parent row and every child row as they are in the master
+	 * table is refused, comparing with the master rows read for the audit
+	 * columns.
 	 *
 	 * @param parentBody
 	 *            The input data for CUD operations.
@@ -1136,19 +1310,20 @@ public class CommonDAOImpl implements CommonDAO {
 	 *            The module for which CUD operations are performed.
 	 * @param request
 	 *            The request associated with the CUD operations.
-	 * @return A boolean indicating whether the CUD operations were successful.
+	 * @return SUCCESS, NO_CHANGES_DETECTED or DATA_INSERTION_FAILED.
 	 */
 	@Override
-	public boolean doCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData, Module module,
+	public String doCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData, Module module,
 			String request) {
-		boolean response = false;
+		String response = AppConstant.DATA_INSERTION_FAILED;
 		String tableName = module.getEntityName() + AppConstant.TEMP_TABLE_SUFFIX;
 		List<Field> fields = module.getFields();
 		StringBuilder setClauseBuilder = new StringBuilder();
 		setClauseBuilder.append(fields.stream().map(Field::getName).collect(Collectors.joining(AppConstant.COMMA)));
 
-		List<Map<String, Object>> masterResult = getById(module.getEntityName() + AppConstant.MASTER_TABLE_SUFFIX,
-				parentBody, false);
+		// Only updates and deletes copy the audit columns of the master row
+		List<Map<String, Object>> masterResult = AppConstant.ADD.equalsIgnoreCase(request) ? Collections.emptyList()
+				: getById(module.getEntityName() + AppConstant.MASTER_TABLE_SUFFIX, parentBody, false);
 
 		if (AppConstant.ADD.equalsIgnoreCase(request)) {
 			parentBody.put(AppConstant.ADDED_BY,AppConstant.USERNAME);
@@ -1191,12 +1366,9 @@ public class CommonDAOImpl implements CommonDAO {
 		if (AppConstant.ADD_ACTION.equalsIgnoreCase(request) || (AppConstant.UPDATE_ACTION.equalsIgnoreCase(request)
 				|| AppConstant.DELETE_ACTION.equalsIgnoreCase(request))) {
 			try {
-				if (beanData != null) {
-					response = performCUDOperations(parentBody, beanData, module, request, insertQuery, columnNames);
-				} else {
-					response = performCUDOperations(parentBody, null, module, request, insertQuery, columnNames);
-				}
-
+				Map<String, Object> masterRow = masterResult.isEmpty() ? null : masterResult.get(0);
+				response = performCUDOperations(parentBody, beanData, module, request, insertQuery, columnNames,
+						masterRow);
 			} catch (Exception e) {
 				Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
 			}
@@ -1220,24 +1392,44 @@ public class CommonDAOImpl implements CommonDAO {
 	 *            The list of fields associated with the module.
 	 * @param insertQuery
 	 *            The SQL query for inserting data into the database.
-	 * @return A boolean indicating whether the CUD operations were successful.
+	 * @param masterRow
+	 *            The master row of the parent, or null for adds.
+	 * @return SUCCESS, NO_CHANGES_DETECTED or DATA_INSERTION_FAILED.
 	 */
-	private boolean performCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData,
-			Module module, String request, String insertQuery, String[] columnNames) {
+	private String performCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData,
+			Module module, String request, String insertQuery, String[] columnNames, Map<String, Object> masterRow) {
 		boolean response = false;
 
 		parentBody.put(AppConstant.STATUS, AppConstant.PENDING);
 		parentBody.put(AppConstant.REQUEST, request);
-		try (Connection connection = dataSource.getConnection();
-				PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
-
+		try (Connection connection = getConnection()) {
 			connection.setAutoCommit(false);
-			setParameters(preparedStatement, parentBody, columnNames);
-			int result = preparedStatement.executeUpdate();
 
-			if (result > 0 && beanData != null) {
+			// Master rows of the child rows, read once per bean for the audit columns and the no-op check
+			List<List<Map<String, Object>>> beanMasterRows = new ArrayList<>();
+			if (beanData != null && !AppConstant.ADD.equalsIgnoreCase(request)) {
 				for (Bean bean : module.getBeans()) {
-					if (!doCUDOperationForBean(connection, beanData, bean, request)) {
+					beanMasterRows.add(readMasterRows(connection, bean, beanData));
+				}
+			}
+			if (AppConstant.UPDATE.equalsIgnoreCase(request)
+					&& isUnchanged(module, Collections.singletonList(parentBody), Collections.singletonList(masterRow))
+					&& isUnchanged(module.getBeans(), beanData, beanMasterRows)) {
+				connection.rollback();
+				return AppConstant.NO_CHANGES_DETECTED;
+			}
+
+			int result;
+			try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
+				setParameters(preparedStatement, parentBody, columnNames);
+				result = preparedStatement.executeUpdate();
+			}
+
+			if (result > 0 && beanData != null) {
+				List<Bean> beans = module.getBeans();
+				for (int i = 0; i < beans.size(); i++) {
+					List<Map<String, Object>> masterRows = beanMasterRows.isEmpty() ? null : beanMasterRows.get(i);
+					if (!doCUDOperationForBean(connection, beanData, beans.get(i), request, masterRows)) {
 						response = false;
 						break;
 					}
@@ -1258,12 +1450,67 @@ public class CommonDAOImpl implements CommonDAO {
 			Logging.error(AppConstant.CUD_PROCESS_ERROR, e);
 		}
 
-		return response;
+		return response ? AppConstant.SUCCESS : AppConstant.DATA_INSERTION_FAILED;
+	}
+
+	/**
+	 * Tells whether the rows of an update would leave their master rows as they
+	 * are. A row without a master row counts as a change.
+	 *
+	 * @param entity
+	 *            The module or bean the rows belong to.
+	 * @param rows
+	 *            The rows about to be written.
+	 * @param masterRows
+	 *            The master row of each row in row order, or null if they could
+	 *            not be read.
+	 * @return True if no row changes.
+	 */
+	private boolean isUnchanged(Entity entity, List<Map<String, Object>> rows,
+			List<Map<String, Object>> masterRows) {
+		if (masterRows == null) {
+			return false;
+		}
+		for (int i = 0; i < rows.size(); i++) {
+			Map<String, Object> masterRow = masterRows.get(i);
+			if (masterRow == null || !RowDiff.changedFields(entity, rows.get(i), masterRow).isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether the child rows of an update would leave the master rows of
+	 * every bean as they are.
+	 *
+	 * @param beans
+	 *            The beans of the module, or null if it has none.
+	 * @param beanData
+	 *            The child rows, or null if the module has no beans.
+	 * @param beanMasterRows
+	 *            The master rows of the child rows, one list per bean.
+	 * @return True if no child row changes.
+	 */
+	private boolean isUnchanged(List<Bean> beans, List<Map<String, Object>> beanData,
+			List<List<Map<String, Object>>> beanMasterRows) {
+		if (beanData == null) {
+			return true;
+		}
+		for (int i = 0; i < beans.size(); i++) {
+			if (!isUnchanged(beans.get(i), beanData, beanMasterRows.get(i))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
 	 * Performs create, update, or delete (CUD) operations on the database for the
-	 * specified connection, bean data, entity, and request.
+	 * specified connection, bean data, entity, and request. The child rows are
+	 * inserted into the temp table in batches, and the operation only succeeds if
+	 * every row is inserted. For updates and deletes the master rows of all child
+	 * rows are read in one keyed query before the batch.
 	 *
 	 * @param connection
 	 *            The database connection.
@@ -1278,78 +1525,313 @@ public class CommonDAOImpl implements CommonDAO {
 	@Override
 	public boolean doCUDOperationForBean(Connection connection, List<Map<String, Object>> beanData, Bean bean,
 			String request) {
-		boolean flag = false;
+		try {
+			// Only updates and deletes copy the audit columns of the master rows
+			List<Map<String, Object>> masterRows = AppConstant.ADD.equalsIgnoreCase(request) ? null
+					: readMasterRows(connection, bean, beanData);
+			return doCUDOperationForBean(connection, beanData, bean, request, masterRows);
+		} catch (SQLException e) {
+			Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
+		}
+		return false;
+	}
+
+	/**
+	 * Inserts the child rows of a bean into its temp table in batches, copying
+	 * the audit columns of updates and deletes from the given master rows.
+	 *
+	 * @param connection
+	 *            The database connection.
+	 * @param beanData
+	 *            The data associated with the entity for CUD operations.
+	 * @param bean
+	 *            The bean for which CUD operations are performed.
+	 * @param request
+	 *            The request associated with the CUD operations.
+	 * @param masterRows
+	 *            The master row of each child row in row order, as read by
+	 *            {@link #readMasterRows(Connection, Entity, List)}; null for
+	 *            adds.
+	 * @return A boolean indicating whether the CUD operations were successful.
+	 */
+	private boolean doCUDOperationForBean(Connection connection, List<Map<String, Object>> beanData, Bean bean,
+			String request, List<Map<String, Object>> masterRows) {
+		if (beanData.isEmpty()) {
+			return false;
+		}
 		String tableName = bean.getEntityName() + AppConstant.TEMP_TABLE_SUFFIX;
 		List<Field> fields = bean.getFields();
+		boolean add = AppConstant.ADD.equalsIgnoreCase(request);
+
+		try (ChildBatch batch = new ChildBatch(connection)) {
+			for (int i = 0; i < beanData.size(); i++) {
+				Map<String, Object> beanBody = beanData.get(i);
+				StringBuilder setClauseBuilder = new StringBuilder(
+						fields.stream().map(Field::getName).collect(Collectors.joining(AppConstant.COMMA)));
+				Map<String, Object> masterRow = add || masterRows == null ? null : masterRows.get(i);
+				if (!add && masterRow == null) {
+					Logging.error(AppConstant.CUD_PROCESS_ERROR + request);
+					return false;
+				}
 
-		for (Map<String, Object> beanBody : beanData) {
-			StringBuilder setClauseBuilder = new StringBuilder(
-					fields.stream().map(Field::getName).collect(Collectors.joining(AppConstant.COMMA)));
-			List<Map<String, Object>> masterResult = getById(bean.getEntityName() + AppConstant.MASTER_TABLE_SUFFIX,
-					beanBody, true);
-
-			if (AppConstant.ADD.equalsIgnoreCase(request)) {
-				beanBody.put(AppConstant.ADDED_BY, AppConstant.USERNAME);
-				beanBody.put(AppConstant.ADDED_DATE_TIME, new Date());
-				setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.ADDED_BY).append(AppConstant.COMMA)
-						.append(AppConstant.ADDED_DATE_TIME).append(AppConstant.COMMA).append(AppConstant.REQUEST)
-						.append(AppConstant.COMMA).append(AppConstant.STATUS);
-			} else if (AppConstant.UPDATE.equalsIgnoreCase(request)) {
-				beanBody.put(AppConstant.UPDATED_BY, AppConstant.USERNAME);
-				beanBody.put(AppConstant.UPDATED_DATE_TIME, new Date());
-				beanBody.put(AppConstant.ADDED_BY, masterResult.get(0).get(AppConstant.ADDED_BY));
-				beanBody.put(AppConstant.ADDED_DATE_TIME, masterResult.get(0).get(AppConstant.ADDED_DATE_TIME));
-
-				setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.UPDATED_BY).append(AppConstant.COMMA)
-						.append(AppConstant.UPDATED_DATE_TIME).append(AppConstant.COMMA).append(AppConstant.ADDED_BY)
-						.append(AppConstant.COMMA).append(AppConstant.ADDED_DATE_TIME).append(AppConstant.COMMA)
-						.append(AppConstant.REQUEST).append(AppConstant.COMMA).append(AppConstant.STATUS);
-			} else {
-				beanBody.put(AppConstant.ADDED_BY, masterResult.get(0).get(AppConstant.ADDED_BY));
-				beanBody.put(AppConstant.ADDED_DATE_TIME, masterResult.get(0).get(AppConstant.ADDED_DATE_TIME));
-
-				if (masterResult.get(0).get(AppConstant.UPDATED_DATE_TIME) != null) {
-					beanBody.put(AppConstant.UPDATED_BY, masterResult.get(0).get(AppConstant.UPDATED_BY));
-					beanBody.put(AppConstant.UPDATED_DATE_TIME, masterResult.get(0).get(AppConstant.UPDATED_DATE_TIME));
-					setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.ADDED_BY).append(AppConstant.COMMA)
-							.append(AppConstant.ADDED_DATE_TIME).append(AppConstant.COMMA)
-							.append(AppConstant.UPDATED_BY).append(AppConstant.COMMA)
-							.append(AppConstant.UPDATED_DATE_TIME).append(AppConstant.COMMA).append(AppConstant.REQUEST)
-							.append(AppConstant.COMMA).append(AppConstant.STATUS);
-				} else {
+				if (add) {
+					beanBody.put(AppConstant.ADDED_BY, AppConstant.USERNAME);
+					beanBody.put(AppConstant.ADDED_DATE_TIME, new Date());
 					setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.ADDED_BY).append(AppConstant.COMMA)
 							.append(AppConstant.ADDED_DATE_TIME).append(AppConstant.COMMA).append(AppConstant.REQUEST)
 							.append(AppConstant.COMMA).append(AppConstant.STATUS);
+				} else if (AppConstant.UPDATE.equalsIgnoreCase(request)) {
+					beanBody.put(AppConstant.UPDATED_BY, AppConstant.USERNAME);
+					beanBody.put(AppConstant.UPDATED_DATE_TIME, new Date());
+					beanBody.put(AppConstant.ADDED_BY, masterRow.get(AppConstant.ADDED_BY));
+					beanBody.put(AppConstant.ADDED_DATE_TIME, masterRow.get(AppConstant.ADDED_DATE_TIME));
+
+					setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.UPDATED_BY).append(AppConstant.COMMA)
+							.append(AppConstant.UPDATED_DATE_TIME).append(AppConstant.COMMA)
+							.append(AppConstant.ADDED_BY).append(AppConstant.COMMA).append(AppConstant.ADDED_DATE_TIME)
+							.append(AppConstant.COMMA).append(AppConstant.REQUEST).append(AppConstant.COMMA)
+							.append(AppConstant.STATUS);
+				} else {
+					beanBody.put(AppConstant.ADDED_BY, masterRow.get(AppConstant.ADDED_BY));
+					beanBody.put(AppConstant.ADDED_DATE_TIME, masterRow.get(AppConstant.ADDED_DATE_TIME));
+
+					if (masterRow.get(AppConstant.UPDATED_DATE_TIME) != null) {
+						beanBody.put(AppConstant.UPDATED_BY, masterRow.get(AppConstant.UPDATED_BY));
+						beanBody.put(AppConstant.UPDATED_DATE_TIME, masterRow.get(AppConstant.UPDATED_DATE_TIME));
+						setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.ADDED_BY)
+								.append(AppConstant.COMMA).append(AppConstant.ADDED_DATE_TIME)
+								.append(AppConstant.COMMA).append(AppConstant.UPDATED_BY).append(AppConstant.COMMA)
+								.append(AppConstant.UPDATED_DATE_TIME).append(AppConstant.COMMA)
+								.append(AppConstant.REQUEST).append(AppConstant.COMMA).append(AppConstant.STATUS);
+					} else {
+						setClauseBuilder.append(AppConstant.COMMA).append(AppConstant.ADDED_BY)
+								.append(AppConstant.COMMA).append(AppConstant.ADDED_DATE_TIME)
+								.append(AppConstant.COMMA).append(AppConstant.REQUEST).append(AppConstant.COMMA)
+								.append(AppConstant.STATUS);
+					}
 				}
-			}
 
-			String setClause = setClauseBuilder.toString();
-			String[] columnNames = setClause.split(AppConstant.COMMA_SPLIT);
+				String setClause = setClauseBuilder.toString();
+				String[] columnNames = setClause.split(AppConstant.COMMA_SPLIT);
 
-			String insertQuery = generateInsertQuery(tableName, setClause, columnNames.length);
-
-			try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
+				String insertQuery = generateInsertQuery(tableName, setClause, columnNames.length);
 
 				beanBody.put(AppConstant.REQUEST, request);
 				beanBody.put(AppConstant.STATUS, AppConstant.PENDING);
+				batch.add(insertQuery, columnValues(beanBody, columnNames), i, true);
+			}
+			if (batch.flush()) {
+				return true;
+			}
+			Logging.error(AppConstant.CUD_PROCESS_ERROR + request);
+		} catch (Exception e) {
+			Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
+		}
+		return false;
+	}
 
-				setParameters(preparedStatement, beanBody, columnNames);
+	/**
+	 * Performs create, update, or delete (CUD) operations relying on the database
+	 * to detect pending and conflicting requests. Each row is written with a
+	 * single INSERT into the temp table that folds the master existence check
+	 * into the statement, and a unique constraint violation on the temp table
+	 * primary key is reported as a pending approval. Updates are first compared
+	 * with their master rows, read with one keyed query per entity until a
+	 * change is found, and refused if they change nothing.
+	 *
+	 * @param parentBody
+	 *            The input data for CUD operations.
+	 * @param beanData
+	 *            The data associated with the beans for CUD operations.
+	 * @param module
+	 *            The module for which CUD operations are performed.
+	 * @param request
+	 *            The request associated with the CUD operations.
+	 * @return SUCCESS, or the message describing why the request was refused.
+	 */
+	@Override
+	public String doConstrainedCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData,
+			Module module, String request) {
+		String response = AppConstant.DATA_INSERTION_FAILED;
+		try (Connection connection = getConnection()) {
+			connection.setAutoCommit(false);
+			if (AppConstant.UPDATE.equalsIgnoreCase(request)
+					&& isUnchangedUpdate(connection, parentBody, beanData, module)) {
+				connection.rollback();
+				return AppConstant.NO_CHANGES_DETECTED;
+			}
+			response = insertConstrained(connection, parentBody, module, request);
 
-				int result = preparedStatement.executeUpdate();
+			if (AppConstant.SUCCESS.equals(response) && beanData != null) {
+				for (Bean bean : module.getBeans()) {
+					for (Map<String, Object> beanBody : beanData) {
+						response = insertConstrained(connection, beanBody, bean, request);
+						if (!AppConstant.SUCCESS.equals(response)) {
+							break;
+						}
+					}
+					if (!AppConstant.SUCCESS.equals(response)) {
+						break;
+					}
+				}
+			}
 
-				if (result > 0) {
-					flag = true;
-				} else {
-					flag = false;
-					Logging.error(AppConstant.CUD_PROCESS_ERROR + request);
-					break; // If any operation fails, break the loop
+			if (AppConstant.SUCCESS.equals(response)) {
+				connection.commit();
+			} else {
+				connection.rollback();
+			}
+		} catch (Exception e) {
+			Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
+		}
+		return response;
+	}
+
+	/**
+	 * Checks whether an update request would leave the master data unchanged.
+	 * The master row of the parent is read first, then the master rows of the
+	 * child rows one bean at a time, stopping at the first change.
+	 *
+	 * @param connection
+	 *            The connection of the current transaction.
+	 * @param parentBody
+	 *            The parent row of the request.
+	 * @param beanData
+	 *            The child rows of the request, or null if the module has no
+	 *            beans.
+	 * @param module
+	 *            The module for which the CUD operation is performed.
+	 * @return True if the update changes nothing.
+	 * @throws SQLException
+	 *             If the master tables cannot be read.
+	 */
+	private boolean isUnchangedUpdate(Connection connection, Map<String, Object> parentBody,
+			List<Map<String, Object>> beanData, Module module) throws SQLException {
+		List<Map<String, Object>> parentRows = Collections.singletonList(parentBody);
+		if (!isUnchanged(module, parentRows, readMasterRows(connection, module, parentRows))) {
+			return false;
+		}
+		if (beanData != null) {
+			for (Bean bean : module.getBeans()) {
+				if (!isUnchanged(bean, beanData, readMasterRows(connection, bean, beanData))) {
+					return false;
 				}
+			}
+		}
+		return true;
+	}
 
-			} catch (Exception e) {
-				Logging.error(AppConstant.CUD_PROCESS_ERROR + request, e);
+	/**
+	 * Inserts a single row into the temp table of the given entity. For add
+	 * requests the row is only inserted if the key is absent from the master
+	 * table; for update and delete requests the audit columns are copied from the
+	 * master row, so no row is inserted if the key is absent.
+	 *
+	 * @param connection
+	 *            The database connection.
+	 * @param body
+	 *            The row to be inserted.
+	 * @param entity
+	 *            The module or bean the row belongs to.
+	 * @param request
+	 *            The request associated with the CUD operation.
+	 * @return SUCCESS, APPROVAL_PENDING, DATA_PRESENT or DATA_NOT_PRESENT.
+	 * @throws SQLException
+	 *             If the insert fails for a reason other than a duplicate key.
+	 */
+	private String insertConstrained(Connection connection, Map<String, Object> body, Entity entity, String request)
+			throws SQLException {
+		String entityName = entity.getEntityName();
+		boolean add = AppConstant.ADD.equalsIgnoreCase(request);
+		List<String> columns = new ArrayList<>();
+		List<String> selectList = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		StringBuilder whereClause = new StringBuilder();
+		List<Object> keyValues = new ArrayList<>();
+
+		for (Field field : entity.getFields()) {
+			columns.add(field.getName());
+			selectList.add(AppConstant.QUERY_PARAM);
+			values.add(body.get(field.getName()));
+			if (field.isPrimaryKey()) {
+				if (whereClause.length() > 0) {
+					whereClause.append(AppConstant.AND);
+				}
+				whereClause.append(AppConstant.MASTER_ALIAS).append(field.getName())
+						.append(AppConstant.EQUAL_QUERY_PARAM);
+				keyValues.add(body.get(field.getName()));
 			}
 		}
-		return flag;
+
+		if (add) {
+			body.put(AppConstant.ADDED_BY, AppConstant.USERNAME);
+			body.put(AppConstant.ADDED_DATE_TIME, new Date());
+			addConstrainedColumn(AppConstant.ADDED_BY, body, columns, selectList, values);
+			addConstrainedColumn(AppConstant.ADDED_DATE_TIME, body, columns, selectList, values);
+		} else {
+			if (AppConstant.UPDATE.equalsIgnoreCase(request)) {
+				body.put(AppConstant.UPDATED_BY, AppConstant.USERNAME);
+				body.put(AppConstant.UPDATED_DATE_TIME, new Date());
+				addConstrainedColumn(AppConstant.UPDATED_BY, body, columns, selectList, values);
+				addConstrainedColumn(AppConstant.UPDATED_DATE_TIME, body, columns, selectList, values);
+			} else {
+				addMasterColumn(AppConstant.UPDATED_BY, columns, selectList);
+				addMasterColumn(AppConstant.UPDATED_DATE_TIME, columns, selectList);
+			}
+			addMasterColumn(AppConstant.ADDED_BY, columns, selectList);
+			addMasterColumn(AppConstant.ADDED_DATE_TIME, columns, selectList);
+		}
+		body.put(AppConstant.REQUEST, request);
+		body.put(AppConstant.STATUS, AppConstant.PENDING);
+		addConstrainedColumn(AppConstant.REQUEST, body, columns, selectList, values);
+		addConstrainedColumn(AppConstant.STATUS, body, columns, selectList, values);
+		values.addAll(keyValues);
+
+		String insertQuery = String.format(
+				add ? AppConstant.INSERT_WHERE_NOT_EXISTS_QUERY : AppConstant.INSERT_FROM_MASTER_QUERY,
+				entityName + AppConstant.TEMP_TABLE_SUFFIX, String.join(AppConstant.COMMA, columns),
+				String.join(AppConstant.COMMA, selectList), entityName + AppConstant.MASTER_TABLE_SUFFIX,
+				whereClause);
+
+		try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
+			setParameterValues(preparedStatement, values);
+			if (preparedStatement.executeUpdate() > 0) {
+				return AppConstant.SUCCESS;
+			}
+			return add ? AppConstant.DATA_PRESENT : AppConstant.DATA_NOT_PRESENT;
+		} catch (SQLException e) {
+			if (isDuplicateKey(e)) {
+				return AppConstant.APPROVAL_PENDING;
+			}
+			throw e;
+		}
+	}
+
+	private void addConstrainedColumn(String column, Map<String, Object> body, List<String> columns,
+			List<String> selectList, List<Object> values) {
+		columns.add(column);
+		selectList.add(AppConstant.QUERY_PARAM);
+		values.add(body.get(column));
+	}
+
+	private void addMasterColumn(String column, List<String> columns, List<String> selectList) {
+		columns.add(column);
+		selectList.add(AppConstant.MASTER_ALIAS + column);
+	}
+
+	/**
+	 * Checks whether the given exception reports a primary key or unique index
+	 * violation. Other integrity violations share SQLState 23000 (NOT NULL,
+	 * foreign key, CHECK) and must fail the submission, so only the SQL Server
+	 * error codes are matched.
+	 *
+	 * @param e
+	 *            The exception raised by the database.
+	 * @return True if the exception is a duplicate key violation.
+	 */
+	private boolean isDuplicateKey(SQLException e) {
+		return e.getErrorCode() == AppConstant.DUPLICATE_KEY_ERROR_CODE
+				|| e.getErrorCode() == AppConstant.DUPLICATE_INDEX_ERROR_CODE;
 	}
 
 	/**
@@ -1371,6 +1853,19 @@ public class CommonDAOImpl implements CommonDAO {
 				+ AppConstant.CLOSE_BRACKET;
 	}
 
+	/**
+	 * Returns the connection bound to the current unit of work, or a new pooled
+	 * connection if the caller is not running inside one.
+	 *
+	 * @return The connection to be used for the current operation.
+	 * @throws SQLException
+	 *             If a pooled connection cannot be obtained.
+	 */
+	private Connection getConnection() throws SQLException {
+		UnitOfWork unitOfWork = UnitOfWork.current();
+		return unitOfWork != null ? unitOfWork.getConnection() : dataSource.getConnection();
+	}
+
 	/**
 	 * Sets parameters in a prepared statement based on the provided fields and data
 	 * map.
@@ -1387,20 +1882,7 @@ public class CommonDAOImpl implements CommonDAO {
 		try {
 			for (int i = 0; i < columns.length; i++) {
 				String fieldName = columns[i];
-				Object value = dataMap.get(fieldName.trim());
-				if (value instanceof String) {
-					preparedStatement.setString(i + 1, (String) value);
-				} else if (value instanceof Integer) {
-					preparedStatement.setInt(i + 1, (Integer) value);
-				} else if (value instanceof Boolean) {
-					preparedStatement.setBoolean(i + 1, (Boolean) value);
-				} else if (value instanceof Date) {
-					preparedStatement.setTimestamp(i + 1, new Timestamp(((java.util.Date) value).getTime()));
-				} else {
-					ObjectMapper mapper = new ObjectMapper();
-					String mapValue = mapper.writeValueAsString(value);
-					preparedStatement.setString(i + 1, mapValue);
-				}
+				setParameter(preparedStatement, i + 1, dataMap.get(fieldName.trim()));
 			}
 		} catch (Exception e) {
 			Logging.error(AppConstant.PARAMETER_SET_ERROR, e);
@@ -1408,6 +1890,75 @@ public class CommonDAOImpl implements CommonDAO {
 
 	}
 
+	/**
+	 * Collects the values of the given columns from a data map in column order.
+	 *
+	 * @param dataMap
+	 *            The data map containing the column values.
+	 * @param columns
+	 *            The column names.
+	 * @return The values in column order.
+	 */
+	private List<Object> columnValues(Map<String, Object> dataMap, String[] columns) {
+		List<Object> values = new ArrayList<>(columns.length);
+		for (String column : columns) {
+			values.add(dataMap.get(column.trim()));
+		}
+		return values;
+	}
+
+	/**
+	 * Sets parameters in a prepared statement from an ordered list of values.
+	 *
+	 * @param preparedStatement
+	 *            The prepared statement for which parameters are set.
+	 * @param values
+	 *            The parameter values in statement order.
+	 */
+	private void setParameterValues(PreparedStatement preparedStatement, List<Object> values) {
+		try {
+			for (int i = 0; i < values.size(); i++) {
+				setParameter(preparedStatement, i + 1, values.get(i));
+			}
+		} catch (Exception e) {
+			Logging.error(AppConstant.PARAMETER_SET_ERROR, e);
+		}
+	}
+
+	/**
+	 * Binds a single value to a prepared statement according to its Java type.
+	 *
+	 * @param preparedStatement
+	 *            The prepared statement for which the parameter is set.
+	 * @param index
+	 *            The one-based parameter index.
+	 * @param value
+	 *            The value to bind.
+	 * @throws Exception
+	 *             If the value cannot be bound.
+	 */
+	private void setParameter(PreparedStatement preparedStatement, int index, Object value) throws Exception {
+		if (value instanceof String) {
+			preparedStatement.setString(index, (String) value);
+		} else if (value instanceof Integer) {
+			preparedStatement.setInt(index, (Integer) value);
+		} else if (value instanceof Boolean) {
+			preparedStatement.setBoolean(index, (Boolean) value);
+		} else if (value instanceof Date) {
+			preparedStatement.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+		} else if (value instanceof LocalDateTime) {
+			preparedStatement.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+		} else if (value instanceof LocalDate) {
+			preparedStatement.setDate(index, java.sql.Date.valueOf((LocalDate) value));
+		} else if (value instanceof LocalTime) {
+			preparedStatement.setTime(index, Time.valueOf((LocalTime) value));
+		} else {
+			ObjectMapper mapper = new ObjectMapper();
+			String mapValue = mapper.writeValueAsString(value);
+			preparedStatement.setString(index, mapValue);
+		}
+	}
+
 	/**
 	 * Performs the rectification process for the given module, data, and request
 	 * body.
@@ -1427,7 +1978,7 @@ public class CommonDAOImpl implements CommonDAO {
 		String request = dataMap.get(AppConstant.REQUEST).toString();
 		String action = dataMap.get(AppConstant.STATUS).toString();
 
-		try (Connection connection = dataSource.getConnection()) {
+		try (Connection connection = getConnection()) {
 			connection.setAutoCommit(false);
 			boolean result = addToHist(data, module, request, action, connection);
 			if (result) {
@@ -1462,6 +2013,41 @@ public class CommonDAOImpl implements CommonDAO {
 	private int updateData(Connection connection, String tableName, List<Field> fields,
 			Map<String, Object> requestBody) {
 		int rowsUpdated = 0;
+		int count = 0;
+		List<Object> allValues = new ArrayList<>();
+		String updateQuery = buildRectifyUpdate(tableName, fields, requestBody, allValues);
+
+		try (PreparedStatement preparedStatement = connection.prepareStatement(updateQuery)) {
+			for (Object value : allValues) {
+				preparedStatement.setObject(count + 1, value);
+				count++;
+			}
+
+			rowsUpdated = preparedStatement.executeUpdate();
+
+		} catch (Exception e) {
+			Logging.error(AppConstant.ERROR_WHILE_RECTIFYING, e);
+		}
+
+		return rowsUpdated;
+	}
+
+	/**
+	 * Builds the UPDATE statement that puts a rectified row back into the pending
+	 * state in the temp table.
+	 *
+	 * @param tableName
+	 *            The name of the table to update.
+	 * @param fields
+	 *            The list of fields in the table.
+	 * @param requestBody
+	 *            The request body containing updated data.
+	 * @param allValues
+	 *            Receives the SET values followed by the primary key values.
+	 * @return The UPDATE statement.
+	 */
+	private String buildRectifyUpdate(String tableName, List<Field> fields, Map<String, Object> requestBody,
+			List<Object> allValues) {
 		boolean primaryKeyAppended = false;
 		List<Object> primaryKeyValues = new ArrayList<>();
 		StringBuilder setClause = new StringBuilder();
@@ -1497,28 +2083,10 @@ public class CommonDAOImpl implements CommonDAO {
 		if (primaryKeyAppended) {
 			whereClause.setLength(whereClause.length() - AppConstant.AND.length());
 		}
-		int count = 0;
-
-		String updateQuery = String.format(AppConstant.UPDATE_QUERY, tableName, AppConstant.TEMP_TABLE_SUFFIX,
-				setClause, whereClause);
-
-		try (PreparedStatement preparedStatement = connection.prepareStatement(updateQuery)) {
-			List<Object> allValues = new ArrayList<>();
-			allValues.addAll(setValues);
-			allValues.addAll(primaryKeyValues);
-
-			for (Object value : allValues) {
-				preparedStatement.setObject(count + 1, value);
-				count++;
-			}
-
-			rowsUpdated = preparedStatement.executeUpdate();
-
-		} catch (Exception e) {
-			Logging.error(AppConstant.ERROR_WHILE_RECTIFYING, e);
-		}
-
-		return rowsUpdated;
+		allValues.addAll(setValues);
+		allValues.addAll(primaryKeyValues);
+		return String.format(AppConstant.UPDATE_QUERY, tableName, AppConstant.TEMP_TABLE_SUFFIX, setClause,
+				whereClause);
 	}
 
 	/**
@@ -1574,7 +2142,8 @@ public class CommonDAOImpl implements CommonDAO {
 
 	/**
 	 * Updates rectified data for the specified beans based on the provided
-	 * connection, list of beans, and request body.
+	 * connection, list of beans, and request body. The child rows of a bean are
+	 * updated in batches and the bean only counts as updated if every row is.
 	 *
 	 * @param connection
 	 *            The database connection.
@@ -1587,27 +2156,146 @@ public class CommonDAOImpl implements CommonDAO {
 	 */
 	@SuppressWarnings("unchecked")
 	private boolean updateBeansData(Connection connection, List<Bean> beans, Map<String, Object> requestBody) {
-		boolean result = false;
+		List<Map<String, Object>> beanMap = (List<Map<String, Object>>) requestBody.get(AppConstant.BEAN_DATA);
+		if (beanMap == null || beanMap.isEmpty()) {
+			return false;
+		}
 
 		for (Bean bean : beans) {
 			if (bean != null) {
-				List<Map<String, Object>> beanMap = (List<Map<String, Object>>) requestBody.get(AppConstant.BEAN_DATA);
-				int rowsUpdated = 0;
-				for (Map<String, Object> beanData : beanMap) {
-					rowsUpdated = updateData(connection, bean.getEntityName(), bean.getFields(), beanData);
-					if (rowsUpdated > 0) {
-						rowsUpdated++;
+				try (ChildBatch batch = new ChildBatch(connection)) {
+					for (int i = 0; i < beanMap.size(); i++) {
+						List<Object> allValues = new ArrayList<>();
+						String updateQuery = buildRectifyUpdate(bean.getEntityName(), bean.getFields(),
+								beanMap.get(i), allValues);
+						batch.add(updateQuery, allValues, i, false);
+					}
+					if (batch.flush()) {
+						return true;
 					}
+				} catch (Exception e) {
+					Logging.error(AppConstant.ERROR_WHILE_RECTIFYING, e);
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Collects child-row statements on one connection. Rows that share the same
+	 * SQL text reuse one prepared statement and are sent with executeBatch in
+	 * chunks of at most batchSize rows. A row that fails or affects no rows is
+	 * logged with its position in the request and makes flush report failure, so
+	 * that the caller rolls the transaction back.
+	 */
+	private final class ChildBatch implements AutoCloseable {
+
+		private final Connection connection;
+
+		private final Map<String, PreparedStatement> statements = new LinkedHashMap<>();
+
+		private final Map<String, List<Integer>> pendingRows = new HashMap<>();
+
+		private boolean failed;
+
+		ChildBatch(Connection connection) {
+			this.connection = connection;
+		}
+
+		/**
+		 * Adds one row to the batch of its statement.
+		 *
+		 * @param sql
+		 *            The statement text.
+		 * @param values
+		 *            The parameter values in statement order.
+		 * @param rowIndex
+		 *            The position of the row in the request.
+		 * @param bindByType
+		 *            True to bind values by their Java type as setParameters
+		 *            does, false to bind them with setObject.
+		 * @throws SQLException
+		 *             If the statement cannot be prepared or a full chunk fails.
+		 */
+		void add(String sql, List<Object> values, int rowIndex, boolean bindByType) throws SQLException {
+			PreparedStatement preparedStatement = statements.get(sql);
+			if (preparedStatement == null) {
+				preparedStatement = connection.prepareStatement(sql);
+				statements.put(sql, preparedStatement);
+				pendingRows.put(sql, new ArrayList<>());
+			}
+			if (bindByType) {
+				setParameterValues(preparedStatement, values);
+			} else {
+				for (int i = 0; i < values.size(); i++) {
+					preparedStatement.setObject(i + 1, values.get(i));
+				}
+			}
+			preparedStatement.addBatch();
+
+			List<Integer> rows = pendingRows.get(sql);
+			rows.add(rowIndex);
+			if (rows.size() >= batchSize) {
+				execute(sql);
+			}
+		}
 
+		/**
+		 * Sends all rows that are still pending.
+		 *
+		 * @return True if every row of the batch affected at least one row.
+		 * @throws SQLException
+		 *             If a statement fails.
+		 */
+		boolean flush() throws SQLException {
+			for (String sql : statements.keySet()) {
+				execute(sql);
+			}
+			return !failed;
+		}
+
+		private void execute(String sql) throws SQLException {
+			List<Integer> rows = pendingRows.get(sql);
+			if (rows.isEmpty()) {
+				return;
+			}
+			try {
+				int[] counts = statements.get(sql).executeBatch();
+				for (int i = 0; i < counts.length; i++) {
+					if (counts[i] == 0 || counts[i] == Statement.EXECUTE_FAILED) {
+						Logging.error(String.format(AppConstant.BATCH_ROW_NOT_APPLIED, rows.get(i), sql));
+						failed = true;
+					}
 				}
-				if (rowsUpdated == beanMap.size()) {
-					result = true;
-					break;
+			} catch (BatchUpdateException e) {
+				failed = true;
+				Logging.error(String.format(AppConstant.BATCH_ROW_FAILED, rows.get(failedRow(e, rows.size())), sql), e);
+				throw e;
+			} finally {
+				rows.clear();
+			}
+		}
+
+		private int failedRow(BatchUpdateException e, int size) {
+			int[] counts = e.getUpdateCounts();
+			if (counts != null) {
+				for (int i = 0; i < counts.length; i++) {
+					if (counts[i] == Statement.EXECUTE_FAILED) {
+						return i;
+					}
 				}
+				return Math.min(counts.length, size - 1);
 			}
+			return 0;
 		}
 
-		return result;
+		@Override
+		public void close() throws SQLException {
+			for (PreparedStatement preparedStatement : statements.values()) {
+				preparedStatement.close();
+			}
+		}
 	}
 
 }
\ No newline at end of file
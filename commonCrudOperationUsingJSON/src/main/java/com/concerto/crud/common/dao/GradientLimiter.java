@@ -0,0 +1,137 @@
+package com.concerto.crud.common.dao;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.dao.GradientLimiter.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:40:56 PM
+ * @Purpose : Adaptive concurrency limit derived from observed latency, after
+ *          the gradient algorithm of Netflix concurrency-limits. A long-term
+ *          average of the round-trip time stands for the latency of an idle
+ *          database; while recent samples stay close to it the limit grows by
+ *          a small queue allowance, and when they rise above it the limit
+ *          shrinks in proportion. Work beyond the limit is refused at once
+ *          rather than queued.
+ * @Version : 1.0
+ */
+
+final class GradientLimiter {
+
+	private static final int WARMUP_SAMPLES = 10;
+
+	private static final int LONG_WINDOW = 600;
+
+	private static final double DRIFT_RATIO = 2.0;
+
+	private static final double DRIFT_DECAY = 0.95;
+
+	private static final double MIN_GRADIENT = 0.5;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double tolerance;
+
+	private final double smoothing;
+
+	private final AtomicInteger inflight = new AtomicInteger();
+
+	private volatile int limit;
+
+	/** Guarded by this. */
+	private double estimatedLimit;
+
+	/** Guarded by this, in nanoseconds. */
+	private double longRtt;
+
+	/** Guarded by this. */
+	private int samples;
+
+	GradientLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.tolerance = tolerance;
+		this.smoothing = smoothing;
+		this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+		this.limit = (int) estimatedLimit;
+	}
+
+	/**
+	 * Takes a slot if fewer calls than the current limit are in flight.
+	 *
+	 * @return The number of calls in flight including this one, or -1 if the
+	 *         call is refused.
+	 */
+	int tryAcquire() {
+		while (true) {
+			int current = inflight.get();
+			if (current >= limit) {
+				return -1;
+			}
+			if (inflight.compareAndSet(current, current + 1)) {
+				return current + 1;
+			}
+		}
+	}
+
+	/**
+	 * Takes a slot regardless of the limit, for work that must not be refused.
+	 *
+	 * @return The number of calls in flight including this one.
+	 */
+	int acquire() {
+		return inflight.incrementAndGet();
+	}
+
+	/**
+	 * Releases a slot and feeds the round-trip time of the call into the limit.
+	 *
+	 * @param rttNanos
+	 *            The round-trip time of the call.
+	 * @param inflightAtStart
+	 *            The number of calls in flight when the call started.
+	 * @param sample
+	 *            False if the call failed in a way that says nothing about
+	 *            database latency.
+	 */
+	void release(long rttNanos, int inflightAtStart, boolean sample) {
+		inflight.decrementAndGet();
+		if (sample && rttNanos > 0) {
+			onSample(rttNanos, inflightAtStart);
+		}
+	}
+
+	private synchronized void onSample(double shortRtt, int inflightAtStart) {
+		samples++;
+		if (samples <= WARMUP_SAMPLES) {
+			longRtt += (shortRtt - longRtt) / samples;
+		} else {
+			longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+		}
+		// Lets the long-term average recover quickly after a slow period has ended
+		if (longRtt / shortRtt > DRIFT_RATIO) {
+			longRtt *= DRIFT_DECAY;
+		}
+		// Not enough work in flight to tell anything about the limit
+		if (inflightAtStart < estimatedLimit / 2) {
+			return;
+		}
+		double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+		double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+		newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+		estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		limit = (int) estimatedLimit;
+	}
+
+	int getLimit() {
+		return limit;
+	}
+
+	int getInflight() {
+		return inflight.get();
+	}
+}
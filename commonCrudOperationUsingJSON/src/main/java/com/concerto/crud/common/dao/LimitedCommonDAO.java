@@ -0,0 +1,263 @@
+package com.concerto.crud.common.dao;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import com.concerto.crud.common.bean.Bean;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.ServiceOverloadedException;
+import com.concerto.crud.common.tenant.TenantContext;
+import com.concerto.crud.common.transaction.UnitOfWork;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.dao.LimitedCommonDAO.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:40:56 PM
+ * @Purpose : CommonDAO that passes every call on to CommonDAOImpl through an
+ *          adaptive concurrency limit. Reads and writes of each tenant have
+ *          separate limits, each adjusted from the latency of its own calls, so
+ *          a slow database lowers the amount of work let through instead of
+ *          letting requests pile up, without holding back the other tenants. A
+ *          call beyond the limit fails at once with a
+ *          ServiceOverloadedException. Calls made within a unit of work that
+ *          has already been admitted are never refused, only counted.
+ *          Identical readData and readAllData queries running at the same time
+ *          are coalesced into one database call whose rows every caller
+ *          shares; a read may therefore see the rows of a query that started
+ *          shortly before it.
+ * @Version : 1.0
+ */
+
+@Repository
+@Primary
+public class LimitedCommonDAO implements CommonDAO {
+
+	private enum Operation {
+		READ, WRITE
+	}
+
+	private enum Query {
+		READ_DATA, READ_ALL_DATA
+	}
+
+	private final CommonDAO delegate;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, Limits> tenantLimits = new ConcurrentHashMap<>();
+
+	private final SingleFlight<List<Object>, List<Map<String, Object>>> reads = new SingleFlight<>();
+
+	@Value("${crud.dao.limit.enabled:true}")
+	private boolean enabled;
+
+	@Value("${crud.dao.limit.initial:20}")
+	private int initialLimit;
+
+	@Value("${crud.dao.limit.min:4}")
+	private int minLimit;
+
+	@Value("${crud.dao.limit.max:200}")
+	private int maxLimit;
+
+	@Value("${crud.dao.limit.tolerance:1.5}")
+	private double tolerance;
+
+	@Value("${crud.dao.limit.smoothing:0.2}")
+	private double smoothing;
+
+	@Value("${crud.dao.coalesce.enabled:true}")
+	private boolean coalesceEnabled;
+
+	@Autowired
+	public LimitedCommonDAO(@Qualifier("commonDAOImpl") CommonDAO delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public List<Map<String, Object>> executeGetData(String fieldName, Object value, Module module) {
+		return coalesce(Query.READ_DATA,
+				() -> call(Operation.READ, () -> delegate.executeGetData(fieldName, value, module)),
+				module.getEntityName(), fieldName, value);
+	}
+
+	@Override
+	public List<Map<String, Object>> executeGetAllData(Module module) {
+		return coalesce(Query.READ_ALL_DATA, () -> call(Operation.READ, () -> delegate.executeGetAllData(module)),
+				module.getEntityName());
+	}
+
+	@Override
+	public boolean addToMaster(Map<String, Object> input, Module module, String action) {
+		return call(Operation.WRITE, () -> delegate.addToMaster(input, module, action));
+	}
+
+	@Override
+	public boolean deleteData(Map<String, Object> input, Module module, String action, String tableSuffix) {
+		return call(Operation.WRITE, () -> delegate.deleteData(input, module, action, tableSuffix));
+	}
+
+	@Override
+	public boolean addToHist(Map<String, Object> input, Module module, String request, String action,
+			Connection connection) {
+		return call(Operation.WRITE, () -> delegate.addToHist(input, module, request, action, connection));
+	}
+
+	@Override
+	public List<Map<String, Object>> getById(String tableName, Map<String, Object> input, boolean isSubBean) {
+		return call(Operation.READ, () -> delegate.getById(tableName, input, isSubBean));
+	}
+
+	@Override
+	public boolean performUpdate(Map<String, Object> data, Module module, String tableSuffix) {
+		return call(Operation.WRITE, () -> delegate.performUpdate(data, module, tableSuffix));
+	}
+
+	@Override
+	public String doCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData, Module module,
+			String request) {
+		return call(Operation.WRITE, () -> delegate.doCUDOperations(parentBody, beanData, module, request));
+	}
+
+	@Override
+	public String doConstrainedCUDOperations(Map<String, Object> parentBody, List<Map<String, Object>> beanData,
+			Module module, String request) {
+		return call(Operation.WRITE,
+				() -> delegate.doConstrainedCUDOperations(parentBody, beanData, module, request));
+	}
+
+	@Override
+	public boolean deleteDataForBean(Map<String, Object> input, Bean bean, String tableSuffix, Connection connection) {
+		return call(Operation.WRITE, () -> delegate.deleteDataForBean(input, bean, tableSuffix, connection));
+	}
+
+	@Override
+	public boolean addToHistBean(Map<String, Object> input, Bean bean, String request, String action,
+			Connection connection) {
+		return call(Operation.WRITE, () -> delegate.addToHistBean(input, bean, request, action, connection));
+	}
+
+	@Override
+	public boolean doCUDOperationForBean(Connection connection, List<Map<String, Object>> beanData, Bean bean,
+			String request) {
+		return call(Operation.WRITE, () -> delegate.doCUDOperationForBean(connection, beanData, bean, request));
+	}
+
+	@Override
+	public boolean doRectify(Module module, Map<String, Object> data, Map<String, Object> requestBody) {
+		return call(Operation.WRITE, () -> delegate.doRectify(module, data, requestBody));
+	}
+
+	/**
+	 * Runs a read, or joins the identical read of the same tenant already in
+	 * flight. Every caller gets its own copy of the row list, since callers may
+	 * add to it.
+	 *
+	 * @param query
+	 *            The kind of read.
+	 * @param work
+	 *            The read.
+	 * @param parameters
+	 *            The module and parameters identifying the read.
+	 */
+	private List<Map<String, Object>> coalesce(Query query, Supplier<List<Map<String, Object>>> work,
+			Object... parameters) {
+		if (!coalesceEnabled) {
+			return work.get();
+		}
+		String tenantId = TenantContext.current();
+		List<Object> key = new ArrayList<>(parameters.length + 2);
+		key.add(query);
+		key.add(tenantId);
+		key.addAll(Arrays.asList(parameters));
+		return new ArrayList<>(reads.execute(key, work,
+				() -> meterRegistry.counter(AppConstant.METRIC_DAO_COALESCED, AppConstant.METRIC_TAG_TENANT,
+						tenantId, AppConstant.METRIC_TAG_QUERY, query.name().toLowerCase()).increment()));
+	}
+
+	/**
+	 * Runs a DAO call within the limit of its operation type and feeds its
+	 * latency back into the limit. Failed calls are fed back too, since query
+	 * timeouts and other slow failures are the clearest sign of an overloaded
+	 * database; only a call refused by a limit or lock of our own is left out,
+	 * as its latency says nothing about the database.
+	 *
+	 * @throws ServiceOverloadedException
+	 *             If the limit is reached and the call is not part of an admitted
+	 *             unit of work.
+	 */
+	private <T> T call(Operation operation, Supplier<T> work) {
+		if (!enabled) {
+			return work.get();
+		}
+		Limits limits = tenantLimits.computeIfAbsent(TenantContext.current(), Limits::new);
+		GradientLimiter limiter = limits.limiters[operation.ordinal()];
+		UnitOfWork unitOfWork = UnitOfWork.current();
+		int inflight = limiter.tryAcquire();
+		if (inflight < 0) {
+			if (unitOfWork == null || !unitOfWork.isAdmitted()) {
+				limits.rejected[operation.ordinal()].increment();
+				throw new ServiceOverloadedException(AppConstant.DATABASE_OVERLOADED);
+			}
+			inflight = limiter.acquire();
+		}
+		if (unitOfWork != null) {
+			unitOfWork.setAdmitted();
+		}
+		long start = System.nanoTime();
+		boolean sample = true;
+		try {
+			return work.get();
+		} catch (ServiceOverloadedException e) {
+			sample = false;
+			throw e;
+		} finally {
+			limiter.release(System.nanoTime() - start, inflight, sample);
+		}
+	}
+
+	/**
+	 * Limits of one tenant together with their rejection counters.
+	 */
+	private final class Limits {
+
+		private final GradientLimiter[] limiters = new GradientLimiter[Operation.values().length];
+
+		private final Counter[] rejected = new Counter[Operation.values().length];
+
+		Limits(String tenantId) {
+			for (Operation operation : Operation.values()) {
+				GradientLimiter limiter = new GradientLimiter(initialLimit, minLimit, maxLimit, tolerance, smoothing);
+				String tag = operation.name().toLowerCase();
+				limiters[operation.ordinal()] = limiter;
+				rejected[operation.ordinal()] = meterRegistry.counter(AppConstant.METRIC_DAO_REJECTED,
+						AppConstant.METRIC_TAG_TENANT, tenantId, AppConstant.METRIC_TAG_OPERATION, tag);
+				Gauge.builder(AppConstant.METRIC_DAO_LIMIT, limiter, GradientLimiter::getLimit)
+						.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_OPERATION, tag)
+						.register(meterRegistry);
+				Gauge.builder(AppConstant.METRIC_DAO_INFLIGHT, limiter, GradientLimiter::getInflight)
+						.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_OPERATION, tag)
+						.register(meterRegistry);
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.concerto.crud.common.dao;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.dao.SingleFlight.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:48:50 PM
+ * @Purpose : Coalesces identical calls that are in flight at the same time.
+ *          The first caller of a key runs the work; callers arriving while it
+ *          runs wait for it and share its result or its exception instead of
+ *          running the work again. Nothing is kept once the work completes, so
+ *          a caller arriving afterwards always runs the work anew.
+ * @Version : 1.0
+ */
+
+final class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+	/**
+	 * Runs the work of a key, or joins the run already in flight for it.
+	 *
+	 * @param key
+	 *            The key identifying identical work.
+	 * @param work
+	 *            The work to run.
+	 * @param onJoin
+	 *            Called when the caller joins a run instead of starting one.
+	 * @return The result of the run, shared by all callers that joined it.
+	 */
+	V execute(K key, Supplier<V> work, Runnable onJoin) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+		if (running != null) {
+			onJoin.run();
+			return join(running);
+		}
+		try {
+			V result = work.get();
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			flights.remove(key, flight);
+		}
+	}
+
+	private static <V> V join(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.concerto.crud.common.exception;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.exception.RequestRejectedException.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:34:25 PM
+ * @Purpose : Represents a request body that is rejected while it is being read,
+ *          such as malformed JSON, an unknown field or an oversized value.
+ * @Version : 1.0
+ */
+
+public class RequestRejectedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public RequestRejectedException(String message) {
+		super(message);
+	}
+
+	public RequestRejectedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,38 @@
+package com.concerto.crud.common.exception;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.exception.ServiceOverloadedException.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:40:56 PM
+ * @Purpose : Represents database work that is shed because the database is
+ *          already running as much concurrent work as it can take without its
+ *          latency rising. The request may be retried later.
+ * @Version : 1.0
+ */
+
+public class ServiceOverloadedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ServiceOverloadedException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Rethrows an overload caught by a catch-all handler, so that it reaches the
+	 * 503 handler of the controller instead of being turned into an ordinary
+	 * failure response.
+	 *
+	 * @param e
+	 *            The exception caught.
+	 * @throws ServiceOverloadedException
+	 *             If the exception is one.
+	 */
+	public static void rethrowIfOverloaded(Exception e) {
+		if (e instanceof ServiceOverloadedException) {
+			throw (ServiceOverloadedException) e;
+		}
+	}
+}
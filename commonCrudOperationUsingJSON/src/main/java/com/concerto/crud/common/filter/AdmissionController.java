@@ -0,0 +1,186 @@
+package com.concerto.crud.common.filter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.bean.Admission;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.tenant.TenantContext;
+import com.concerto.crud.common.util.JsonToJavaConverter;
+import com.concerto.crud.common.util.ModuleRegistryReloadedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.filter.AdmissionController.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:39:18 PM
+ * @Purpose : Keeps one bulkhead per tenant and module and decides whether a request of a
+ *          module is admitted. Limits are read from the Admission settings of
+ *          the module, falling back to the application defaults; a module
+ *          whose concurrency limit resolves to zero is not limited. Admitted
+ *          and rejected requests, running and waiting requests and the limit
+ *          of each module are published as metrics. The bulkheads of a tenant
+ *          are resized in place when its module file is reloaded, since limits
+ *          may have changed, so that requests still running keep their slots.
+ * @Version : 1.0
+ */
+
+@Component
+public class AdmissionController {
+
+	/** Marks a module that has no concurrency limit. */
+	private static final ModuleBulkhead UNLIMITED = new ModuleBulkhead(0, 0, 0);
+
+	private final MeterRegistry meterRegistry;
+
+	/** Bulkheads by tenant and module name. */
+	private final Map<String, Map<String, ModuleBulkhead>> bulkheads = new ConcurrentHashMap<>();
+
+	private final Map<String, Set<String>> measuredModules = new ConcurrentHashMap<>();
+
+	@Value("${crud.admission.max-concurrent:0}")
+	private int defaultMaxConcurrent;
+
+	@Value("${crud.admission.max-queued:0}")
+	private int defaultMaxQueued;
+
+	@Value("${crud.admission.queue-timeout-ms:100}")
+	private long defaultQueueTimeoutMs;
+
+	@Value("${crud.admission.retry-after-seconds:1}")
+	private int retryAfterSeconds;
+
+	@Autowired
+	public AdmissionController(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Returns the bulkhead of a module of the current tenant.
+	 *
+	 * @param moduleName
+	 *            The name of a registered module.
+	 * @return The bulkhead, or null if the module is not limited.
+	 */
+	ModuleBulkhead bulkhead(String moduleName) {
+		String tenantId = TenantContext.current();
+		ModuleBulkhead bulkhead = bulkheads.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>())
+				.computeIfAbsent(moduleName, name -> createBulkhead(tenantId, name));
+		return bulkhead == UNLIMITED ? null : bulkhead;
+	}
+
+	/**
+	 * Tries to admit a request of a module and records the outcome.
+	 *
+	 * @param moduleName
+	 *            The name of the module.
+	 * @param bulkhead
+	 *            The bulkhead of the module.
+	 * @return True if the request is admitted; the bulkhead must then be exited
+	 *         once the request completes.
+	 */
+	boolean admit(String moduleName, ModuleBulkhead bulkhead) {
+		boolean admitted = bulkhead.tryEnter();
+		meterRegistry.counter(AppConstant.METRIC_ADMISSION_REQUESTS, AppConstant.METRIC_TAG_TENANT,
+				TenantContext.current(), AppConstant.METRIC_TAG_MODULE, moduleName, AppConstant.METRIC_TAG_RESULT,
+				admitted ? AppConstant.METRIC_RESULT_ADMITTED : AppConstant.METRIC_RESULT_REJECTED).increment();
+		return admitted;
+	}
+
+	int getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	@EventListener
+	public void onModulesReloaded(ModuleRegistryReloadedEvent event) {
+		String tenantId = event.getTenantId();
+		Map<String, ModuleBulkhead> tenantBulkheads = bulkheads.get(tenantId);
+		if (tenantBulkheads != null) {
+			TenantContext.runAs(tenantId,
+					() -> tenantBulkheads.replaceAll((moduleName, current) -> resize(tenantId, moduleName, current)));
+		}
+	}
+
+	/**
+	 * Applies the limits of the reloaded module to its current bulkhead. A
+	 * module that becomes unlimited, or limited for the first time, gets a new
+	 * bulkhead instead.
+	 */
+	private ModuleBulkhead resize(String tenantId, String moduleName, ModuleBulkhead current) {
+		ModuleBulkhead updated = createBulkhead(tenantId, moduleName);
+		if (current == UNLIMITED || updated == UNLIMITED) {
+			return updated;
+		}
+		current.resize(updated);
+		return current;
+	}
+
+	private ModuleBulkhead createBulkhead(String tenantId, String moduleName) {
+		Module module = JsonToJavaConverter.moduleData(moduleName);
+		Admission admission = module == null ? null : module.getAdmission();
+		int maxConcurrent = admission != null && admission.getMaxConcurrent() > 0 ? admission.getMaxConcurrent()
+				: defaultMaxConcurrent;
+		if (maxConcurrent <= 0) {
+			return UNLIMITED;
+		}
+		int maxQueued = admission != null && admission.getMaxQueued() > 0 ? admission.getMaxQueued()
+				: defaultMaxQueued;
+		long queueTimeoutMs = admission != null && admission.getQueueTimeoutMs() > 0 ? admission.getQueueTimeoutMs()
+				: defaultQueueTimeoutMs;
+		if (measuredModules.computeIfAbsent(tenantId, id -> ConcurrentHashMap.newKeySet()).add(moduleName)) {
+			registerGauges(tenantId, moduleName);
+		}
+		return new ModuleBulkhead(maxConcurrent, maxQueued, queueTimeoutMs);
+	}
+
+	/**
+	 * Registers the gauges of a module of a tenant once. They read whichever
+	 * bulkhead the module currently has, so they survive a reload of the
+	 * module file.
+	 */
+	private void registerGauges(String tenantId, String moduleName) {
+		Gauge.builder(AppConstant.METRIC_ADMISSION_ACTIVE, this,
+				controller -> controller.gauge(tenantId, moduleName, GaugeKind.ACTIVE))
+				.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_MODULE, moduleName)
+				.register(meterRegistry);
+		Gauge.builder(AppConstant.METRIC_ADMISSION_QUEUED, this,
+				controller -> controller.gauge(tenantId, moduleName, GaugeKind.QUEUED))
+				.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_MODULE, moduleName)
+				.register(meterRegistry);
+		Gauge.builder(AppConstant.METRIC_ADMISSION_LIMIT, this,
+				controller -> controller.gauge(tenantId, moduleName, GaugeKind.LIMIT))
+				.tag(AppConstant.METRIC_TAG_TENANT, tenantId).tag(AppConstant.METRIC_TAG_MODULE, moduleName)
+				.register(meterRegistry);
+	}
+
+	private enum GaugeKind {
+		ACTIVE, QUEUED, LIMIT
+	}
+
+	private double gauge(String tenantId, String moduleName, GaugeKind kind) {
+		Map<String, ModuleBulkhead> tenantBulkheads = bulkheads.get(tenantId);
+		ModuleBulkhead bulkhead = tenantBulkheads == null ? null : tenantBulkheads.get(moduleName);
+		if (bulkhead == null || bulkhead == UNLIMITED) {
+			return Double.NaN;
+		}
+		switch (kind) {
+		case ACTIVE:
+			return bulkhead.getActive();
+		case QUEUED:
+			return bulkhead.getQueued();
+		default:
+			return bulkhead.getMaxConcurrent();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.concerto.crud.common.filter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.filter.ModuleBulkhead.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:39:18 PM
+ * @Purpose : Concurrency limit of one module. At most maxConcurrent requests
+ *          of the module run at once; up to maxQueued more wait a bounded time
+ *          for a slot, and any further request is turned away at once, so a
+ *          busy module cannot hold every request thread and connection. The
+ *          limits can be changed in place, so that requests already running
+ *          keep counting against the new limit.
+ * @Version : 1.0
+ */
+
+final class ModuleBulkhead {
+
+	private final ResizableSemaphore permits;
+
+	private volatile int maxConcurrent;
+
+	private volatile int maxQueued;
+
+	private volatile long queueTimeoutMs;
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	ModuleBulkhead(int maxConcurrent, int maxQueued, long queueTimeoutMs) {
+		this.permits = new ResizableSemaphore(maxConcurrent);
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueued = maxQueued;
+		this.queueTimeoutMs = queueTimeoutMs;
+	}
+
+	/**
+	 * Takes a slot for a request, waiting for one if the queue has room.
+	 *
+	 * @return True if the request may proceed; it must then call exit().
+	 */
+	boolean tryEnter() {
+		if (permits.tryAcquire()) {
+			return true;
+		}
+		if (maxQueued <= 0 || queued.incrementAndGet() > maxQueued) {
+			if (maxQueued > 0) {
+				queued.decrementAndGet();
+			}
+			return false;
+		}
+		try {
+			return permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			queued.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Releases the slot taken by a successful tryEnter().
+	 */
+	void exit() {
+		permits.release();
+	}
+
+	/**
+	 * Takes over the limits of another bulkhead. Slots held by running requests
+	 * stay taken: a lower limit admits no new request until enough of them have
+	 * exited.
+	 *
+	 * @param settings
+	 *            The bulkhead holding the new limits.
+	 */
+	synchronized void resize(ModuleBulkhead settings) {
+		int delta = settings.maxConcurrent - maxConcurrent;
+		if (delta > 0) {
+			permits.release(delta);
+		} else if (delta < 0) {
+			permits.reducePermits(-delta);
+		}
+		maxConcurrent = settings.maxConcurrent;
+		maxQueued = settings.maxQueued;
+		queueTimeoutMs = settings.queueTimeoutMs;
+	}
+
+	int getActive() {
+		return maxConcurrent - permits.availablePermits();
+	}
+
+	int getQueued() {
+		return queued.get();
+	}
+
+	int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	/**
+	 * Fair semaphore whose number of permits can also be lowered.
+	 */
+	private static final class ResizableSemaphore extends Semaphore {
+
+		private static final long serialVersionUID = 1L;
+
+		ResizableSemaphore(int permits) {
+			super(permits, true);
+		}
+
+		@Override
+		protected void reducePermits(int reduction) {
+			super.reducePermits(reduction);
+		}
+	}
+}
@@ -2,6 +2,8 @@ package com.concerto.crud.common.filter;
 
 import java.io.IOException;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -11,6 +13,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.support.SpringBeanAutowiringSupport;
@@ -29,7 +32,11 @@ import com.concerto.crud.common.util.JsonToJavaConverter;
  *          module. It ensures that only requests associated with valid modules
  *          are allowed to proceed through the filter chain, while requests for
  *          nonexistent modules trigger an error response with a 404 (Not Found)
- *          status.
+ *          status. Requests of valid modules are then admitted against the
+ *          concurrency limit of their module, and turned away with a 429 (Too
+ *          Many Requests) status and a Retry-After header when it is reached.
+ *          A request handled asynchronously holds its place in the limit
+ *          until its response is complete.
  *
  * @Version : 1.0
  */
@@ -37,6 +44,9 @@ import com.concerto.crud.common.util.JsonToJavaConverter;
 @Component
 public class ModuleFilter implements Filter {
 
+	@Autowired
+	private AdmissionController admissionController;
+
 	@Override
 	public void init(FilterConfig filterConfig) throws ServletException {
 		SpringBeanAutowiringSupport.processInjectionBasedOnServletContext(this, filterConfig.getServletContext());
@@ -45,16 +55,43 @@ public class ModuleFilter implements Filter {
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
 			throws IOException, ServletException {
 
+		// Lets management endpoints through without a module lookup
+		if (((HttpServletRequest) request).getServletPath().startsWith(AppConstant.ACTUATOR_PATH)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
 		// Extracts the module name from the request URL
 		String moduleName = extractModuleName(request);
 
 		// Checks if the module is present
-		if (JsonToJavaConverter.getModuleMap().containsKey(moduleName)) {
-			// If the module is present, continues with the filter chain
-			filterChain.doFilter(request, response);
-		} else {
+		if (!JsonToJavaConverter.getModuleMap().containsKey(moduleName)) {
 			// If the module is not present, generates an error response
 			sendErrorResponse(response, AppConstant.MODULE_NAME_INCORRECT);
+			return;
+		}
+
+		// Admits the request against the concurrency limit of the module
+		ModuleBulkhead bulkhead = admissionController.bulkhead(moduleName);
+		if (bulkhead == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (!admissionController.admit(moduleName, bulkhead)) {
+			sendRejectedResponse(response);
+			return;
+		}
+		boolean async = false;
+		try {
+			filterChain.doFilter(request, response);
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new BulkheadReleaser(bulkhead));
+				async = true;
+			}
+		} finally {
+			if (!async) {
+				bulkhead.exit();
+			}
 		}
 	}
 
@@ -64,6 +101,50 @@ public class ModuleFilter implements Filter {
 		return requestURI.substring(requestURI.lastIndexOf(AppConstant.HOME_URL) + 1);
 	}
 
+	private void sendRejectedResponse(ServletResponse response) throws IOException {
+		// Sets the HTTP status code to 429 (Too Many Requests) with a retry hint
+		HttpServletResponse httpResponse = (HttpServletResponse) response;
+		httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		httpResponse.setHeader(AppConstant.RETRY_AFTER_HEADER,
+				String.valueOf(admissionController.getRetryAfterSeconds()));
+		httpResponse.setContentType(AppConstant.CONTENT_TYPE);
+		response.getWriter().write(AppConstant.MODULE_BUSY);
+		response.getWriter().flush();
+	}
+
+	/**
+	 * Exits the bulkhead once an asynchronous request has completed, whether
+	 * normally, with an error or on a timeout.
+	 */
+	private static final class BulkheadReleaser implements AsyncListener {
+
+		private final ModuleBulkhead bulkhead;
+
+		BulkheadReleaser(ModuleBulkhead bulkhead) {
+			this.bulkhead = bulkhead;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			bulkhead.exit();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			// Completion follows and exits the bulkhead
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			// Completion follows and exits the bulkhead
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			// Stays registered for the whole request
+		}
+	}
+
 	private void sendErrorResponse(ServletResponse response, String errorMessage) throws IOException {
 		// Sets the HTTP status code to 404 (Not Found)
 		HttpServletResponse httpResponse = (HttpServletResponse) response;
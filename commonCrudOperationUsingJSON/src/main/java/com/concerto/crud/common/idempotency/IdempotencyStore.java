@@ -0,0 +1,341 @@
+package com.concerto.crud.common.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.tenant.TenantContext;
+import com.concerto.crud.common.util.Logging;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.idempotency.IdempotencyStore.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:54:59 PM
+ * @Purpose : Remembers the outcome of write requests sent with an
+ *          Idempotency-Key header, so that a client retrying after a timeout
+ *          gets the response of the first execution instead of running the
+ *          request again. A duplicate arriving while the first execution is
+ *          still running waits for it, and gets its response marked as
+ *          replayed only if it succeeded. Only successful (2xx) responses are
+ *          kept; a failed or refused execution may be retried. A key reused
+ *          for a different request is answered with 422 (Unprocessable
+ *          Entity). Executions still running are tracked apart from the
+ *          finished outcomes, so they are never evicted; finished outcomes are
+ *          held in a bounded in-memory table for the configured time to live
+ *          and, when persistence is enabled, also in
+ *          the IDEMPOTENCY_KEYS table of the tenant database, so that they
+ *          survive a restart and are shared between instances:
+ *
+ *          CREATE TABLE IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY NVARCHAR(400) NOT
+ *          NULL PRIMARY KEY, FINGERPRINT CHAR(64) NOT NULL, STATUS_CODE INT
+ *          NOT NULL, RESPONSE_BODY NVARCHAR(MAX) NOT NULL, CREATED_DATE_TIME
+ *          DATETIME2 NOT NULL)
+ * @Version : 1.0
+ */
+
+@Component
+public class IdempotencyStore {
+
+	private static final TypeReference<LinkedHashMap<String, Object>> BODY_TYPE =
+			new TypeReference<LinkedHashMap<String, Object>>() {
+			};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectWriter fingerprintWriter;
+
+	private final MeterRegistry meterRegistry;
+
+	/** Executions still running, by tenant and key; guarded by outcomes. */
+	private final Map<String, Outcome> running = new HashMap<>();
+
+	/** Successful outcomes by tenant and key, least recently used first; guarded by itself. */
+	private final Map<String, Outcome> outcomes = new LinkedHashMap<String, Outcome>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Outcome> eldest) {
+			return size() > maxEntries;
+		}
+	};
+
+	@Value("${crud.idempotency.enabled:true}")
+	private boolean enabled;
+
+	@Value("${crud.idempotency.ttl:1h}")
+	private Duration ttl;
+
+	@Value("${crud.idempotency.max-entries:10000}")
+	private int maxEntries;
+
+	@Value("${crud.idempotency.persist:false}")
+	private boolean persist;
+
+	@Autowired
+	public IdempotencyStore(DataSource dataSource, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.objectMapper = objectMapper;
+		this.fingerprintWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Runs a write request once per idempotency key.
+	 *
+	 * @param idempotencyKey
+	 *            The Idempotency-Key header, possibly null.
+	 * @param operation
+	 *            The endpoint, module and action of the request.
+	 * @param body
+	 *            The request body, read before the request runs.
+	 * @param work
+	 *            Starts the request.
+	 * @return The response of the request, or the response of its first
+	 *         execution if the key has been seen before.
+	 */
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> execute(String idempotencyKey, String operation,
+			Object body, Supplier<CompletableFuture<ResponseEntity<Map<String, Object>>>> work) {
+		if (!enabled || idempotencyKey == null || idempotencyKey.trim().isEmpty()) {
+			return work.get();
+		}
+		if (idempotencyKey.length() > AppConstant.IDEMPOTENCY_KEY_MAX_LENGTH) {
+			return CompletableFuture
+					.completedFuture(error(AppConstant.IDEMPOTENCY_KEY_INVALID, HttpStatus.BAD_REQUEST));
+		}
+		String tenantId = TenantContext.current();
+		String key = tenantId + AppConstant.COLON + idempotencyKey.trim();
+		String fingerprint = fingerprint(operation, body);
+
+		Outcome outcome = lookup(key);
+		if (outcome == null && persist) {
+			outcome = load(key);
+		}
+		Outcome started = null;
+		synchronized (outcomes) {
+			Outcome current = current(key);
+			if (current != null) {
+				outcome = current;
+			} else if (outcome != null) {
+				outcomes.put(key, outcome);
+			} else {
+				started = new Outcome(fingerprint);
+				running.put(key, started);
+			}
+		}
+
+		if (started == null) {
+			if (!outcome.fingerprint.equals(fingerprint)) {
+				count(AppConstant.METRIC_RESULT_CONFLICT);
+				return CompletableFuture
+						.completedFuture(error(AppConstant.IDEMPOTENCY_KEY_REUSED, HttpStatus.UNPROCESSABLE_ENTITY));
+			}
+			// A failed first execution is returned as it is; its key is forgotten, so the client may retry
+			return outcome.response.thenApply(response -> {
+				if (!response.getStatusCode().is2xxSuccessful()) {
+					return response;
+				}
+				count(AppConstant.METRIC_RESULT_REPLAYED);
+				return replayed(response);
+			});
+		}
+
+		count(AppConstant.METRIC_RESULT_EXECUTED);
+		Outcome execution = started;
+		CompletableFuture<ResponseEntity<Map<String, Object>>> result;
+		try {
+			result = work.get();
+		} catch (RuntimeException e) {
+			finish(key, execution, false);
+			execution.response.completeExceptionally(e);
+			throw e;
+		}
+		result.whenComplete((response, failure) -> {
+			boolean succeeded = failure == null && response.getStatusCode().is2xxSuccessful();
+			if (succeeded && persist) {
+				TenantContext.runAs(tenantId, () -> save(key, execution.fingerprint, response));
+			}
+			finish(key, execution, succeeded);
+			if (failure != null) {
+				execution.response.completeExceptionally(failure);
+			} else {
+				execution.response.complete(response);
+			}
+		});
+		return result;
+	}
+
+	private Outcome lookup(String key) {
+		synchronized (outcomes) {
+			return current(key);
+		}
+	}
+
+	/**
+	 * Returns the running execution or the unexpired outcome of a key, dropping
+	 * an expired one. Must be called holding the lock of outcomes.
+	 */
+	private Outcome current(String key) {
+		Outcome outcome = running.get(key);
+		if (outcome != null) {
+			return outcome;
+		}
+		outcome = outcomes.get(key);
+		if (outcome != null && outcome.isExpired(ttl)) {
+			outcomes.remove(key);
+			return null;
+		}
+		return outcome;
+	}
+
+	/**
+	 * Ends the execution of a key, keeping its outcome for replay if it
+	 * succeeded. Done before the outcome is completed, so that a duplicate
+	 * arriving afterwards finds the key either replayable or free.
+	 */
+	private void finish(String key, Outcome execution, boolean succeeded) {
+		synchronized (outcomes) {
+			running.remove(key, execution);
+			if (succeeded) {
+				outcomes.put(key, execution);
+			}
+		}
+	}
+
+	/**
+	 * Reads a persisted outcome that has not yet expired.
+	 */
+	private Outcome load(String key) {
+		try {
+			List<Map<String, Object>> rows = jdbcTemplate.queryForList(AppConstant.IDEMPOTENCY_SELECT_QUERY, key);
+			if (rows.isEmpty()) {
+				return null;
+			}
+			Map<String, Object> row = rows.get(0);
+			long createdAt = ((Timestamp) row.get(AppConstant.IDEMPOTENCY_CREATED_COLUMN)).getTime();
+			Outcome outcome = new Outcome((String) row.get(AppConstant.IDEMPOTENCY_FINGERPRINT_COLUMN), createdAt);
+			if (outcome.isExpired(ttl)) {
+				return null;
+			}
+			Map<String, Object> body = objectMapper.readValue((String) row.get(AppConstant.IDEMPOTENCY_BODY_COLUMN),
+					BODY_TYPE);
+			int status = ((Number) row.get(AppConstant.IDEMPOTENCY_STATUS_COLUMN)).intValue();
+			outcome.response.complete(new ResponseEntity<>(body, HttpStatus.valueOf(status)));
+			return outcome;
+		} catch (Exception e) {
+			Logging.error(AppConstant.IDEMPOTENCY_STORE_FAILED, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Persists a successful outcome, replacing an expired one of the same key.
+	 */
+	private void save(String key, String fingerprint, ResponseEntity<Map<String, Object>> response) {
+		try {
+			String body = objectMapper.writeValueAsString(response.getBody());
+			jdbcTemplate.update(AppConstant.IDEMPOTENCY_DELETE_QUERY, key);
+			jdbcTemplate.update(AppConstant.IDEMPOTENCY_INSERT_QUERY, key, fingerprint,
+					response.getStatusCodeValue(), body, new Timestamp(System.currentTimeMillis()));
+		} catch (Exception e) {
+			Logging.error(AppConstant.IDEMPOTENCY_STORE_FAILED, e);
+		}
+	}
+
+	/**
+	 * Hashes the operation and body of a request, with map entries in key
+	 * order so that the same content always gives the same fingerprint.
+	 */
+	private String fingerprint(String operation, Object body) {
+		String content;
+		try {
+			content = operation + AppConstant.COLON + fingerprintWriter.writeValueAsString(body);
+		} catch (JsonProcessingException e) {
+			content = operation + AppConstant.COLON + body;
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance(AppConstant.SHA_256)
+					.digest(content.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ResponseEntity<Map<String, Object>> replayed(ResponseEntity<Map<String, Object>> response) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.putAll(response.getHeaders());
+		headers.set(AppConstant.IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+		return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+	}
+
+	private static ResponseEntity<Map<String, Object>> error(String message, HttpStatus status) {
+		Map<String, Object> response = new HashMap<>();
+		response.put(AppConstant.COMMON_MODULE_ERROR, message);
+		return new ResponseEntity<>(response, status);
+	}
+
+	private void count(String result) {
+		meterRegistry.counter(AppConstant.METRIC_IDEMPOTENCY_REQUESTS, AppConstant.METRIC_TAG_RESULT, result)
+				.increment();
+	}
+
+	/**
+	 * Outcome of the first execution of a key, pending while it runs.
+	 */
+	private static final class Outcome {
+
+		private final String fingerprint;
+
+		private final long createdAt;
+
+		private final CompletableFuture<ResponseEntity<Map<String, Object>>> response = new CompletableFuture<>();
+
+		Outcome(String fingerprint) {
+			this(fingerprint, System.currentTimeMillis());
+		}
+
+		Outcome(String fingerprint, long createdAt) {
+			this.fingerprint = fingerprint;
+			this.createdAt = createdAt;
+		}
+
+		boolean isExpired(Duration ttl) {
+			return System.currentTimeMillis() - createdAt > ttl.toMillis();
+		}
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import com.concerto.crud.common.cache.MasterKeyIndex;
 import com.concerto.crud.common.util.JsonToJavaConverter;
 import com.concerto.crud.common.util.Logging;
 
@@ -27,14 +28,19 @@ public class AppInitializer implements CommandLineRunner {
 
 	/* Field */
 	private final JsonToJavaConverter jsonToJavaConverter;
+	private final MasterKeyIndex masterKeyIndex;
+	private final ModuleFileWatcher moduleFileWatcher;
 	public static Properties props = new Properties();
 	
 
 	/* Constructor */
 
 	@Autowired
-	public AppInitializer(JsonToJavaConverter jsonToJavaConverter) {
+	public AppInitializer(JsonToJavaConverter jsonToJavaConverter, MasterKeyIndex masterKeyIndex,
+			ModuleFileWatcher moduleFileWatcher) {
 		this.jsonToJavaConverter = jsonToJavaConverter;
+		this.masterKeyIndex = masterKeyIndex;
+		this.moduleFileWatcher = moduleFileWatcher;
 		
 	}
 
@@ -48,6 +54,8 @@ public class AppInitializer implements CommandLineRunner {
 			Logging.error("Error while getting file", e);
 		}
 		jsonToJavaConverter.moduleMap();
+		masterKeyIndex.loadAsync();
+		moduleFileWatcher.start();
 
 	}
 
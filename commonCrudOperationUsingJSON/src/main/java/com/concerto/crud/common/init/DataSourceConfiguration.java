@@ -0,0 +1,209 @@
+package com.concerto.crud.common.init;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.tenant.Tenant;
+import com.concerto.crud.common.tenant.TenantDirectory;
+import com.concerto.crud.common.tenant.TenantRoutingDataSource;
+import com.concerto.crud.common.transaction.ConnectionLane;
+import com.concerto.crud.common.transaction.LaneDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.init.DataSourceConfiguration.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:42:12 PM
+ * @Purpose : Splits database access into a write pool and a read pool per
+ *          tenant, each sized and timed out through crud.datasource.write.*
+ *          and crud.datasource.read.* (any Hikari setting). The default tenant
+ *          connects with the spring.datasource settings; other tenants
+ *          override them with crud.tenants.<id>.datasource.* and may override
+ *          pool settings with crud.tenants.<id>.write.* and .read.*. The write
+ *          lane is the primary DataSource, used by the UnitOfWorkManager and
+ *          the DAO transactions; the read lane backs the shared JdbcTemplate.
+ *          Both route to the pools of the tenant of the current request.
+ *          crud.datasource.priority orders the lanes: a lane may borrow from
+ *          the pools of the lanes after it when its own pool is exhausted,
+ *          never from those before it. The read pool must therefore not be
+ *          made read-only while writes may borrow from it. The Hikari
+ *          connection-timeout of a pool is the wait of one attempt on it and is
+ *          kept short, so that an exhausted lane borrows without delay;
+ *          crud.datasource.max-wait.<lane> bounds the total wait of a lane.
+ * @Version : 1.0
+ */
+
+@Configuration
+public class DataSourceConfiguration {
+
+	private final Environment environment;
+
+	private final TenantDirectory tenantDirectory;
+
+	private final MeterRegistry meterRegistry;
+
+	/** Write and read pool of each tenant, created on first use. */
+	private Map<String, HikariDataSource[]> tenantPools;
+
+	@Value("${crud.datasource.priority:WRITE,READ}")
+	private String priority;
+
+	@Autowired
+	public DataSourceConfiguration(Environment environment, TenantDirectory tenantDirectory,
+			MeterRegistry meterRegistry) {
+		this.environment = environment;
+		this.tenantDirectory = tenantDirectory;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(DataSourceProperties properties) {
+		Map<String, HikariDataSource[]> pools = tenantPools(properties);
+		List<HikariDataSource> all = new ArrayList<>();
+		for (HikariDataSource[] tenant : pools.values()) {
+			Collections.addAll(all, tenant);
+		}
+		return new TenantRoutingDataSource(lanes(ConnectionLane.WRITE, pools), all);
+	}
+
+	@Bean
+	public DataSource readDataSource(DataSourceProperties properties) {
+		return new TenantRoutingDataSource(lanes(ConnectionLane.READ, tenantPools(properties)),
+				Collections.<HikariDataSource>emptyList());
+	}
+
+	@Bean
+	@Primary
+	public JdbcTemplate jdbcTemplate(@Qualifier("readDataSource") DataSource readDataSource) {
+		return new JdbcTemplate(readDataSource);
+	}
+
+	private synchronized Map<String, HikariDataSource[]> tenantPools(DataSourceProperties defaultProperties) {
+		if (tenantPools == null) {
+			Binder binder = Binder.get(environment);
+			Map<String, HikariDataSource[]> pools = new LinkedHashMap<>();
+			for (Tenant tenant : tenantDirectory.getTenants()) {
+				String tenantId = tenant.getId();
+				boolean defaultTenant = AppConstant.DEFAULT_TENANT.equals(tenantId);
+				DataSourceProperties properties = defaultTenant ? defaultProperties
+						: tenantProperties(binder, tenantId);
+				HikariDataSource[] tenantPool = new HikariDataSource[ConnectionLane.values().length];
+				for (ConnectionLane lane : ConnectionLane.values()) {
+					tenantPool[lane.ordinal()] = createPool(binder, properties, tenantId, lane);
+				}
+				pools.put(tenantId, tenantPool);
+			}
+			tenantPools = pools;
+		}
+		return tenantPools;
+	}
+
+	/**
+	 * Reads the connection settings of a tenant: the spring.datasource settings
+	 * overridden by crud.tenants.<id>.datasource.
+	 */
+	private static DataSourceProperties tenantProperties(Binder binder, String tenantId) {
+		DataSourceProperties properties = new DataSourceProperties();
+		binder.bind(AppConstant.DATASOURCE_PROPERTY_PREFIX, Bindable.ofInstance(properties));
+		binder.bind(TenantDirectory.prefix(tenantId) + AppConstant.TENANT_DATASOURCE_SUFFIX,
+				Bindable.ofInstance(properties));
+		return properties;
+	}
+
+	/**
+	 * Creates the pool of a tenant lane with the settings of crud.datasource.<lane>,
+	 * overridden for tenants other than the default by crud.tenants.<id>.<lane>.
+	 */
+	private HikariDataSource createPool(Binder binder, DataSourceProperties properties, String tenantId,
+			ConnectionLane lane) {
+		String laneName = lane.name().toLowerCase();
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		binder.bind(AppConstant.POOL_PROPERTY_PREFIX + laneName, Bindable.ofInstance(pool));
+		String poolName = AppConstant.POOL_NAME_PREFIX + laneName;
+		if (!AppConstant.DEFAULT_TENANT.equals(tenantId)) {
+			binder.bind(TenantDirectory.prefix(tenantId) + AppConstant.DOT + laneName, Bindable.ofInstance(pool));
+			poolName += AppConstant.HYPHEN + tenantId;
+		}
+		pool.setPoolName(poolName);
+		pool.setMetricRegistry(meterRegistry);
+		return pool;
+	}
+
+	/**
+	 * Builds the DataSource of a lane for every tenant.
+	 */
+	private Map<String, DataSource> lanes(ConnectionLane lane, Map<String, HikariDataSource[]> pools) {
+		Map<String, DataSource> lanes = new LinkedHashMap<>();
+		long maxWait = environment.getProperty(AppConstant.LANE_MAX_WAIT_PREFIX + lane.name().toLowerCase(),
+				Long.class, AppConstant.DEFAULT_LANE_MAX_WAIT_MS);
+		for (Map.Entry<String, HikariDataSource[]> tenant : pools.entrySet()) {
+			lanes.put(tenant.getKey(), lane(lane, tenant.getValue(), priority, maxWait));
+		}
+		return lanes;
+	}
+
+	/**
+	 * Builds the DataSource of a lane from its own pool and the pools of the
+	 * lanes ranked after it.
+	 */
+	private static LaneDataSource lane(ConnectionLane lane, HikariDataSource[] tenantPool, String priority,
+			long maxWait) {
+		Map<ConnectionLane, DataSource> pools = new EnumMap<>(ConnectionLane.class);
+		for (ConnectionLane poolLane : ConnectionLane.values()) {
+			pools.put(poolLane, tenantPool[poolLane.ordinal()]);
+		}
+
+		List<ConnectionLane> order = priorityOrder(priority);
+		List<DataSource> lanePools = new ArrayList<>();
+		lanePools.add(pools.get(lane));
+		for (int i = order.indexOf(lane) + 1; i > 0 && i < order.size(); i++) {
+			lanePools.add(pools.get(order.get(i)));
+		}
+		return new LaneDataSource(lane, lanePools, maxWait);
+	}
+
+	/**
+	 * Parses the priority order of the lanes. A lane left out of the setting
+	 * only uses its own pool and is never borrowed from, so an empty setting
+	 * turns borrowing off.
+	 *
+	 * @throws IllegalArgumentException
+	 *             If the setting names an unknown lane.
+	 */
+	private static List<ConnectionLane> priorityOrder(String priority) {
+		List<ConnectionLane> order = new ArrayList<>();
+		for (String name : priority.split(AppConstant.COMMA_SPLIT)) {
+			if (!name.trim().isEmpty()) {
+				ConnectionLane lane = ConnectionLane.valueOf(name.trim().toUpperCase());
+				if (!order.contains(lane)) {
+					order.add(lane);
+				}
+			}
+		}
+		return order;
+	}
+}
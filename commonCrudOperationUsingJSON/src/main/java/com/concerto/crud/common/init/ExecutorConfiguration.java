@@ -0,0 +1,82 @@
+package com.concerto.crud.common.init;
+
+import java.util.Collections;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.init.ExecutorConfiguration.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:48:03 PM
+ * @Purpose : Defines the bounded executors the controller hands its work to,
+ *          so that request threads are released while the database is busy.
+ *          Point reads, writes (maker/checker transactions) and exports
+ *          (readAllData) each have their own threads and queue, so fast
+ *          lookups never wait behind long exports or approvals. Pools are
+ *          sized through crud.executor.read.*, .write.* and .export.*
+ *          (core-pool-size, max-pool-size, queue-capacity, keep-alive-seconds);
+ *          a full queue rejects the work instead of growing. Tasks run with the
+ *          tenant and locale of the request that submitted them.
+ * @Version : 1.0
+ */
+
+@Configuration
+public class ExecutorConfiguration {
+
+	private final Environment environment;
+
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public ExecutorConfiguration(Environment environment, MeterRegistry meterRegistry) {
+		this.environment = environment;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor readExecutor() {
+		return createExecutor(AppConstant.READ_EXECUTOR, 16, 200);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor writeExecutor() {
+		return createExecutor(AppConstant.WRITE_EXECUTOR, 8, 100);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor exportExecutor() {
+		return createExecutor(AppConstant.EXPORT_EXECUTOR, 4, 20);
+	}
+
+	/**
+	 * Creates an executor with the given defaults, overridden by
+	 * crud.executor.<name>.*.
+	 */
+	private ThreadPoolTaskExecutor createExecutor(String name, int threads, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		Binder.get(environment).bind(AppConstant.EXECUTOR_PROPERTY_PREFIX + name, Bindable.ofInstance(executor));
+		executor.setThreadNamePrefix(name + AppConstant.EXECUTOR_THREAD_SUFFIX);
+		executor.setTaskDecorator(new RequestContextTaskDecorator());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Collections.emptyList())
+				.bindTo(meterRegistry);
+		return executor;
+	}
+}
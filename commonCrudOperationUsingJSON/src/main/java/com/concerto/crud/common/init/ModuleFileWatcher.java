@@ -0,0 +1,179 @@
+package com.concerto.crud.common.init;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.tenant.Tenant;
+import com.concerto.crud.common.tenant.TenantDirectory;
+import com.concerto.crud.common.util.JsonToJavaConverter;
+import com.concerto.crud.common.util.Logging;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.init.ModuleFileWatcher.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:36:49 PM
+ * @Purpose : Watches the module files of the tenants and reloads the module
+ *          snapshot of a tenant when its file changes, so module changes no
+ *          longer need a restart. The directories of the files are watched on
+ *          a daemon thread; changes are debounced so that an editor writing the
+ *          file in several steps causes one reload, and the reload itself runs
+ *          on the watcher thread, off the request path. A failing reload is
+ *          logged and does not stop the watcher.
+ * @Version : 1.0
+ */
+
+@Component
+public class ModuleFileWatcher {
+
+	private final JsonToJavaConverter jsonToJavaConverter;
+
+	private final TenantDirectory tenantDirectory;
+
+	@Value("${crud.modules.watch.enabled:true}")
+	private boolean enabled;
+
+	@Value("${crud.modules.watch.debounce-ms:500}")
+	private long debounceMillis;
+
+	private volatile WatchService watchService;
+
+	/** Tenants reading each watched module file, by absolute path. */
+	private final Map<Path, List<String>> fileTenants = new HashMap<>();
+
+	@Autowired
+	public ModuleFileWatcher(JsonToJavaConverter jsonToJavaConverter, TenantDirectory tenantDirectory) {
+		this.jsonToJavaConverter = jsonToJavaConverter;
+		this.tenantDirectory = tenantDirectory;
+	}
+
+	/**
+	 * Starts watching the module files of all tenants. Does nothing when
+	 * watching is disabled; a file whose directory cannot be watched is
+	 * skipped.
+	 */
+	public synchronized void start() {
+		if (!enabled || watchService != null) {
+			return;
+		}
+		WatchService service;
+		try {
+			service = FileSystems.getDefault().newWatchService();
+		} catch (IOException e) {
+			Logging.error(AppConstant.MODULE_WATCH_FAILED, e);
+			return;
+		}
+		Set<Path> directories = new HashSet<>();
+		for (Tenant tenant : tenantDirectory.getTenants()) {
+			Path file = Paths.get(tenant.getModuleFile()).toAbsolutePath();
+			try {
+				if (directories.add(file.getParent())) {
+					file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_MODIFY);
+				}
+				fileTenants.computeIfAbsent(file, key -> new ArrayList<>()).add(tenant.getId());
+			} catch (IOException e) {
+				Logging.error(AppConstant.MODULE_WATCH_FAILED + file, e);
+			}
+		}
+		watchService = service;
+		Thread watcher = new Thread(this::watch, AppConstant.MODULE_WATCH_THREAD);
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				Logging.error(AppConstant.MODULE_WATCH_FAILED, e);
+			}
+			watchService = null;
+		}
+	}
+
+	private void watch() {
+		WatchService service = watchService;
+		try {
+			while (true) {
+				Set<Path> changed = new HashSet<>();
+				drain(service.take(), changed);
+				// Wait for the writes to settle, folding further events into this reload
+				WatchKey next;
+				while ((next = service.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+					drain(next, changed);
+				}
+				for (Path file : changed) {
+					for (String tenantId : fileTenants.get(file)) {
+						reload(tenantId);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// Watching has been stopped
+		}
+	}
+
+	/**
+	 * Reloads the modules of a tenant. The reload listeners run on this thread,
+	 * so their failures are caught here to keep the watcher alive for the next
+	 * change.
+	 */
+	private void reload(String tenantId) {
+		try {
+			jsonToJavaConverter.reload(tenantId);
+		} catch (RuntimeException e) {
+			Logging.error(AppConstant.MODULE_RELOAD_ERROR + tenantId, e);
+		}
+	}
+
+	/**
+	 * Adds the watched module files touched by the events of a key to the
+	 * changed files; a lost event counts as a change of every file of the
+	 * directory.
+	 */
+	private void drain(WatchKey key, Set<Path> changed) {
+		Path directory = (Path) key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				for (Path file : fileTenants.keySet()) {
+					if (directory.equals(file.getParent())) {
+						changed.add(file);
+					}
+				}
+			} else {
+				Path file = directory.resolve((Path) event.context());
+				if (fileTenants.containsKey(file)) {
+					changed.add(file);
+				}
+			}
+		}
+		key.reset();
+	}
+}
@@ -0,0 +1,37 @@
+package com.concerto.crud.common.init;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+
+import com.concerto.crud.common.tenant.TenantContext;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.init.RequestContextTaskDecorator.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:48:03 PM
+ * @Purpose : Carries the tenant and locale of the submitting thread over to the
+ *          executor thread running a task, and removes them again once the
+ *          task is done, so that pooled threads never keep the context of an
+ *          earlier request.
+ * @Version : 1.0
+ */
+
+final class RequestContextTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable task) {
+		String tenantId = TenantContext.current();
+		LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		return () -> TenantContext.runAs(tenantId, () -> {
+			LocaleContextHolder.setLocaleContext(localeContext);
+			try {
+				task.run();
+			} finally {
+				LocaleContextHolder.resetLocaleContext();
+			}
+		});
+	}
+}
@@ -1,9 +1,16 @@
 package com.concerto.crud.common.init;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.concerto.crud.common.request.ModuleRequestBodyResolver;
 
 /**
  * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
@@ -15,15 +22,24 @@ import org.springframework.context.support.ResourceBundleMessageSource;
  *          support in a Spring MVC application. This class defines a
  *          MessageSource bean, allowing the application to handle localized
  *          messages. Messages are stored in resource bundles with a base name
- *          "i18n/message_en" for English localization.
+ *          "i18n/message_en" for English localization. It also registers the
+ *          resolver that streams module request bodies into typed rows.
  * @Version : 1.0
  */
 
 @Configuration
-public class WebMVCConfiguration {
+public class WebMVCConfiguration implements WebMvcConfigurer {
 
 	private static MessageSource messageSource;
 
+	@Autowired
+	private ModuleRequestBodyResolver moduleRequestBodyResolver;
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(moduleRequestBodyResolver);
+	}
+
 	@Bean
 	public MessageSource messageSource() {
 		ResourceBundleMessageSource resourceBundleMessageSource = new ResourceBundleMessageSource();
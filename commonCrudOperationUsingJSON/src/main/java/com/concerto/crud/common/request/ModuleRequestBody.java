@@ -0,0 +1,25 @@
+package com.concerto.crud.common.request;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.request.ModuleRequestBody.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:34:25 PM
+ * @Purpose : Marks a Map<String, Object> controller parameter that is read from
+ *          the request body by ModuleRequestReader, using the fields of the
+ *          module named by the moduleName path variable.
+ * @Version : 1.0
+ */
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ModuleRequestBody {
+}
@@ -0,0 +1,64 @@
+package com.concerto.crud.common.request;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.RequestRejectedException;
+import com.concerto.crud.common.util.JsonToJavaConverter;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.request.ModuleRequestBodyResolver.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:34:25 PM
+ * @Purpose : Resolves @ModuleRequestBody parameters by streaming the request
+ *          body through ModuleRequestReader with the module named in the path.
+ * @Version : 1.0
+ */
+
+@Component
+public class ModuleRequestBodyResolver implements HandlerMethodArgumentResolver {
+
+	private final ModuleRequestReader moduleRequestReader;
+
+	@Autowired
+	public ModuleRequestBodyResolver(ModuleRequestReader moduleRequestReader) {
+		this.moduleRequestReader = moduleRequestReader;
+	}
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(ModuleRequestBody.class)
+				&& Map.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws IOException {
+		Map<String, String> pathVariables = (Map<String, String>) webRequest
+				.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		String moduleName = pathVariables == null ? null : pathVariables.get(AppConstant.MODULE_NAME_VARIABLE);
+		Module module = moduleName == null ? null : JsonToJavaConverter.moduleData(moduleName);
+		if (module == null) {
+			throw new RequestRejectedException(AppConstant.MODULE_NAME_INCORRECT);
+		}
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+		return moduleRequestReader.read(request.getInputStream(), module);
+	}
+}
@@ -0,0 +1,270 @@
+package com.concerto.crud.common.request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.bean.FieldIndex;
+import com.concerto.crud.common.bean.Validation;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.RequestRejectedException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.request.ModuleRequestReader.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:34:25 PM
+ * @Purpose : Reads a module request body token by token into TypedRow objects:
+ *          one for the parent fields and one per element of the Beans array.
+ *          Field names are resolved against the module's field index while
+ *          reading, so unknown fields, oversized values and too many rows are
+ *          rejected before the rest of the body is read. A string or number
+ *          may be as long as the maximum of its field's validation, or the
+ *          configured value length when the field sets none. Object and array
+ *          values are streamed too: the whole value counts against that length
+ *          and its nesting against the depth limit. A child row
+ *          does not name its bean and is written to the table of every bean
+ *          of the module, so child fields are resolved against the union of
+ *          the fields of all beans: a field is unknown only if no bean
+ *          declares it.
+ * @Version : 1.0
+ */
+
+@Component
+public class ModuleRequestReader {
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${crud.request.max-value-length:4096}")
+	private int maxValueLength;
+
+	@Value("${crud.request.max-depth:16}")
+	private int maxDepth;
+
+	@Value("${crud.request.max-rows:100000}")
+	private int maxRows;
+
+	@Value("${crud.request.reject-unknown-fields:true}")
+	private boolean rejectUnknownFields;
+
+	@Autowired
+	public ModuleRequestReader(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Reads a request body of the given module.
+	 *
+	 * @param body
+	 *            The request body.
+	 * @param module
+	 *            The module the request belongs to.
+	 * @return The parent row, holding the child rows under Beans.
+	 * @throws RequestRejectedException
+	 *             If the body is malformed or breaks a limit.
+	 */
+	public Map<String, Object> read(InputStream body, Module module) {
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new RequestRejectedException(AppConstant.REQUEST_BODY_NOT_OBJECT);
+			}
+			TypedRow parent = readRow(parser, module.getFieldIndex(), module, -1);
+			if (parser.nextToken() != null) {
+				throw new RequestRejectedException(AppConstant.REQUEST_BODY_TRAILING_CONTENT);
+			}
+			return parent;
+		} catch (JsonParseException e) {
+			throw new RequestRejectedException(AppConstant.REQUEST_BODY_MALFORMED, e);
+		} catch (IOException e) {
+			throw new RequestRejectedException(AppConstant.REQUEST_BODY_UNREADABLE, e);
+		}
+	}
+
+	/**
+	 * Reads the object the parser is positioned at. For the parent row (row
+	 * -1), the Beans array is read into child rows.
+	 */
+	private TypedRow readRow(JsonParser parser, FieldIndex index, Module module, int row) throws IOException {
+		TypedRow typedRow = new TypedRow(index);
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			if (row < 0 && AppConstant.BEANS.equals(name)) {
+				typedRow.put(AppConstant.BEANS, readRows(parser, token, module));
+				continue;
+			}
+			int ordinal = index.resolve(name);
+			if (ordinal < 0) {
+				if (rejectUnknownFields) {
+					throw new RequestRejectedException(
+							String.format(AppConstant.REQUEST_UNKNOWN_FIELD, location(row, name)));
+				}
+				typedRow.put(name, readValue(parser, token, new ValueLimit(location(row, name), maxValueLength)));
+			} else {
+				ValueLimit limit = new ValueLimit(location(row, name), maxLength(index, ordinal));
+				typedRow.set(ordinal, readValue(parser, token, limit));
+			}
+		}
+		return typedRow;
+	}
+
+	/**
+	 * Reads the Beans array into child rows, resolving their fields against the
+	 * union of the fields of the module's beans.
+	 */
+	private List<Map<String, Object>> readRows(JsonParser parser, JsonToken token, Module module)
+			throws IOException {
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (token != JsonToken.START_ARRAY) {
+			throw new RequestRejectedException(String.format(AppConstant.REQUEST_FIELD_NOT_ARRAY, AppConstant.BEANS));
+		}
+		if (module.getRowIndex() == null) {
+			throw new RequestRejectedException(String.format(AppConstant.REQUEST_UNKNOWN_FIELD, AppConstant.BEANS));
+		}
+		List<Map<String, Object>> rows = new ArrayList<>();
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (token != JsonToken.START_OBJECT) {
+				throw new RequestRejectedException(
+						String.format(AppConstant.REQUEST_ROW_NOT_OBJECT, AppConstant.BEANS, rows.size()));
+			}
+			if (rows.size() >= maxRows) {
+				throw new RequestRejectedException(String.format(AppConstant.REQUEST_TOO_MANY_ROWS, maxRows));
+			}
+			rows.add(readRow(parser, module.getRowIndex(), module, rows.size()));
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns the longest accepted value of a field: the maximum of its
+	 * validation when set, the configured value length otherwise.
+	 */
+	private int maxLength(FieldIndex index, int ordinal) {
+		Validation validation = index.field(ordinal).getValidation();
+		return validation != null && validation.getMaximum() > 0 ? validation.getMaximum() : maxValueLength;
+	}
+
+	/**
+	 * Reads a value the way untyped Jackson binding would: strings, Integer,
+	 * Long or BigInteger, Double, Boolean and null. Objects and arrays are
+	 * bound to maps and lists. Strings and numbers are checked against the
+	 * length limit before they are converted.
+	 */
+	private Object readValue(JsonParser parser, JsonToken token, ValueLimit limit) throws IOException {
+		switch (token) {
+		case VALUE_STRING:
+			checkLength(parser, limit);
+			return parser.getText();
+		case VALUE_NUMBER_INT:
+			checkLength(parser, limit);
+			return parser.getNumberValue();
+		case VALUE_NUMBER_FLOAT:
+			checkLength(parser, limit);
+			return parser.getDoubleValue();
+		case VALUE_TRUE:
+			return Boolean.TRUE;
+		case VALUE_FALSE:
+			return Boolean.FALSE;
+		case VALUE_NULL:
+			return null;
+		case START_OBJECT:
+		case START_ARRAY:
+			return readNested(parser, token, limit, 1);
+		default:
+			throw new RequestRejectedException(AppConstant.REQUEST_BODY_MALFORMED);
+		}
+	}
+
+	/**
+	 * Reads the object or array the parser is positioned at. Every name, string
+	 * and number takes its length from the remaining length of the value, and
+	 * every other token one character, so that a value is limited as a whole
+	 * rather than per string.
+	 */
+	private Object readNested(JsonParser parser, JsonToken token, ValueLimit limit, int depth) throws IOException {
+		if (depth > maxDepth) {
+			throw new RequestRejectedException(
+					String.format(AppConstant.REQUEST_VALUE_TOO_DEEP, limit.location, maxDepth));
+		}
+		consume(parser, limit);
+		if (token == JsonToken.START_OBJECT) {
+			Map<String, Object> value = new LinkedHashMap<>();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String key = parser.getCurrentName();
+				consume(parser, limit);
+				value.put(key, readElement(parser, parser.nextToken(), limit, depth));
+			}
+			return value;
+		}
+		List<Object> value = new ArrayList<>();
+		JsonToken element;
+		while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+			value.add(readElement(parser, element, limit, depth));
+		}
+		return value;
+	}
+
+	private Object readElement(JsonParser parser, JsonToken token, ValueLimit limit, int depth) throws IOException {
+		if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+			return readNested(parser, token, limit, depth + 1);
+		}
+		consume(parser, limit);
+		return readValue(parser, token, limit);
+	}
+
+	private static void checkLength(JsonParser parser, ValueLimit limit) throws IOException {
+		if (parser.getTextLength() > limit.maxLength) {
+			throw tooLong(limit);
+		}
+	}
+
+	private static void consume(JsonParser parser, ValueLimit limit) throws IOException {
+		limit.remaining -= Math.max(1, parser.getTextLength());
+		if (limit.remaining < 0) {
+			throw tooLong(limit);
+		}
+	}
+
+	private static RequestRejectedException tooLong(ValueLimit limit) {
+		return new RequestRejectedException(
+				String.format(AppConstant.REQUEST_VALUE_TOO_LONG, limit.location, limit.maxLength));
+	}
+
+	private static String location(int row, String name) {
+		return row < 0 ? name : AppConstant.BEANS + '[' + row + "]." + name;
+	}
+
+	/**
+	 * The length limit of one field value and what is left of it while the
+	 * value is read.
+	 */
+	private static final class ValueLimit {
+
+		private final String location;
+
+		private final int maxLength;
+
+		private int remaining;
+
+		private ValueLimit(String location, int maxLength) {
+			this.location = location;
+			this.maxLength = maxLength;
+			this.remaining = maxLength;
+		}
+	}
+}
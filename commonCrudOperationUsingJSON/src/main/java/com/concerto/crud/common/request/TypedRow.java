@@ -0,0 +1,248 @@
+package com.concerto.crud.common.request;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.concerto.crud.common.bean.FieldIndex;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.request.TypedRow.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:34:25 PM
+ * @Purpose : Compact row of a module or child bean. Values of the declared
+ *          fields are held in an array by field position; keys added later by
+ *          the service (status, workflow parts, remarks) go to a small side map.
+ *          The row behaves as an ordinary mutable Map, so it can be handed to
+ *          code written against Map<String, Object>.
+ * @Version : 1.0
+ */
+
+public final class TypedRow extends AbstractMap<String, Object> {
+
+	private static final Object ABSENT = new Object();
+
+	private final FieldIndex index;
+
+	private final Object[] values;
+
+	private Map<String, Object> extras;
+
+	private int size;
+
+	public TypedRow(FieldIndex index) {
+		this.index = index;
+		this.values = new Object[index.size()];
+		Arrays.fill(values, ABSENT);
+	}
+
+	private TypedRow(TypedRow source) {
+		this.index = source.index;
+		this.values = source.values.clone();
+		this.size = source.size;
+		if (source.extras != null) {
+			this.extras = new LinkedHashMap<>(source.extras);
+		}
+	}
+
+	/**
+	 * Returns a copy of this row without the given key. Only the value array is
+	 * copied, the values themselves are shared.
+	 *
+	 * @param key
+	 *            The key to leave out.
+	 * @return The copy.
+	 */
+	public TypedRow copyWithout(String key) {
+		TypedRow copy = new TypedRow(this);
+		copy.remove(key);
+		return copy;
+	}
+
+	/**
+	 * Sets the value of a declared field by position.
+	 *
+	 * @param ordinal
+	 *            The position of the field in the index.
+	 * @param value
+	 *            The value, possibly null.
+	 */
+	public void set(int ordinal, Object value) {
+		if (values[ordinal] == ABSENT) {
+			size++;
+		}
+		values[ordinal] = value;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if (key instanceof String) {
+			int ordinal = index.ordinal((String) key);
+			if (ordinal >= 0) {
+				Object value = values[ordinal];
+				return value == ABSENT ? null : value;
+			}
+		}
+		return extras == null ? null : extras.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (key instanceof String) {
+			int ordinal = index.ordinal((String) key);
+			if (ordinal >= 0) {
+				return values[ordinal] != ABSENT;
+			}
+		}
+		return extras != null && extras.containsKey(key);
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		int ordinal = index.ordinal(key);
+		if (ordinal >= 0) {
+			Object previous = values[ordinal];
+			set(ordinal, value);
+			return previous == ABSENT ? null : previous;
+		}
+		if (extras == null) {
+			extras = new LinkedHashMap<>(4);
+		}
+		if (!extras.containsKey(key)) {
+			size++;
+		}
+		return extras.put(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if (key instanceof String) {
+			int ordinal = index.ordinal((String) key);
+			if (ordinal >= 0) {
+				Object previous = values[ordinal];
+				if (previous == ABSENT) {
+					return null;
+				}
+				values[ordinal] = ABSENT;
+				size--;
+				return previous;
+			}
+		}
+		if (extras == null || !extras.containsKey(key)) {
+			return null;
+		}
+		size--;
+		return extras.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(values, ABSENT);
+		extras = null;
+		size = 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<Entry<String, Object>>() {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Iterates the declared fields in field order, then the added keys in the
+	 * order they were added.
+	 */
+	private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+		private int next = advance(0);
+
+		private int current = -1;
+
+		private Iterator<Entry<String, Object>> extraIterator;
+
+		private boolean inExtras;
+
+		private int advance(int from) {
+			int position = from;
+			while (position < values.length && values[position] == ABSENT) {
+				position++;
+			}
+			return position;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next < values.length) {
+				return true;
+			}
+			if (extraIterator == null) {
+				extraIterator = extras == null ? null : extras.entrySet().iterator();
+				if (extraIterator == null) {
+					return false;
+				}
+			}
+			return extraIterator.hasNext();
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (next < values.length) {
+				inExtras = false;
+				current = next;
+				next = advance(next + 1);
+				final int ordinal = current;
+				return new SimpleEntry<String, Object>(index.name(ordinal), values[ordinal]) {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					public Object setValue(Object value) {
+						values[ordinal] = value;
+						return super.setValue(value);
+					}
+				};
+			}
+			inExtras = true;
+			return extraIterator.next();
+		}
+
+		@Override
+		public void remove() {
+			if (inExtras) {
+				extraIterator.remove();
+				size--;
+				return;
+			}
+			if (current < 0 || values[current] == ABSENT) {
+				throw new IllegalStateException();
+			}
+			values[current] = ABSENT;
+			size--;
+		}
+	}
+}
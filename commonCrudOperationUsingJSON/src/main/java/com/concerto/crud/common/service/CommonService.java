@@ -26,9 +26,10 @@ public interface CommonService {
 
 	List<Map<String, Object>> getAllData(String moduleName);
 
-	Map<String, Object> doCUDprocess(Map<String, Object> requestBody, String moduleName, String request);
+	Map<String, Object> doCUDprocess(Map<String, Object> requestBody, String moduleName, String request,
+			String validationMode);
 
 	Map<String, Object> doApproveOrReject(Map<String, Object> requestBody, String moduleName, String action);
 
-	Map<String, Object> doRectify(Map<String, Object> requestBody, String moduleName);
+	Map<String, Object> doRectify(Map<String, Object> requestBody, String moduleName, String validationMode);
 }
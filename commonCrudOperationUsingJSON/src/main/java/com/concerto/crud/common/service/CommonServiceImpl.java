@@ -1,21 +1,30 @@
 package com.concerto.crud.common.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.concerto.crud.common.bean.Bean;
 import com.concerto.crud.common.bean.Entity;
 import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.FieldIndex;
 import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.cache.MasterKeyIndex;
 import com.concerto.crud.common.constant.AppConstant;
 import com.concerto.crud.common.dao.CommonDAO;
+import com.concerto.crud.common.exception.ServiceOverloadedException;
 import com.concerto.crud.common.init.AppInitializer;
+import com.concerto.crud.common.request.TypedRow;
+import com.concerto.crud.common.transaction.StripedKeyLock;
+import com.concerto.crud.common.transaction.UnitOfWorkManager;
 import com.concerto.crud.common.util.JsonToJavaConverter;
 import com.concerto.crud.common.util.Logging;
 import com.concerto.crud.common.validationservice.ValidationService;
@@ -43,6 +52,18 @@ public class CommonServiceImpl implements CommonService {
 	@Autowired
 	private ValidationService validationService;
 
+	@Autowired
+	private UnitOfWorkManager unitOfWorkManager;
+
+	@Autowired
+	private StripedKeyLock keyLock;
+
+	@Autowired
+	private MasterKeyIndex masterKeyIndex;
+
+	@Value("${crud.pending.detection.mode:query}")
+	private String pendingDetectionMode;
+
 	private static Properties configProperties = AppInitializer.getProps();
 
 	/**
@@ -62,27 +83,26 @@ public class CommonServiceImpl implements CommonService {
 	public List<Map<String, Object>> getData(String fieldName, Object value, String moduleName) {
 		Module module = JsonToJavaConverter.moduleData(moduleName);
 		List<Map<String, Object>> response = new ArrayList<>();
-		List<String> primaryFields = JsonToJavaConverter.getPrimaryfields(moduleName);
 
 		try {
-
-			for (String field : primaryFields) {
-				if (field.equals(fieldName)) {
-					List<Map<String, Object>> dataRetrieve = commonDAO.executeGetData(fieldName, value, module);
-					if (!dataRetrieve.isEmpty()) {
-						return dataRetrieve;
-					} else {
-						Map<String, Object> message = new HashMap<>();
-						message.put(AppConstant.COMMON_MODULE_MESSAGE, AppConstant.DATA_NOT_AVAILABLE);
-						response.add(message);
-						return response;
-					}
+			FieldIndex index = module.getFieldIndex();
+			int ordinal = index.resolve(fieldName);
+			if (ordinal >= 0 && index.field(ordinal).isPrimaryKey()) {
+				List<Map<String, Object>> dataRetrieve = commonDAO.executeGetData(index.name(ordinal), value, module);
+				if (!dataRetrieve.isEmpty()) {
+					return dataRetrieve;
+				} else {
+					Map<String, Object> message = new HashMap<>();
+					message.put(AppConstant.COMMON_MODULE_MESSAGE, AppConstant.DATA_NOT_AVAILABLE);
+					response.add(message);
+					return response;
 				}
 			}
 			Map<String, Object> message = new HashMap<>();
 			message.put(AppConstant.COMMON_MODULE_MESSAGE, AppConstant.NOT_PRIMARY_KEY);
 			response.add(message);
 		} catch (Exception e) {
+			ServiceOverloadedException.rethrowIfOverloaded(e);
 			Logging.error(AppConstant.DATA_READING_ERROR, e);
 		}
 		return response;
@@ -119,19 +139,23 @@ public class CommonServiceImpl implements CommonService {
 	 * @param request
 	 *            The type of CUD operation to be executed (create, update, or
 	 *            delete).
+	 * @param validationMode
+	 *            The validation mode, or null for the configured default.
 	 * @return A map with the result of the CUD operation or an error message if the
 	 *         operation fails.
 	 */
 	@Override
-	public Map<String, Object> doCUDprocess(Map<String, Object> requestBody, String moduleName, String request) {
+	public Map<String, Object> doCUDprocess(Map<String, Object> requestBody, String moduleName, String request,
+			String validationMode) {
 		Map<String, Object> result = new HashMap<>();
-		String response = null;
+		String response;
 		Module module = JsonToJavaConverter.moduleData(moduleName);
-		Map<String, String> validationResult = validationService.checkValidation(module, requestBody);
+		Map<String, String> validationResult = validationService.checkValidation(module, requestBody,
+				validationMode);
 		List<Field> fields = module.getFields();
 
 		if (!validationResult.isEmpty()) {
-			return new HashMap<>(validationResult);
+			return new LinkedHashMap<>(validationResult);
 		}
 		if (AppConstant.TRANSACTION_WORKFLOW.equalsIgnoreCase(moduleName)) {
 			boolean containsWorkflowDescription = false;
@@ -157,19 +181,22 @@ public class CommonServiceImpl implements CommonService {
 		}
 		List<Bean> beanList = module.getBeans();
 
-		response = (beanList != null) ? handleCUDWithBeans(requestBody, module, request)
-				: handleCUDWithoutBeans(requestBody, module, request);
+		response = keyLock.withLock(module, requestBody,
+				() -> unitOfWorkManager.executeGrouped(module.getEntityName(), () -> (beanList != null)
+						? handleCUDWithBeans(requestBody, module, request)
+						: handleCUDWithoutBeans(requestBody, module, request)));
 		result.put(AppConstant.COMMON_MODULE_MESSAGE,
 				AppConstant.SUCCESS.equals(response) ? AppConstant.ADDED_FOR_APPROVAL + request : response);
 		return result;
 	}
 
 	private String handleCUDWithoutBeans(Map<String, Object> requestBody, Module module, String request) {
+		if (isConstraintDetection()) {
+			return commonDAO.doConstrainedCUDOperations(requestBody, null, module, request);
+		}
 		String response = doCUDprocessForBean(requestBody, module, request);
-		boolean result = false;
 		if (AppConstant.SUCCESS.equals(response)) {
-			result = commonDAO.doCUDOperations(requestBody, null, module, request);
-			response = result ? AppConstant.SUCCESS : AppConstant.DATA_INSERTION_FAILED;
+			response = commonDAO.doCUDOperations(requestBody, null, module, request);
 		}
 		return response;
 	}
@@ -191,6 +218,9 @@ public class CommonServiceImpl implements CommonService {
 		Map<String, Object> parentBody = extractParentFields(requestBody);
 		List<Map<String, Object>> beanData = extractBeanList(requestBody);
 
+		if (isConstraintDetection()) {
+			return commonDAO.doConstrainedCUDOperations(parentBody, beanData, module, request);
+		}
 		String response = doCUDprocessForBean(parentBody, module, request);
 		if (AppConstant.SUCCESS.equals(response)) {
 			List<Bean> beanList = module.getBeans();
@@ -200,8 +230,7 @@ public class CommonServiceImpl implements CommonService {
 					response = doCUDprocessForBean(childBody, bean, request);
 				}
 				if (AppConstant.SUCCESS.equals(response)) {
-					boolean result = commonDAO.doCUDOperations(parentBody, beanData, module, request);
-					response = result ? AppConstant.SUCCESS : AppConstant.DATA_INSERTION_FAILED;
+					response = commonDAO.doCUDOperations(parentBody, beanData, module, request);
 				}
 			}
 		}
@@ -209,6 +238,16 @@ public class CommonServiceImpl implements CommonService {
 
 	}
 
+	/**
+	 * Checks whether pending and existing data is detected through database
+	 * constraints instead of SELECT queries issued before the insert.
+	 *
+	 * @return True if the constraint-driven mode is configured.
+	 */
+	private boolean isConstraintDetection() {
+		return AppConstant.PENDING_DETECTION_CONSTRAINT.equalsIgnoreCase(pendingDetectionMode);
+	}
+
 	/**
 	 * Handles CUD operations for a specific bean in the provided data and entity.
 	 *
@@ -228,8 +267,10 @@ public class CommonServiceImpl implements CommonService {
 		try {
 			List<Map<String, Object>> tempResult = commonDAO.getById(entityName + AppConstant.TEMP_TABLE_SUFFIX,
 					requestBody, isSubBean);
-			List<Map<String, Object>> masterResult = commonDAO.getById(entityName + AppConstant.MASTER_TABLE_SUFFIX,
-					requestBody, isSubBean);
+			// A key the master index has never seen cannot be in the master table
+			List<Map<String, Object>> masterResult = AppConstant.ADD.equalsIgnoreCase(request)
+					&& !masterKeyIndex.mightContain(entity, requestBody) ? Collections.emptyList()
+							: commonDAO.getById(entityName + AppConstant.MASTER_TABLE_SUFFIX, requestBody, isSubBean);
 			if (!tempResult.isEmpty()) {
 				response = AppConstant.APPROVAL_PENDING;
 			} else if (!masterResult.isEmpty() && AppConstant.ADD.equalsIgnoreCase(request)) {
@@ -241,6 +282,7 @@ public class CommonServiceImpl implements CommonService {
 				response = AppConstant.SUCCESS;
 			}
 		} catch (Exception e) {
+			ServiceOverloadedException.rethrowIfOverloaded(e);
 			Logging.error(AppConstant.DATA_INSERTION_FAILED, e);
 		}
 		return response;
@@ -264,6 +306,26 @@ public class CommonServiceImpl implements CommonService {
 	 */
 	@Override
 	public Map<String, Object> doApproveOrReject(Map<String, Object> requestBody, String entityName, String action) {
+		Module module = JsonToJavaConverter.moduleData(entityName);
+		return keyLock.withLock(module, requestBody,
+				() -> unitOfWorkManager.execute(() -> approveOrReject(requestBody, entityName, action)));
+	}
+
+	/**
+	 * Performs approval or rejection inside the unit of work opened by
+	 * {@link #doApproveOrReject(Map, String, String)}.
+	 *
+	 * @param requestBody
+	 *            A map containing the necessary input data for approval or
+	 *            rejection.
+	 * @param entityName
+	 *            The name of the module for which approval or rejection is
+	 *            performed.
+	 * @param action
+	 *            The action to be performed (approve or reject).
+	 * @return A map with the result of the approval or rejection.
+	 */
+	private Map<String, Object> approveOrReject(Map<String, Object> requestBody, String entityName, String action) {
 		Map<String, Object> response = new HashMap<>();
 		Module module = JsonToJavaConverter.moduleData(entityName);
 		boolean result = false;
@@ -277,7 +339,7 @@ public class CommonServiceImpl implements CommonService {
 				return response;
 			}
 
-			Map<String, Object> data = dataList.get(0);
+			Map<String, Object> data = module.getFieldIndex().normalise(dataList.get(0));
 
 			if (AppConstant.DELETE.equalsIgnoreCase(data.get(AppConstant.REQUEST).toString())
 					&& AppConstant.RECTIFY.equalsIgnoreCase(action)) {
@@ -303,6 +365,9 @@ public class CommonServiceImpl implements CommonService {
 					String beanName = bean.getEntityName();
 					List<Map<String, Object>> subBeanData = commonDAO.getById(beanName + AppConstant.TEMP_TABLE_SUFFIX,
 							requestBody, true);
+					for (Map<String, Object> row : subBeanData) {
+						bean.getFieldIndex().normalise(row);
+					}
 					combinedData.put(AppConstant.BEAN_DATA, subBeanData);
 					result = executeApproveOrRejectAction(module, action, combinedData);
 
@@ -316,6 +381,7 @@ public class CommonServiceImpl implements CommonService {
 				response.put(AppConstant.COMMON_MODULE_MESSAGE, action + AppConstant.ACTION_FAILED);
 			}
 		} catch (Exception e) {
+			ServiceOverloadedException.rethrowIfOverloaded(e);
 			Logging.error(action + AppConstant.ACTION_FAILED, e);
 		}
 
@@ -385,6 +451,7 @@ public class CommonServiceImpl implements CommonService {
 				return update && tempDelete;
 			}
 		} catch (Exception e) {
+			ServiceOverloadedException.rethrowIfOverloaded(e);
 			Logging.error(action + AppConstant.ACTION_FAILED, e);
 		}
 		return false;
@@ -399,6 +466,10 @@ public class CommonServiceImpl implements CommonService {
 	 */
 	@SuppressWarnings("unchecked")
 	public List<Map<String, Object>> extractBeanList(Map<String, Object> requestBody) {
+		if (requestBody instanceof TypedRow) {
+			List<Map<String, Object>> rows = (List<Map<String, Object>>) requestBody.get(AppConstant.BEANS);
+			return rows == null ? new ArrayList<>() : rows;
+		}
 		List<Map<String, Object>> beanList = new ArrayList<>();
 
 		for (Map.Entry<String, Object> entry : requestBody.entrySet()) {
@@ -420,6 +491,9 @@ public class CommonServiceImpl implements CommonService {
 	 * @return A map containing the parent fields.
 	 */
 	public Map<String, Object> extractParentFields(Map<String, Object> requestBody) {
+		if (requestBody instanceof TypedRow) {
+			return ((TypedRow) requestBody).copyWithout(AppConstant.BEANS);
+		}
 		Map<String, Object> parentFields = new HashMap<>();
 
 		for (Map.Entry<String, Object> entry : requestBody.entrySet()) {
@@ -440,20 +514,40 @@ public class CommonServiceImpl implements CommonService {
 	 *            The request body containing data for rectification.
 	 * @param moduleName
 	 *            The name of the module to which the request belongs.
+	 * @param validationMode
+	 *            The validation mode, or null for the configured default.
 	 * @return A map containing the overall rectification response and status
 	 *         message.
 	 */
 	@Override
-	public Map<String, Object> doRectify(Map<String, Object> requestBody, String moduleName) {
-		Map<String, Object> response = new HashMap<>();
+	public Map<String, Object> doRectify(Map<String, Object> requestBody, String moduleName, String validationMode) {
 		Module module = JsonToJavaConverter.moduleData(moduleName);
-		boolean result = false;
-		List<Bean> beans = module.getBeans();
-		Map<String, String> validationResult = validationService.checkValidation(module, requestBody);
+		Map<String, String> validationResult = validationService.checkValidation(module, requestBody,
+				validationMode);
 
 		if (!validationResult.isEmpty()) {
-			return new HashMap<>(validationResult);
+			return new LinkedHashMap<>(validationResult);
 		}
+		return keyLock.withLock(module, requestBody,
+				() -> unitOfWorkManager.execute(() -> rectify(requestBody, module)));
+	}
+
+	/**
+	 * Performs rectification inside the unit of work opened by
+	 * {@link #doRectify(Map, String, String)}.
+	 *
+	 * @param requestBody
+	 *            The request body containing data for rectification.
+	 * @param module
+	 *            The module to which the request belongs.
+	 * @return A map containing the overall rectification response and status
+	 *         message.
+	 */
+	private Map<String, Object> rectify(Map<String, Object> requestBody, Module module) {
+		Map<String, Object> response = new HashMap<>();
+		String moduleName = module.getEntityName();
+		boolean result = false;
+		List<Bean> beans = module.getBeans();
 		try {
 			List<Map<String, Object>> dataList = commonDAO.getById(moduleName + AppConstant.TEMP_TABLE_SUFFIX,
 					requestBody, false);
@@ -461,7 +555,7 @@ public class CommonServiceImpl implements CommonService {
 				response.put(AppConstant.COMMON_MODULE_MESSAGE, AppConstant.NO_REQUEST_PENDING_TO_RECTIFY);
 				return response;
 			}
-			Map<String, Object> data = dataList.get(0);
+			Map<String, Object> data = module.getFieldIndex().normalise(dataList.get(0));
 			Map<String, Object> dataFromTemp = new HashMap<>();
 			dataFromTemp.put(AppConstant.PARENT_DATA, data);
 			if (AppConstant.PENDING.equalsIgnoreCase(data.get(AppConstant.STATUS).toString())) {
@@ -479,6 +573,7 @@ public class CommonServiceImpl implements CommonService {
 
 			}
 		} catch (Exception e) {
+			ServiceOverloadedException.rethrowIfOverloaded(e);
 			Logging.error(AppConstant.ERROR_WHILE_RECTIFYING, e);
 		}
 		return response;
@@ -523,6 +618,7 @@ public class CommonServiceImpl implements CommonService {
 				return response;
 			}
 		} catch (Exception e) {
+			ServiceOverloadedException.rethrowIfOverloaded(e);
 			Logging.error(AppConstant.ERROR_WHILE_RECTIFYING, e);
 		}
 		return response;
@@ -0,0 +1,37 @@
+package com.concerto.crud.common.tenant;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.tenant.Tenant.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:46:25 PM
+ * @Purpose : Represents a configured tenant: its id, as sent in the tenant
+ *          header, and the module file its module registry is read from.
+ * @Version : 1.0
+ */
+
+public class Tenant {
+
+	private final String id;
+
+	private final String moduleFile;
+
+	public Tenant(String id, String moduleFile) {
+		this.id = id;
+		this.moduleFile = moduleFile;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getModuleFile() {
+		return moduleFile;
+	}
+
+	@Override
+	public String toString() {
+		return "Tenant [id=" + id + ", moduleFile=" + moduleFile + "]";
+	}
+}
@@ -0,0 +1,63 @@
+package com.concerto.crud.common.tenant;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.tenant.TenantContext.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:46:25 PM
+ * @Purpose : Holds the tenant the current thread works for. The tenant decides
+ *          which database, module registry and caches are used. Threads that
+ *          have not been given a tenant work for the default tenant.
+ * @Version : 1.0
+ */
+
+public final class TenantContext {
+
+	private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+	private TenantContext() {
+	}
+
+	/**
+	 * Returns the tenant of the current thread.
+	 *
+	 * @return The tenant id, or the default tenant id if none is set.
+	 */
+	public static String current() {
+		String tenantId = CURRENT.get();
+		return tenantId == null ? AppConstant.DEFAULT_TENANT : tenantId;
+	}
+
+	public static void set(String tenantId) {
+		CURRENT.set(tenantId);
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Runs an action for a tenant and restores the previous tenant afterwards.
+	 *
+	 * @param tenantId
+	 *            The tenant to run the action for.
+	 * @param action
+	 *            The action to run.
+	 */
+	public static void runAs(String tenantId, Runnable action) {
+		String previous = CURRENT.get();
+		CURRENT.set(tenantId);
+		try {
+			action.run();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+}
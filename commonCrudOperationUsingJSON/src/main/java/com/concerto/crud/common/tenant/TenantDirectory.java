@@ -0,0 +1,77 @@
+package com.concerto.crud.common.tenant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.tenant.TenantDirectory.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:46:25 PM
+ * @Purpose : Lists the tenants served by this process. The default tenant is
+ *          always present and uses the spring.datasource settings and the
+ *          module file of input.json.file.path. Further tenants are named in
+ *          crud.tenants.ids, and each reads its settings from
+ *          crud.tenants.<id>.*; a tenant without its own module file shares
+ *          the module file of the default tenant.
+ * @Version : 1.0
+ */
+
+@Component
+public class TenantDirectory {
+
+	private final Map<String, Tenant> tenants;
+
+	@Autowired
+	public TenantDirectory(Environment environment) {
+		String defaultModuleFile = environment.getRequiredProperty(AppConstant.MODULE_FILE_PROPERTY);
+		Map<String, Tenant> configured = new LinkedHashMap<>();
+		configured.put(AppConstant.DEFAULT_TENANT, new Tenant(AppConstant.DEFAULT_TENANT, defaultModuleFile));
+		for (String id : environment.getProperty(AppConstant.TENANT_IDS_PROPERTY, "").split(AppConstant.COMMA_SPLIT)) {
+			String tenantId = id.trim();
+			if (tenantId.isEmpty() || configured.containsKey(tenantId)) {
+				continue;
+			}
+			if (!tenantId.matches(AppConstant.TENANT_ID_PATTERN)) {
+				throw new IllegalStateException(String.format(AppConstant.TENANT_ID_INVALID, tenantId));
+			}
+			String moduleFile = environment.getProperty(prefix(tenantId) + AppConstant.TENANT_MODULE_FILE_SUFFIX,
+					defaultModuleFile);
+			configured.put(tenantId, new Tenant(tenantId, moduleFile));
+		}
+		this.tenants = Collections.unmodifiableMap(configured);
+	}
+
+	/**
+	 * Returns the property prefix of a tenant's settings.
+	 *
+	 * @param tenantId
+	 *            The tenant id.
+	 * @return The prefix, such as crud.tenants.sub.
+	 */
+	public static String prefix(String tenantId) {
+		return AppConstant.TENANT_PROPERTY_PREFIX + tenantId;
+	}
+
+	public boolean contains(String tenantId) {
+		return tenants.containsKey(tenantId);
+	}
+
+	public Tenant get(String tenantId) {
+		return tenants.get(tenantId);
+	}
+
+	public List<Tenant> getTenants() {
+		return new ArrayList<>(tenants.values());
+	}
+}
@@ -0,0 +1,70 @@
+package com.concerto.crud.common.tenant;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.tenant.TenantFilter.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:46:25 PM
+ * @Purpose : Selects the tenant of a request from the X-Tenant-ID header and
+ *          binds it to the request thread for the rest of the filter chain.
+ *          Requests without the header are served for the default tenant;
+ *          requests naming an unknown tenant are answered with a 404 (Not
+ *          Found) status. Runs ahead of the ModuleFilter, so that the module
+ *          lookup and admission already see the tenant.
+ * @Version : 1.0
+ */
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TenantFilter implements Filter {
+
+	private final TenantDirectory tenantDirectory;
+
+	@Autowired
+	public TenantFilter(TenantDirectory tenantDirectory) {
+		this.tenantDirectory = tenantDirectory;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
+			throws IOException, ServletException {
+		String tenantId = ((HttpServletRequest) request).getHeader(AppConstant.TENANT_HEADER);
+		if (tenantId == null || tenantId.trim().isEmpty()) {
+			tenantId = AppConstant.DEFAULT_TENANT;
+		}
+		tenantId = tenantId.trim();
+		if (!tenantDirectory.contains(tenantId)) {
+			HttpServletResponse httpResponse = (HttpServletResponse) response;
+			httpResponse.setStatus(HttpStatus.NOT_FOUND.value());
+			httpResponse.setContentType(AppConstant.CONTENT_TYPE);
+			response.getWriter().write(AppConstant.TENANT_NOT_FOUND);
+			response.getWriter().flush();
+			return;
+		}
+		TenantContext.set(tenantId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			TenantContext.clear();
+		}
+	}
+}
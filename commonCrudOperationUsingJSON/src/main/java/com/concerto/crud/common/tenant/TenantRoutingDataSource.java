@@ -0,0 +1,63 @@
+package com.concerto.crud.common.tenant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.util.Logging;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.tenant.TenantRoutingDataSource.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:46:25 PM
+ * @Purpose : DataSource that hands out connections of the tenant bound to the
+ *          current thread. Each tenant has DataSources of its own, so the
+ *          connections of one tenant are never used for another. The pools
+ *          behind the tenants are closed when the application stops.
+ * @Version : 1.0
+ */
+
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	private final List<Closeable> pools;
+
+	/**
+	 * @param tenantDataSources
+	 *            The DataSource of each tenant id.
+	 * @param pools
+	 *            The pools to close on shutdown.
+	 */
+	public TenantRoutingDataSource(Map<String, DataSource> tenantDataSources, List<? extends Closeable> pools) {
+		setTargetDataSources(new HashMap<Object, Object>(tenantDataSources));
+		setLenientFallback(false);
+		this.pools = new ArrayList<>(pools);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return TenantContext.current();
+	}
+
+	@Override
+	public void destroy() {
+		for (Closeable pool : pools) {
+			try {
+				pool.close();
+			} catch (IOException e) {
+				Logging.error(AppConstant.TENANT_POOL_CLOSE_FAILED, e);
+			}
+		}
+	}
+}
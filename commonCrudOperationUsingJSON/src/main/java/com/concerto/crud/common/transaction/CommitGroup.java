@@ -0,0 +1,128 @@
+package com.concerto.crud.common.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.CommitGroup.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:50:08 PM
+ * @Purpose : Collects the units of work submitted for the same tenant and
+ *          module during one collection window. The thread that opened the
+ *          group waits for the window to pass, or for the group to fill up,
+ *          then closes it and runs every member in one transaction; the other
+ *          members wait for their own outcome.
+ * @Version : 1.0
+ */
+
+final class CommitGroup {
+
+	private final int maxSize;
+
+	private final List<Member> members = new ArrayList<>();
+
+	private boolean closed;
+
+	CommitGroup(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Adds a unit of work to the group.
+	 *
+	 * @param work
+	 *            The work of the member.
+	 * @return The member, or null if the group is already closed.
+	 */
+	synchronized Member join(Supplier<?> work) {
+		if (closed) {
+			return null;
+		}
+		Member member = new Member(work);
+		members.add(member);
+		if (members.size() >= maxSize) {
+			closed = true;
+			notifyAll();
+		}
+		return member;
+	}
+
+	/**
+	 * Waits until the collection window has passed or the group is full, then
+	 * closes the group.
+	 *
+	 * @param windowNanos
+	 *            The length of the collection window.
+	 * @return The members of the closed group, in the order they joined.
+	 */
+	synchronized List<Member> close(long windowNanos) {
+		long deadline = System.nanoTime() + windowNanos;
+		boolean interrupted = false;
+		long remaining;
+		while (!closed && (remaining = deadline - System.nanoTime()) > 0) {
+			try {
+				wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+			} catch (InterruptedException e) {
+				interrupted = true;
+				break;
+			}
+		}
+		closed = true;
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		return new ArrayList<>(members);
+	}
+
+	/**
+	 * One unit of work of a group together with its outcome.
+	 */
+	static final class Member {
+
+		private final Supplier<?> work;
+
+		private final CompletableFuture<Object> outcome = new CompletableFuture<>();
+
+		private UnitOfWork unitOfWork;
+
+		private Object result;
+
+		private Member(Supplier<?> work) {
+			this.work = work;
+		}
+
+		Supplier<?> getWork() {
+			return work;
+		}
+
+		CompletableFuture<Object> getOutcome() {
+			return outcome;
+		}
+
+		UnitOfWork getUnitOfWork() {
+			return unitOfWork;
+		}
+
+		Object getResult() {
+			return result;
+		}
+
+		/**
+		 * Records the result of a member whose work has run.
+		 *
+		 * @param result
+		 *            The result of the work.
+		 * @param unitOfWork
+		 *            The unit of work whose after-commit actions run once the
+		 *            group commits, or null if the work was rolled back.
+		 */
+		void ran(Object result, UnitOfWork unitOfWork) {
+			this.result = result;
+			this.unitOfWork = unitOfWork;
+		}
+	}
+}
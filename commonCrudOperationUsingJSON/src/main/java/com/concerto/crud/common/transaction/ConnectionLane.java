@@ -0,0 +1,19 @@
+package com.concerto.crud.common.transaction;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.ConnectionLane.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:42:12 PM
+ * @Purpose : The connection pools database work is split into. WRITE serves the
+ *          maker/checker transactions run through the UnitOfWorkManager and the
+ *          DAO; READ serves the queries run through the shared JdbcTemplate,
+ *          such as readData, readAllData and the master key scans.
+ * @Version : 1.0
+ */
+
+public enum ConnectionLane {
+
+	WRITE, READ
+}
@@ -0,0 +1,83 @@
+package com.concerto.crud.common.transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.LaneDataSource.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:42:12 PM
+ * @Purpose : DataSource of one connection lane. Connections are taken from the
+ *          pool of the lane; when that pool is exhausted and the lane ranks
+ *          above others in the configured priority order, a connection is
+ *          borrowed from the pools of the lower lanes in turn. A lane never
+ *          borrows from a lane ranked above it, so read traffic cannot take
+ *          the connections kept for writes. Each attempt on a pool only waits
+ *          for the connection timeout of that pool, which is kept short, so a
+ *          lane moves on to borrow quickly; the pools are tried again in turn
+ *          until a connection is free or the lane's maximum wait has passed.
+ * @Version : 1.0
+ */
+
+public class LaneDataSource extends AbstractDataSource {
+
+	private final ConnectionLane lane;
+
+	private final List<DataSource> pools;
+
+	private final long maxWaitMillis;
+
+	/**
+	 * @param lane
+	 *            The lane served.
+	 * @param pools
+	 *            The pool of the lane followed by the pools it may borrow from,
+	 *            in priority order.
+	 * @param maxWaitMillis
+	 *            How long to keep trying the pools before giving up.
+	 */
+	public LaneDataSource(ConnectionLane lane, List<DataSource> pools, long maxWaitMillis) {
+		this.lane = lane;
+		this.pools = Collections.unmodifiableList(new ArrayList<>(pools));
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+		while (true) {
+			SQLTransientConnectionException exhausted = null;
+			for (DataSource pool : pools) {
+				try {
+					return pool.getConnection();
+				} catch (SQLTransientConnectionException e) {
+					// Pool exhausted, borrows from the next lane down
+					exhausted = e;
+				}
+			}
+			if (System.nanoTime() - deadline >= 0) {
+				throw exhausted;
+			}
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return pools.get(0).getConnection(username, password);
+	}
+
+	public ConnectionLane getLane() {
+		return lane;
+	}
+}
@@ -0,0 +1,127 @@
+package com.concerto.crud.common.transaction;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.bean.Entity;
+import com.concerto.crud.common.bean.FieldIndex;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.ServiceOverloadedException;
+import com.concerto.crud.common.tenant.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.StripedKeyLock.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:52:24 PM
+ * @Purpose : Serialises, within this process, the maker and checker work on
+ *          the same record. A fixed table of locks is indexed by the hash of
+ *          the tenant, entity and primary key values, so work on the same
+ *          record waits its turn instead of colliding in the database, while
+ *          work on other records goes ahead in parallel; two records sharing a
+ *          stripe only wait for each other. Key values are compared the way
+ *          SQL Server compares them by default, ignoring case and surrounding
+ *          blanks. Work that cannot get its lock within the timeout is refused
+ *          so that the client retries later.
+ * @Version : 1.0
+ */
+
+@Component
+public class StripedKeyLock {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${crud.key-lock.enabled:true}")
+	private boolean enabled;
+
+	@Value("${crud.key-lock.stripes:1024}")
+	private int stripeCount;
+
+	@Value("${crud.key-lock.timeout-ms:2000}")
+	private long timeoutMs;
+
+	private ReentrantLock[] stripes;
+
+	@Autowired
+	public StripedKeyLock(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public void createStripes() {
+		int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+		stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock(true);
+		}
+	}
+
+	/**
+	 * Runs work while holding the lock of the record a row refers to. Work on a
+	 * row without a complete primary key runs unlocked.
+	 *
+	 * @param entity
+	 *            The module the row belongs to.
+	 * @param row
+	 *            The request row holding the primary key values.
+	 * @param work
+	 *            The work to run.
+	 * @return The result of the work.
+	 * @throws ServiceOverloadedException
+	 *             If the lock cannot be obtained within the timeout.
+	 */
+	public <T> T withLock(Entity entity, Map<String, Object> row, Supplier<T> work) {
+		String key = enabled ? recordKey(entity, row) : null;
+		if (key == null) {
+			return work.get();
+		}
+		int hash = key.hashCode();
+		ReentrantLock lock = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+		try {
+			if (!lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+				meterRegistry.counter(AppConstant.METRIC_KEY_LOCK_TIMEOUTS, AppConstant.METRIC_TAG_ENTITY,
+						entity.getEntityName()).increment();
+				throw new ServiceOverloadedException(AppConstant.RECORD_BUSY);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceOverloadedException(AppConstant.RECORD_BUSY);
+		}
+		try {
+			return work.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	static String recordKey(Entity entity, Map<String, Object> row) {
+		FieldIndex index = entity.getFieldIndex();
+		if (index == null || index.keyCount() == 0 || row == null) {
+			return null;
+		}
+		Map<String, Object> keyRow = index.normalise(new HashMap<>(row));
+		StringBuilder key = new StringBuilder(TenantContext.current()).append(AppConstant.COLON)
+				.append(entity.getEntityName());
+		for (int k = 0; k < index.keyCount(); k++) {
+			Object value = keyRow.get(index.name(index.keyOrdinal(k)));
+			if (value == null) {
+				return null;
+			}
+			key.append(AppConstant.COLON).append(value.toString().trim().toUpperCase(Locale.ROOT));
+		}
+		return key.toString();
+	}
+}
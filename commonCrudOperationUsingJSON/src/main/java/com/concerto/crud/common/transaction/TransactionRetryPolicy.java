@@ -0,0 +1,162 @@
+package com.concerto.crud.common.transaction;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.util.Logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.TransactionRetryPolicy.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:51:31 PM
+ * @Purpose : Decides whether a failed transaction is replayed. Only failures
+ *          that say nothing about the request itself are retried: SQL Server
+ *          deadlock victims (error 1205), lock request timeouts (error 1222)
+ *          and serialization failures (SQLState 40001). Replays wait a random
+ *          time of up to an exponentially growing backoff, are limited per
+ *          transaction, and draw on a budget that starts at a small reserve and
+ *          that every transaction tops up by a fraction of a retry, so that
+ *          retries cannot multiply the load while the database is in trouble.
+ *          Retries are published as metrics by reason and outcome.
+ * @Version : 1.0
+ */
+
+@Component
+public class TransactionRetryPolicy {
+
+	private static final int DEADLOCK_VICTIM = 1205;
+
+	private static final int LOCK_REQUEST_TIMEOUT = 1222;
+
+	private static final String SERIALIZATION_FAILURE = "40001";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${crud.transaction.retry.enabled:true}")
+	private boolean enabled;
+
+	@Value("${crud.transaction.retry.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${crud.transaction.retry.initial-backoff-ms:20}")
+	private long initialBackoffMs;
+
+	@Value("${crud.transaction.retry.max-backoff-ms:500}")
+	private long maxBackoffMs;
+
+	@Value("${crud.transaction.retry.budget-ratio:0.1}")
+	private double budgetRatio;
+
+	@Value("${crud.transaction.retry.budget-reserve:10}")
+	private double budgetReserve;
+
+	/** Retries that may still be spent, guarded by this. */
+	private double budget;
+
+	@Autowired
+	public TransactionRetryPolicy(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public synchronized void fillBudget() {
+		budget = budgetReserve;
+	}
+
+	/**
+	 * Tells whether a failure, or any of its causes, is a deadlock, lock
+	 * timeout or serialization failure.
+	 *
+	 * @param failure
+	 *            The failure, possibly null.
+	 * @return The reason, or null if the failure is not worth a retry.
+	 */
+	static String retryReason(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException) {
+				SQLException e = (SQLException) cause;
+				if (e.getErrorCode() == DEADLOCK_VICTIM) {
+					return AppConstant.RETRY_REASON_DEADLOCK;
+				}
+				if (e.getErrorCode() == LOCK_REQUEST_TIMEOUT) {
+					return AppConstant.RETRY_REASON_LOCK_TIMEOUT;
+				}
+				if (SERIALIZATION_FAILURE.equals(e.getSQLState())) {
+					return AppConstant.RETRY_REASON_SERIALIZATION;
+				}
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Tops up the retry budget for a transaction about to start, never beyond
+	 * the reserve.
+	 */
+	synchronized void onTransaction() {
+		budget = Math.min(budgetReserve, budget + budgetRatio);
+	}
+
+	/**
+	 * Decides whether a transaction that failed in the given attempt is
+	 * replayed, and waits for the backoff if it is.
+	 *
+	 * @param failure
+	 *            The failure of the attempt, possibly null.
+	 * @param attempt
+	 *            The attempt that failed, starting at 1.
+	 * @return True if the transaction should be replayed now.
+	 */
+	boolean retry(Throwable failure, int attempt) {
+		String reason = retryReason(failure);
+		if (!enabled || reason == null) {
+			return false;
+		}
+		if (attempt >= maxAttempts) {
+			count(reason, AppConstant.METRIC_RESULT_EXHAUSTED);
+			return false;
+		}
+		if (!withdraw()) {
+			count(reason, AppConstant.METRIC_RESULT_BUDGET_EXHAUSTED);
+			return false;
+		}
+		long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+		try {
+			TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		count(reason, AppConstant.METRIC_RESULT_RETRIED);
+		Logging.info(String.format(AppConstant.TRANSACTION_RETRY, reason, attempt + 1));
+		return true;
+	}
+
+	private synchronized boolean withdraw() {
+		if (budget < 1) {
+			return false;
+		}
+		budget--;
+		return true;
+	}
+
+	private void count(String reason, String result) {
+		meterRegistry.counter(AppConstant.METRIC_TRANSACTION_RETRIES, AppConstant.METRIC_TAG_REASON, reason,
+				AppConstant.METRIC_TAG_RESULT, result).increment();
+	}
+}
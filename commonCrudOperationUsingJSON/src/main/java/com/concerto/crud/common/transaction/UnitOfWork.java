@@ -0,0 +1,288 @@
+package com.concerto.crud.common.transaction;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.UnitOfWork.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:14:12 PM
+ * @Purpose : Holds the single connection and transaction bound to the current
+ *          request thread. DAO methods obtain a connection through this class
+ *          so that every read and write of a CUD, approve or rectify request
+ *          runs on the same connection. Commit, rollback and close issued by
+ *          the DAO are deferred to the UnitOfWorkManager, which completes the
+ *          transaction once. Results of getById are memoised until the next
+ *          write statement is prepared. Actions registered with afterCommit
+ *          run only once the transaction has been committed.
+ * @Version : 1.0
+ */
+
+public class UnitOfWork {
+
+	private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+	private final Connection connection;
+
+	private final Connection boundConnection;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Map<String, List<Map<String, Object>>> readCache = new HashMap<>();
+
+	private final List<Runnable> afterCommitActions = new ArrayList<>();
+
+	private boolean rollbackOnly;
+
+	private SQLException failure;
+
+	private boolean admitted;
+
+	UnitOfWork(Connection connection) {
+		this.connection = connection;
+		this.boundConnection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new ConnectionHandler());
+		this.jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(boundConnection, true));
+	}
+
+	/**
+	 * Returns the unit of work bound to the current thread.
+	 *
+	 * @return The active unit of work, or null if none is bound.
+	 */
+	public static UnitOfWork current() {
+		return CURRENT.get();
+	}
+
+	static void bind(UnitOfWork unitOfWork) {
+		CURRENT.set(unitOfWork);
+	}
+
+	static void unbind() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Returns the request-scoped connection. Closing, committing or disabling
+	 * auto-commit on it has no effect, and a rollback marks the unit of work as
+	 * rollback-only.
+	 *
+	 * @return The connection bound to this unit of work.
+	 */
+	public Connection getConnection() {
+		return boundConnection;
+	}
+
+	/**
+	 * Returns a JdbcTemplate that executes on the request-scoped connection.
+	 *
+	 * @return The JdbcTemplate bound to this unit of work.
+	 */
+	public JdbcTemplate getJdbcTemplate() {
+		return jdbcTemplate;
+	}
+
+	/**
+	 * Returns a copy of a previously memoised read result.
+	 *
+	 * @param key
+	 *            The key identifying the table and parameter values of the read.
+	 * @return A copy of the rows, or null if the read has not been memoised.
+	 */
+	public List<Map<String, Object>> getCachedRead(String key) {
+		List<Map<String, Object>> rows = readCache.get(key);
+		return rows == null ? null : copyRows(rows);
+	}
+
+	/**
+	 * Memoises a read result until the next write statement is prepared.
+	 *
+	 * @param key
+	 *            The key identifying the table and parameter values of the read.
+	 * @param rows
+	 *            The rows returned by the read.
+	 */
+	public void cacheRead(String key, List<Map<String, Object>> rows) {
+		readCache.put(key, copyRows(rows));
+	}
+
+	/**
+	 * Registers an action to run after this unit of work commits. The action is
+	 * discarded if the transaction is rolled back.
+	 *
+	 * @param action
+	 *            The action to run after commit.
+	 */
+	public void afterCommit(Runnable action) {
+		afterCommitActions.add(action);
+	}
+
+	/**
+	 * Runs the given action after the current unit of work commits, or
+	 * immediately if no unit of work is bound to the current thread.
+	 *
+	 * @param action
+	 *            The action to run after commit.
+	 */
+	public static void runAfterCommit(Runnable action) {
+		UnitOfWork unitOfWork = current();
+		if (unitOfWork == null) {
+			action.run();
+		} else {
+			unitOfWork.afterCommit(action);
+		}
+	}
+
+	public void setRollbackOnly() {
+		this.rollbackOnly = true;
+	}
+
+	public boolean isRollbackOnly() {
+		return rollbackOnly;
+	}
+
+	/**
+	 * Marks that a DAO call of this unit of work has passed the concurrency
+	 * limiter. Later calls are let through so that a transaction already under
+	 * way is not abandoned halfway.
+	 */
+	public void setAdmitted() {
+		this.admitted = true;
+	}
+
+	public boolean isAdmitted() {
+		return admitted;
+	}
+
+	/**
+	 * Returns the first statement failure of this unit of work, which tells
+	 * the UnitOfWorkManager whether the transaction is worth replaying even
+	 * when the DAO has swallowed the exception.
+	 *
+	 * @return The failure, or null if no statement has failed.
+	 */
+	SQLException getFailure() {
+		return failure;
+	}
+
+	List<Runnable> getAfterCommitActions() {
+		return afterCommitActions;
+	}
+
+	Connection getTargetConnection() {
+		return connection;
+	}
+
+	private static List<Map<String, Object>> copyRows(List<Map<String, Object>> rows) {
+		List<Map<String, Object>> copy = new ArrayList<>(rows.size());
+		for (Map<String, Object> row : rows) {
+			Map<String, Object> rowCopy = new LinkedCaseInsensitiveMap<>(row.size());
+			rowCopy.putAll(row);
+			copy.add(rowCopy);
+		}
+		return copy;
+	}
+
+	private static boolean isQuery(Object sql) {
+		return sql instanceof String && ((String) sql).trim().toUpperCase(Locale.ROOT).startsWith("SELECT");
+	}
+
+	/**
+	 * Defers transaction control on the request-scoped connection to the
+	 * UnitOfWorkManager and wraps created statements so that a failed statement
+	 * dooms the transaction even when the caller swallows the exception.
+	 */
+	private class ConnectionHandler implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			switch (name) {
+			case "close":
+			case "commit":
+			case "setAutoCommit":
+				return null;
+			case "rollback":
+				if (args == null || args.length == 0) {
+					setRollbackOnly();
+					return null;
+				}
+				break;
+			case "isClosed":
+				return false;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "unwrap":
+				if (((Class<?>) args[0]).isInstance(proxy)) {
+					return proxy;
+				}
+				break;
+			default:
+				break;
+			}
+			if (name.startsWith("prepare") && args != null && args.length > 0 && !isQuery(args[0])) {
+				readCache.clear();
+			}
+			Object result = invokeTarget(connection, method, args);
+			if (result instanceof Statement && method.getReturnType().isInterface()) {
+				return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+						new Class<?>[] { method.getReturnType() }, new StatementHandler(result));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Marks the unit of work as rollback-only whenever a statement fails.
+	 */
+	private class StatementHandler implements InvocationHandler {
+
+		private final Object statement;
+
+		StatementHandler(Object statement) {
+			this.statement = statement;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if ("getConnection".equals(method.getName())) {
+				return boundConnection;
+			}
+			try {
+				return invokeTarget(statement, method, args);
+			} catch (SQLException e) {
+				setRollbackOnly();
+				if (failure == null) {
+					failure = e;
+				}
+				throw e;
+			}
+		}
+	}
+
+	private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
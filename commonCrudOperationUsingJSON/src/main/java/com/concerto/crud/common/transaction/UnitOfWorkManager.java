@@ -0,0 +1,314 @@
+package com.concerto.crud.common.transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.DataSourceException;
+import com.concerto.crud.common.exception.DataTrasactionException;
+import com.concerto.crud.common.tenant.TenantContext;
+import com.concerto.crud.common.transaction.CommitGroup.Member;
+import com.concerto.crud.common.util.Logging;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.UnitOfWorkManager.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:14:12 PM
+ * @Purpose : Runs a piece of service work inside a UnitOfWork. Borrows one
+ *          connection from the pool, binds it to the current thread for the
+ *          duration of the work and commits or rolls back the transaction
+ *          exactly once when the work completes. Nested calls join the unit of
+ *          work that is already bound. A transaction that fails with a
+ *          deadlock or lock timeout is replayed from the start as the
+ *          TransactionRetryPolicy allows. In group commit mode, units of work of
+ *          the same tenant and module submitted within a short collection
+ *          window share one transaction: each runs behind its own savepoint,
+ *          so a failing member only rolls back its own statements, and the
+ *          group is committed once.
+ * @Version : 1.0
+ */
+
+@Component
+public class UnitOfWorkManager {
+
+	private final DataSource dataSource;
+
+	private final TransactionRetryPolicy retryPolicy;
+
+	private final DistributionSummary groupSizes;
+
+	/** Groups still collecting members, by tenant and group name. */
+	private final Map<String, CommitGroup> openGroups = new ConcurrentHashMap<>();
+
+	@Value("${crud.group-commit.enabled:false}")
+	private boolean groupCommitEnabled;
+
+	@Value("${crud.group-commit.window:1ms}")
+	private Duration groupCommitWindow;
+
+	@Value("${crud.group-commit.max-size:32}")
+	private int groupCommitMaxSize;
+
+	@Autowired
+	public UnitOfWorkManager(DataSource dataSource, TransactionRetryPolicy retryPolicy,
+			MeterRegistry meterRegistry) {
+		if (dataSource == null) {
+			throw new DataSourceException(AppConstant.DATASOURCE_NULL);
+		}
+		this.dataSource = dataSource;
+		this.retryPolicy = retryPolicy;
+		this.groupSizes = DistributionSummary.builder(AppConstant.METRIC_GROUP_COMMIT_SIZE).register(meterRegistry);
+	}
+
+	/**
+	 * Executes the given work on a request-scoped connection and transaction.
+	 * The work is run again on a fresh transaction when it fails with a
+	 * deadlock or lock timeout and the retry policy allows it, so it must not
+	 * have effects outside the transaction other than after-commit actions. The
+	 * connection of a failed attempt is returned to the pool before the retry
+	 * is decided, so it is not held while backing off.
+	 *
+	 * @param work
+	 *            The work to execute.
+	 * @return The result of the work.
+	 * @throws DataTrasactionException
+	 *             If the connection cannot be obtained or the transaction cannot
+	 *             be completed.
+	 */
+	public <T> T execute(Supplier<T> work) {
+		if (UnitOfWork.current() != null) {
+			return work.get();
+		}
+		retryPolicy.onTransaction();
+		for (int attempt = 1;; attempt++) {
+			UnitOfWork unitOfWork = null;
+			T result = null;
+			RuntimeException workFailure = null;
+			SQLException transactionFailure = null;
+			try (Connection connection = dataSource.getConnection()) {
+				connection.setAutoCommit(false);
+				unitOfWork = new UnitOfWork(connection);
+				UnitOfWork.bind(unitOfWork);
+				try {
+					result = work.get();
+					if (unitOfWork.isRollbackOnly()) {
+						connection.rollback();
+					} else {
+						connection.commit();
+					}
+				} catch (RuntimeException e) {
+					workFailure = e;
+					rollback(connection, e);
+				} finally {
+					UnitOfWork.unbind();
+				}
+			} catch (SQLException e) {
+				if (workFailure != null) {
+					workFailure.addSuppressed(e);
+				} else {
+					transactionFailure = e;
+				}
+			}
+
+			if (workFailure != null) {
+				if (retryPolicy.retry(workFailure, attempt)) {
+					continue;
+				}
+				throw workFailure;
+			}
+			if (transactionFailure != null) {
+				if (retryPolicy.retry(transactionFailure, attempt)) {
+					continue;
+				}
+				Logging.error(AppConstant.UNIT_OF_WORK_ERROR, transactionFailure);
+				throw new DataTrasactionException(AppConstant.UNIT_OF_WORK_ERROR, transactionFailure);
+			}
+			if (unitOfWork.isRollbackOnly()) {
+				if (retryPolicy.retry(unitOfWork.getFailure(), attempt)) {
+					continue;
+				}
+				return result;
+			}
+			runAfterCommitActions(unitOfWork);
+			return result;
+		}
+	}
+
+	/**
+	 * Rolls back a transaction whose work failed. A failure of the rollback is
+	 * attached to the failure of the work instead of replacing it, so the
+	 * original failure is still reported and considered for a retry.
+	 *
+	 * @param connection
+	 *            The connection of the transaction.
+	 * @param failure
+	 *            The failure of the work.
+	 */
+	private static void rollback(Connection connection, Throwable failure) {
+		try {
+			connection.rollback();
+		} catch (SQLException e) {
+			failure.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Executes the given work in a transaction shared with the other units of
+	 * work of the same group submitted within the collection window. Runs the
+	 * work in its own transaction when group commit is off or a unit of work is
+	 * already bound.
+	 *
+	 * @param group
+	 *            The name of the group, such as the module name.
+	 * @param work
+	 *            The work to execute.
+	 * @return The result of the work.
+	 * @throws DataTrasactionException
+	 *             If the connection cannot be obtained or the shared transaction
+	 *             cannot be completed.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T executeGrouped(String group, Supplier<T> work) {
+		if (!groupCommitEnabled || UnitOfWork.current() != null) {
+			return execute(work);
+		}
+		String key = TenantContext.current() + AppConstant.COLON + group;
+		while (true) {
+			CommitGroup opened = new CommitGroup(groupCommitMaxSize);
+			CommitGroup commitGroup = openGroups.putIfAbsent(key, opened);
+			if (commitGroup == null) {
+				commitGroup = opened;
+			}
+			Member member = commitGroup.join(work);
+			if (member == null) {
+				openGroups.remove(key, commitGroup);
+				continue;
+			}
+			if (commitGroup == opened) {
+				List<Member> members = commitGroup.close(groupCommitWindow.toNanos());
+				openGroups.remove(key, commitGroup);
+				runGroup(members);
+			}
+			try {
+				return (T) member.getOutcome().join();
+			} catch (CompletionException e) {
+				// A deadlock ends the shared transaction, so the member is replayed on its own
+				if (TransactionRetryPolicy.retryReason(e.getCause()) != null) {
+					return execute(work);
+				}
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Runs the members of a closed group one after another in one transaction
+	 * and completes each with its own outcome once the transaction has ended.
+	 * Every member is completed whatever happens, since the other members of
+	 * the group wait for their outcome without a timeout.
+	 */
+	private void runGroup(List<Member> members) {
+		groupSizes.record(members.size());
+		Throwable failure = null;
+		try {
+			try (Connection connection = dataSource.getConnection()) {
+				connection.setAutoCommit(false);
+				try {
+					for (Member member : members) {
+						runMember(connection, member);
+					}
+					connection.commit();
+				} catch (Throwable e) {
+					rollback(connection, e);
+					throw e;
+				}
+			} catch (SQLException | RuntimeException e) {
+				Logging.error(AppConstant.UNIT_OF_WORK_ERROR, e);
+				failure = new DataTrasactionException(AppConstant.UNIT_OF_WORK_ERROR, e);
+				return;
+			}
+			for (Member member : members) {
+				if (member.getUnitOfWork() != null) {
+					runAfterCommitActions(member.getUnitOfWork());
+				}
+				member.getOutcome().complete(member.getResult());
+			}
+		} catch (Error e) {
+			failure = e;
+			throw e;
+		} finally {
+			for (Member member : members) {
+				if (!member.getOutcome().isDone()) {
+					member.getOutcome().completeExceptionally(failure != null ? failure
+							: new DataTrasactionException(AppConstant.UNIT_OF_WORK_ERROR));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs one member behind a savepoint. A member that fails or is marked
+	 * rollback-only is rolled back to its savepoint and completed at once; a
+	 * deadlock or lock timeout, which ends the whole transaction on SQL Server,
+	 * and a failure of the rollback itself fail the whole group.
+	 */
+	private static void runMember(Connection connection, Member member) throws SQLException {
+		Savepoint savepoint = connection.setSavepoint();
+		UnitOfWork unitOfWork = new UnitOfWork(connection);
+		UnitOfWork.bind(unitOfWork);
+		try {
+			Object result = member.getWork().get();
+			if (unitOfWork.isRollbackOnly()) {
+				if (TransactionRetryPolicy.retryReason(unitOfWork.getFailure()) != null) {
+					throw unitOfWork.getFailure();
+				}
+				connection.rollback(savepoint);
+				member.ran(result, null);
+			} else {
+				member.ran(result, unitOfWork);
+			}
+		} catch (RuntimeException e) {
+			if (TransactionRetryPolicy.retryReason(e) != null) {
+				throw e;
+			}
+			connection.rollback(savepoint);
+			member.getOutcome().completeExceptionally(e);
+		} finally {
+			UnitOfWork.unbind();
+		}
+	}
+
+	private static void runAfterCommitActions(UnitOfWork unitOfWork) {
+		for (Runnable action : unitOfWork.getAfterCommitActions()) {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				Logging.error(AppConstant.AFTER_COMMIT_ACTION_FAILED, e);
+			}
+		}
+	}
+}
@@ -1,21 +1,24 @@
 package com.concerto.crud.common.util;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Configuration;
 
 import com.concerto.crud.common.bean.Bean;
-import com.concerto.crud.common.bean.Field;
 import com.concerto.crud.common.bean.Module;
 import com.concerto.crud.common.constant.AppConstant;
 import com.concerto.crud.common.exception.JsonConversionException;
+import com.concerto.crud.common.tenant.Tenant;
+import com.concerto.crud.common.tenant.TenantContext;
+import com.concerto.crud.common.tenant.TenantDirectory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -29,7 +32,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  *          specified file path, maps it to Module objects, and provides access
  *          to the resulting module data. Also, manages a map of module names to
  *          their corresponding CommonDAO bean, facilitating the retrieval of
- *          specific CommonDAO implementations for each module.
+ *          specific CommonDAO implementations for each module. The modules
+ *          of each tenant are held in an immutable snapshot that is swapped as
+ *          a whole when the module file of the tenant is reloaded; lookups
+ *          answer for the tenant of the current thread.
  * @Version : 1.0
  */
 
@@ -39,26 +45,20 @@ public class JsonToJavaConverter {
 	@Autowired
 	ApplicationContext applicationContext;
 
-	@Value("${input.json.file.path}")
-	private String inputJsonFilePath;
+	@Autowired
+	TenantDirectory tenantDirectory;
 
-	private static Map<String, Module> moduleMap = new HashMap<>();
+	private static final Map<String, AtomicReference<ModuleRegistry>> registries = new ConcurrentHashMap<>();
 	private static Map<String, Object> moduleNameMap = new HashMap<>();
-	private static Map<String, List<String>> modulePrimaryfields = new HashMap<>();
-	private static Map<String, List<String>> beanPrimaryfields = new HashMap<>();
-	private static Map<String, Bean> subBeanMap = new HashMap<>();
 
 	public static Bean subBeanData(String beanName) {
 		try {
-			if (subBeanMap.containsKey(beanName)) {
-				return subBeanMap.get(beanName);
-			}
+			return getRegistry().getSubBeanMap().get(beanName);
 		} catch (Exception e) {
 			// Handle other exceptions
 			Logging.error(AppConstant.MODULE_RETRIEVING_ERROR, e);
 			throw new JsonConversionException(AppConstant.MODULE_DATA_RETRIEVAL_FAILED, e);
 		}
-		return null;
 	}
 
 	/**
@@ -72,92 +72,83 @@ public class JsonToJavaConverter {
 	 */
 	public static Module moduleData(String moduleName) {
 		try {
-			if (moduleMap.containsKey(moduleName)) {
-				return moduleMap.get(moduleName);
-			}
+			return getRegistry().getModuleMap().get(moduleName);
 		} catch (Exception e) {
 			// Handle other exceptions
 			Logging.error(AppConstant.MODULE_RETRIEVING_ERROR, e);
 			throw new JsonConversionException(AppConstant.MODULE_DATA_RETRIEVAL_FAILED, e);
 		}
-		return null;
 	}
 
 	/**
-	 * Populates the moduleMap with Module instances by reading JSON data from the
-	 * specified file path.
+	 * Returns the module snapshot currently published for the tenant of the
+	 * current thread. Callers that look up several modules or beans for one
+	 * request can hold on to the snapshot so that a reload in between does not
+	 * mix two versions of the module file.
+	 *
+	 * @return The current module snapshot, empty if the tenant has none.
 	 */
-	public void moduleMap() {
-
-		ObjectMapper objectMapper = new ObjectMapper();
-
-		try {
-			// Load the input.json file from the classpath
-
-			File file = new File(inputJsonFilePath);
-
-			// Read JSON data from the InputStream and convert to Module array
-			Module[] modules = objectMapper.readValue(file, Module[].class);
-
-			// Create a HashMap to store modules using moduleName as key
-			for (Module module : modules) {
-				processModule(module);
-				if(module.getBeans()!=null) {
-					processModuleBeans(module);
-				}
-				
-			}
-		
-		} catch (Exception e) {
-			Logging.error(AppConstant.JSON_TO_JAVA_CONVERSION_FAILED, e);
-			throw new JsonConversionException(AppConstant.JSON_TO_JAVA_CONVERSION_FAILED, e);
-		}
+	public static ModuleRegistry getRegistry() {
+		AtomicReference<ModuleRegistry> registry = registries.get(TenantContext.current());
+		return registry == null ? ModuleRegistry.EMPTY : registry.get();
 	}
 
-	private void processModule(Module module) {
-		moduleMap.put(module.getEntityName(), module);
-
-		List<String> modulePrimaryFields = new ArrayList<>();
-
-		for (Field field : module.getFields()) {
-			if (field.isPrimaryKey()) {
-				modulePrimaryFields.add(field.getName());
+	/**
+	 * Populates the module snapshot of every tenant by reading JSON data from
+	 * the module file of the tenant.
+	 *
+	 * @throws JsonConversionException
+	 *             If a file cannot be read or its modules are rejected.
+	 */
+	public void moduleMap() {
+		for (Tenant tenant : tenantDirectory.getTenants()) {
+			try {
+				ModuleRegistry loaded = readModules(tenant);
+				registries.computeIfAbsent(tenant.getId(), id -> new AtomicReference<>(ModuleRegistry.EMPTY))
+						.set(loaded);
+			} catch (JsonConversionException e) {
+				Logging.error(AppConstant.JSON_TO_JAVA_CONVERSION_FAILED, e);
+				throw e;
+			} catch (Exception e) {
+				Logging.error(AppConstant.JSON_TO_JAVA_CONVERSION_FAILED, e);
+				throw new JsonConversionException(AppConstant.JSON_TO_JAVA_CONVERSION_FAILED, e);
 			}
 		}
-
-		modulePrimaryfields.put(module.getEntityName(), modulePrimaryFields);
 	}
 
 	/**
-	 * Processes the main module by adding it to the moduleMap and creating a list
-	 * of its primary key fields.
+	 * Rebuilds the module snapshot of a tenant from its module file and
+	 * publishes it with a single reference swap, so requests in flight keep
+	 * working on the snapshot they started with. If the file cannot be read or
+	 * is rejected, the current snapshot stays in place.
 	 *
-	 * @param module
-	 *            The main module to be processed.
+	 * @param tenantId
+	 *            The tenant whose module file has changed.
+	 * @return True if a new snapshot has been published.
 	 */
-	private void processModuleBeans(Module module) {
-		for (Bean bean : module.getBeans()) {
-			subBeanMap.put(bean.getEntityName(), bean);
-
-			List<String> beanPrimaryFields = new ArrayList<>();
+	public boolean reload(String tenantId) {
+		Tenant tenant = tenantDirectory.get(tenantId);
+		ModuleRegistry loaded;
+		try {
+			loaded = readModules(tenant);
+		} catch (Exception e) {
+			Logging.error(AppConstant.MODULE_RELOAD_FAILED + tenant.getModuleFile(), e);
+			return false;
+		}
+		registries.computeIfAbsent(tenantId, id -> new AtomicReference<>(ModuleRegistry.EMPTY)).set(loaded);
+		Logging.info(String.format(AppConstant.MODULE_RELOADED, loaded.getModuleMap().size(), tenant.getModuleFile()));
+		applicationContext.publishEvent(new ModuleRegistryReloadedEvent(this, tenantId, loaded));
+		return true;
+	}
 
-			for (Field field : bean.getFields()) {
-				if (field.isPrimaryKey()) {
-					beanPrimaryFields.add(field.getName());
-				}
-			}
+	private static ModuleRegistry readModules(Tenant tenant) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
 
-			beanPrimaryfields.put(bean.getEntityName(), beanPrimaryFields);
-		}
+		// Read JSON data from the module file and convert to Module array
+		Module[] modules = objectMapper.readValue(new File(tenant.getModuleFile()), Module[].class);
+		return ModuleRegistry.of(modules);
 	}
 
-	/**
-	 * Processes sub-modules (Beans) within the main module. Adds each Bean to the
-	 * subBeanMap and creates a list of primary key fields for each Bean.
-	 *
-	 * @param module
-	 *            The main module containing sub-modules (Beans).
-	 */
 	public static Map<String, Object> getModuleNameMap() {
 		return moduleNameMap;
 	}
@@ -167,11 +158,12 @@ public class JsonToJavaConverter {
 	}
 
 	public static Map<String, Module> getModuleMap() {
-		return moduleMap;
+		return getRegistry().getModuleMap();
 	}
 
 	public static void setModuleMap(Map<String, Module> moduleMap) {
-		JsonToJavaConverter.moduleMap = moduleMap;
+		registries.computeIfAbsent(TenantContext.current(), id -> new AtomicReference<>(ModuleRegistry.EMPTY))
+				.updateAndGet(current -> current.withModuleMap(moduleMap));
 	}
 
 	/**
@@ -182,7 +174,7 @@ public class JsonToJavaConverter {
 	 * @return The list of primary fields for the specified module.
 	 */
 	public static List<String> getPrimaryfields(String moduleName) {
-		return modulePrimaryfields.get(moduleName);
+		return getRegistry().getPrimaryfields(moduleName);
 	}
 
 	/**
@@ -193,7 +185,7 @@ public class JsonToJavaConverter {
 	 * @return The list of primary fields for the specified bean.
 	 */
 	public static List<String> getBeanPrimaryfields(String beanName) {
-		return beanPrimaryfields.get(beanName);
+		return getRegistry().getBeanPrimaryfields(beanName);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.concerto.crud.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.concerto.crud.common.bean.Bean;
+import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.FieldIndex;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.JsonConversionException;
+import com.concerto.crud.common.validationservice.FieldValidator;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.util.ModuleRegistry.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:36:49 PM
+ * @Purpose : Immutable snapshot of the modules read from the module file. A
+ *          snapshot is fully built, with field validators, field indexes and
+ *          primary field lists, before it is published, and is never changed
+ *          afterwards. Statements generated for the modules of a snapshot are
+ *          cached with it, so they are dropped together with the modules they
+ *          were built from when the module file is reloaded.
+ * @Version : 1.0
+ */
+
+public final class ModuleRegistry {
+
+	static final ModuleRegistry EMPTY = new ModuleRegistry(Collections.<String, Module>emptyMap(),
+			Collections.<String, Bean>emptyMap(), Collections.<String, List<String>>emptyMap(),
+			Collections.<String, List<String>>emptyMap());
+
+	private static final int MAX_CACHED_STATEMENTS = 1024;
+
+	private final Map<String, Module> moduleMap;
+
+	private final Map<String, Bean> subBeanMap;
+
+	private final Map<String, List<String>> modulePrimaryfields;
+
+	private final Map<String, List<String>> beanPrimaryfields;
+
+	private final Map<String, String> statementCache = new ConcurrentHashMap<>();
+
+	private ModuleRegistry(Map<String, Module> moduleMap, Map<String, Bean> subBeanMap,
+			Map<String, List<String>> modulePrimaryfields, Map<String, List<String>> beanPrimaryfields) {
+		this.moduleMap = moduleMap;
+		this.subBeanMap = subBeanMap;
+		this.modulePrimaryfields = modulePrimaryfields;
+		this.beanPrimaryfields = beanPrimaryfields;
+	}
+
+	/**
+	 * Builds a snapshot from the modules read from the module file.
+	 *
+	 * @param modules
+	 *            The modules to register.
+	 * @return The snapshot holding the modules and their beans.
+	 * @throws JsonConversionException
+	 *             If the validation settings of a field are rejected.
+	 */
+	static ModuleRegistry of(Module[] modules) {
+		Map<String, Module> moduleMap = new HashMap<>();
+		Map<String, Bean> subBeanMap = new HashMap<>();
+		Map<String, List<String>> modulePrimaryfields = new HashMap<>();
+		Map<String, List<String>> beanPrimaryfields = new HashMap<>();
+
+		for (Module module : modules) {
+			moduleMap.put(module.getEntityName(), module);
+			modulePrimaryfields.put(module.getEntityName(), processFields(module.getFields()));
+
+			module.setFieldIndex(FieldIndex.of(module.getFields()));
+			if (module.getBeans() != null) {
+				List<List<Field>> beanFields = new ArrayList<>();
+				for (Bean bean : module.getBeans()) {
+					subBeanMap.put(bean.getEntityName(), bean);
+					beanPrimaryfields.put(bean.getEntityName(), processFields(bean.getFields()));
+					bean.setFieldIndex(FieldIndex.of(bean.getFields()));
+					beanFields.add(bean.getFields());
+				}
+				module.setRowIndex(FieldIndex.of(beanFields));
+			}
+		}
+		return new ModuleRegistry(Collections.unmodifiableMap(moduleMap), Collections.unmodifiableMap(subBeanMap),
+				Collections.unmodifiableMap(modulePrimaryfields), Collections.unmodifiableMap(beanPrimaryfields));
+	}
+
+	/**
+	 * Returns a copy of this snapshot holding the given modules instead, keeping
+	 * the beans and primary fields of this snapshot.
+	 */
+	ModuleRegistry withModuleMap(Map<String, Module> modules) {
+		return new ModuleRegistry(Collections.unmodifiableMap(new HashMap<>(modules)), subBeanMap,
+				modulePrimaryfields, beanPrimaryfields);
+	}
+
+	/**
+	 * Compiles the validators of the fields and lists the primary key fields.
+	 */
+	private static List<String> processFields(List<Field> fields) {
+		List<String> primaryFields = new ArrayList<>();
+		for (Field field : fields) {
+			field.setValidator(compileValidator(field));
+			if (field.isPrimaryKey()) {
+				primaryFields.add(field.getName());
+			}
+		}
+		return Collections.unmodifiableList(primaryFields);
+	}
+
+	private static FieldValidator compileValidator(Field field) {
+		FieldValidator validator;
+		try {
+			validator = FieldValidator.compile(field);
+		} catch (IllegalArgumentException e) {
+			throw new JsonConversionException(
+					String.format(AppConstant.VALIDATION_SETTINGS_REJECTED, field.getName(), e.getMessage()), e);
+		}
+		validator.resolveMessages(Locale.getDefault());
+		return validator;
+	}
+
+	public Map<String, Module> getModuleMap() {
+		return moduleMap;
+	}
+
+	public Map<String, Bean> getSubBeanMap() {
+		return subBeanMap;
+	}
+
+	public List<String> getPrimaryfields(String moduleName) {
+		return modulePrimaryfields.get(moduleName);
+	}
+
+	public List<String> getBeanPrimaryfields(String beanName) {
+		return beanPrimaryfields.get(beanName);
+	}
+
+	/**
+	 * Returns a statement cached with this snapshot.
+	 *
+	 * @param key
+	 *            The key of the statement, naming the table and columns.
+	 * @return The cached statement, or null if it has not been built yet.
+	 */
+	public String getStatement(String key) {
+		return statementCache.get(key);
+	}
+
+	/**
+	 * Caches a statement built for the modules of this snapshot, as long as the
+	 * cache has room left.
+	 *
+	 * @param key
+	 *            The key of the statement, naming the table and columns.
+	 * @param statement
+	 *            The statement to cache.
+	 */
+	public void putStatement(String key, String statement) {
+		if (statementCache.size() < MAX_CACHED_STATEMENTS) {
+			statementCache.put(key, statement);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.concerto.crud.common.util;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.util.ModuleRegistryReloadedEvent.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:36:49 PM
+ * @Purpose : Published after a module snapshot rebuilt from the module file
+ *          of a tenant has replaced the previous one, so that state derived
+ *          from the modules of that tenant can be rebuilt.
+ * @Version : 1.0
+ */
+
+public class ModuleRegistryReloadedEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String tenantId;
+
+	private final transient ModuleRegistry registry;
+
+	public ModuleRegistryReloadedEvent(Object source, String tenantId, ModuleRegistry registry) {
+		super(source);
+		this.tenantId = tenantId;
+		this.registry = registry;
+	}
+
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	public ModuleRegistry getRegistry() {
+		return registry;
+	}
+}
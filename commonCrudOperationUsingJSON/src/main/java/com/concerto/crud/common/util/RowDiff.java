@@ -0,0 +1,138 @@
+package com.concerto.crud.common.util;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.concerto.crud.common.bean.Entity;
+import com.concerto.crud.common.bean.Field;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.util.RowDiff.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:23:01 PM
+ * @Purpose : Compares an incoming row with the row currently held in the
+ *          master table and reports which non-key fields differ. Values are
+ *          compared the way they are written by the DAO: numbers by value,
+ *          booleans and dates by meaning, and JSON objects by their serialised
+ *          form. When two values cannot be compared reliably they are reported
+ *          as changed, so a real change is never dropped.
+ * @Version : 1.0
+ */
+
+public class RowDiff {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private RowDiff() {
+	}
+
+	/**
+	 * Returns the non-key fields of the entity whose incoming value differs from
+	 * the current value.
+	 *
+	 * @param entity
+	 *            The module or bean the rows belong to.
+	 * @param incoming
+	 *            The row about to be written.
+	 * @param current
+	 *            The row currently held in the master table.
+	 * @return The names of the changed fields, in field order.
+	 */
+	public static List<String> changedFields(Entity entity, Map<String, Object> incoming,
+			Map<String, Object> current) {
+		List<String> changed = new ArrayList<>();
+		for (Field field : entity.getFields()) {
+			String fieldName = field.getName();
+			if (!field.isPrimaryKey() && !isSameValue(incoming.get(fieldName), current.get(fieldName))) {
+				changed.add(fieldName);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Tells whether an incoming value would leave the current value unchanged.
+	 *
+	 * @param incoming
+	 *            The value about to be written.
+	 * @param current
+	 *            The value read from the database.
+	 * @return True if writing the incoming value would not change the column.
+	 */
+	public static boolean isSameValue(Object incoming, Object current) {
+		if (incoming == null || current == null) {
+			return incoming == current;
+		}
+		if (current instanceof Number) {
+			BigDecimal left = toDecimal(incoming);
+			BigDecimal right = toDecimal(current);
+			return left != null && right != null && left.compareTo(right) == 0;
+		}
+		if (current instanceof Boolean) {
+			Boolean left = toBoolean(incoming);
+			return left != null && left.equals(current);
+		}
+		if (current instanceof Date) {
+			Long millis = toMillis(incoming);
+			return millis != null && millis == ((Date) current).getTime();
+		}
+		if (incoming instanceof CharSequence || incoming instanceof Number || incoming instanceof Boolean) {
+			return incoming.toString().equals(current.toString());
+		}
+		try {
+			return MAPPER.writeValueAsString(incoming).equals(current.toString());
+		} catch (JsonProcessingException e) {
+			return false;
+		}
+	}
+
+	private static Long toMillis(Object value) {
+		if (value instanceof Date) {
+			return ((Date) value).getTime();
+		}
+		if (value instanceof LocalDateTime) {
+			return Timestamp.valueOf((LocalDateTime) value).getTime();
+		}
+		if (value instanceof LocalDate) {
+			return java.sql.Date.valueOf((LocalDate) value).getTime();
+		}
+		if (value instanceof LocalTime) {
+			return Time.valueOf((LocalTime) value).getTime();
+		}
+		return null;
+	}
+
+	private static BigDecimal toDecimal(Object value) {
+		try {
+			return new BigDecimal(value.toString().trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static Boolean toBoolean(Object value) {
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		String text = value.toString().trim();
+		if ("true".equalsIgnoreCase(text) || "1".equals(text)) {
+			return Boolean.TRUE;
+		}
+		if ("false".equalsIgnoreCase(text) || "0".equals(text)) {
+			return Boolean.FALSE;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,351 @@
+package com.concerto.crud.common.validationservice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.Validation;
+import com.concerto.crud.common.constant.AppConstant;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.validationservice.FieldValidator.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:26:00 PM
+ * @Purpose : Immutable validator compiled once from the validation settings of
+ *          a field. The pattern codes are decoded at module load into an
+ *          ordered chain of rules, so validating a value only walks that chain
+ *          and never re-parses the pattern. The messages of the rules are
+ *          resolved once per locale and kept with the validator. A declared
+ *          date format is compiled into a DateTimeFormatter, and valid dates
+ *          are handed on as LocalDate, LocalDateTime or LocalTime. Instances
+ *          hold no request state and are shared by all threads.
+ * @Version : 1.0
+ */
+
+public final class FieldValidator {
+
+	private static final String SPECIAL_CHARACTERS = "@.[$&+,:;=?#|<>-_*()%!]^";
+
+	private static final String SPACE_CHARACTERS = " \t\n\u000B\f\r";
+
+	private static final int RULE_COUNT = ValidationRule.values().length;
+
+	private static final int MAX_CACHED_LOCALES = 8;
+
+	private final String fieldName;
+
+	private final String fieldType;
+
+	private final boolean mandatory;
+
+	private final int minimum;
+
+	private final int maximum;
+
+	private final boolean alpha;
+
+	private final boolean numeric;
+
+	private final boolean special;
+
+	private final boolean space;
+
+	private final SafeRegex regex;
+
+	private final DateTimeFormatter dateFormatter;
+
+	private final List<ValidationRule> rules;
+
+	/**
+	 * Characters allowed by the A, N, S and _ codes as a 128-bit ASCII bitmap:
+	 * bit c of allowedLow for c below 64, bit c - 64 of allowedHigh otherwise.
+	 */
+	private final long allowedLow;
+
+	private final long allowedHigh;
+
+	private final Map<Locale, String[]> messages = new ConcurrentHashMap<>(4);
+
+	private FieldValidator(Field field) {
+		Validation validation = field.getValidation();
+		String pattern = validation == null ? null : validation.getPattern();
+		boolean validate = pattern != null && !pattern.trim().isEmpty();
+		this.fieldName = field.getName();
+		this.fieldType = field.getType();
+		this.minimum = validation == null ? 0 : validation.getMinimum();
+		this.maximum = validation == null ? 0 : validation.getMaximum();
+		this.mandatory = validate && pattern.contains(AppConstant.VALIDATION_MANDATORY);
+		this.alpha = validate && pattern.contains(AppConstant.VALIDATION_ALPHA);
+		this.numeric = validate && pattern.contains(AppConstant.VALIDATION_NUMERIC);
+		this.special = validate && pattern.contains(AppConstant.VALIDATION_SPECIAL);
+		this.space = validate && pattern.contains(AppConstant.VALIDATION_SPECE);
+		boolean workflow = validate && pattern.contains(AppConstant.VALIDATION_WORKFLOW);
+		String regexText = validation == null ? null : validation.getRegex();
+		this.regex = regexText == null || regexText.isEmpty() ? null : SafeRegex.compile(regexText);
+		String dateFormat = validation == null ? null : validation.getDateFormat();
+		this.dateFormatter = dateFormat == null || dateFormat.isEmpty() ? null
+				: DateTimeFormatter.ofPattern(strictPattern(dateFormat)).withResolverStyle(ResolverStyle.STRICT);
+
+		List<ValidationRule> chain = new ArrayList<>();
+		if (validate) {
+			addIf(chain, pattern.contains(AppConstant.VALIDATION_EMAIL), ValidationRule.EMAIL);
+			addIf(chain, pattern.contains(AppConstant.VALIDATION_AMOUNT), ValidationRule.AMOUNT);
+			addIf(chain, pattern.contains(AppConstant.VALIDATION_COLORPICKER), ValidationRule.COLORPICKER);
+			addIf(chain, pattern.contains(AppConstant.VALIDATION_IP), ValidationRule.IP);
+			addIf(chain, pattern.contains(AppConstant.VALIDATION_PORT), ValidationRule.PORT);
+			addIf(chain, pattern.contains(AppConstant.VALIDATION_MOBILE), ValidationRule.TELEPHONE);
+		}
+		addIf(chain, minimum > 0 || maximum > 0, ValidationRule.SIZE);
+		addIf(chain, workflow, ValidationRule.WORKFLOW);
+		addIf(chain, !workflow && (alpha || numeric || special), ValidationRule.CHARACTERS);
+		addIf(chain, regex != null, ValidationRule.REGEX);
+		this.rules = Collections.unmodifiableList(chain);
+
+		long[] allowed = new long[2];
+		if (alpha) {
+			allowRange(allowed, 'a', 'z');
+			allowRange(allowed, 'A', 'Z');
+		}
+		if (numeric) {
+			allowRange(allowed, '0', '9');
+		}
+		if (special) {
+			allowAll(allowed, SPECIAL_CHARACTERS);
+		}
+		if (space) {
+			allowAll(allowed, SPACE_CHARACTERS);
+		}
+		this.allowedLow = allowed[0];
+		this.allowedHigh = allowed[1];
+	}
+
+	/**
+	 * Compiles the validation settings of a field.
+	 *
+	 * @param field
+	 *            The field to compile.
+	 * @return The validator of the field.
+	 * @throws IllegalArgumentException
+	 *             If the regex of the field cannot be matched in linear time or
+	 *             its date format is invalid.
+	 */
+	public static FieldValidator compile(Field field) {
+		return new FieldValidator(field);
+	}
+
+	/**
+	 * Validates a value of the field. Rules are applied in order and the first
+	 * failing rule decides the message.
+	 *
+	 * @param value
+	 *            The submitted value, possibly null.
+	 * @param locale
+	 *            The locale of the message.
+	 * @return The validation message, or null if the value is valid.
+	 */
+	public String validate(Object value, Locale locale) {
+		return check(value, locale, null);
+	}
+
+	/**
+	 * Validates the value of the field held by a row. A valid date is replaced in
+	 * the row by its parsed value, so it is bound as a typed temporal later on.
+	 *
+	 * @param row
+	 *            The request or child row holding the value.
+	 * @param locale
+	 *            The locale of the message.
+	 * @return The validation message, or null if the value is valid.
+	 */
+	public String validate(Map<String, Object> row, Locale locale) {
+		return check(row.get(fieldName), locale, row);
+	}
+
+	private String check(Object value, Locale locale, Map<String, Object> row) {
+		if (dateFormatter != null && value instanceof TemporalAccessor) {
+			return null;
+		}
+		String inputText = value == null ? null : String.valueOf(value);
+		if (mandatory && !ValidationRule.MANDATORY.test(inputText, this)) {
+			return message(ValidationRule.MANDATORY, locale);
+		}
+		if (inputText == null || inputText.isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < rules.size(); i++) {
+			ValidationRule rule = rules.get(i);
+			if (!rule.test(inputText, this)) {
+				return message(rule, locale);
+			}
+		}
+		if (dateFormatter != null) {
+			TemporalAccessor date = parseDate(inputText);
+			if (date == null) {
+				return message(ValidationRule.DATE, locale);
+			}
+			if (row != null) {
+				row.put(fieldName, date);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Parses a value with the date format of the field.
+	 *
+	 * @param inputText
+	 *            The value to parse.
+	 * @return A LocalDateTime, LocalDate or LocalTime, depending on the fields
+	 *         of the format, or null if the value does not match the format.
+	 */
+	public TemporalAccessor parseDate(String inputText) {
+		try {
+			return dateFormatter.parseBest(inputText, LocalDateTime::from, LocalDate::from, LocalTime::from);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Resolves the messages of all rules of the field for a locale, so that the
+	 * first failures in that locale do not pay for the lookups.
+	 *
+	 * @param locale
+	 *            The locale to resolve.
+	 */
+	public void resolveMessages(Locale locale) {
+		if (mandatory) {
+			message(ValidationRule.MANDATORY, locale);
+		}
+		for (int i = 0; i < rules.size(); i++) {
+			message(rules.get(i), locale);
+		}
+		if (dateFormatter != null) {
+			message(ValidationRule.DATE, locale);
+		}
+	}
+
+	/**
+	 * Returns the message of a rule in a locale. Messages only depend on the
+	 * field settings, so each is built once and reused; locales beyond the
+	 * first few seen are built on every call rather than cached.
+	 */
+	String message(ValidationRule rule, Locale locale) {
+		String[] resolved = messages.get(locale);
+		if (resolved == null) {
+			if (messages.size() >= MAX_CACHED_LOCALES) {
+				return rule.message(this, locale);
+			}
+			resolved = messages.computeIfAbsent(locale, key -> new String[RULE_COUNT]);
+		}
+		String message = resolved[rule.ordinal()];
+		if (message == null) {
+			message = rule.message(this, locale);
+			resolved[rule.ordinal()] = message;
+		}
+		return message;
+	}
+
+	/**
+	 * Tells whether the character classes of the field allow a character.
+	 *
+	 * @param c
+	 *            The character to check.
+	 * @return True if the character is allowed.
+	 */
+	public boolean allows(char c) {
+		if (c < 64) {
+			return (allowedLow & (1L << c)) != 0;
+		}
+		return c < 128 && (allowedHigh & (1L << (c - 64))) != 0;
+	}
+
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	public String getFieldType() {
+		return fieldType;
+	}
+
+	public int getMinimum() {
+		return minimum;
+	}
+
+	public int getMaximum() {
+		return maximum;
+	}
+
+	public boolean isAlpha() {
+		return alpha;
+	}
+
+	public boolean isNumeric() {
+		return numeric;
+	}
+
+	public boolean isSpecial() {
+		return special;
+	}
+
+	public boolean isSpace() {
+		return space;
+	}
+
+	public SafeRegex getRegex() {
+		return regex;
+	}
+
+	public DateTimeFormatter getDateFormatter() {
+		return dateFormatter;
+	}
+
+	/**
+	 * Replaces the year-of-era letter y by the proleptic year u outside quoted
+	 * text, since strict resolving rejects a year-of-era without an era.
+	 */
+	private static String strictPattern(String dateFormat) {
+		StringBuilder pattern = new StringBuilder(dateFormat.length());
+		boolean quoted = false;
+		for (int i = 0; i < dateFormat.length(); i++) {
+			char c = dateFormat.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			}
+			pattern.append(!quoted && c == 'y' ? 'u' : c);
+		}
+		return pattern.toString();
+	}
+
+	private static void allowRange(long[] allowed, char from, char to) {
+		for (char c = from; c <= to; c++) {
+			allowed[c >> 6] |= 1L << (c & 63);
+		}
+	}
+
+	private static void allowAll(long[] allowed, String characters) {
+		for (int i = 0; i < characters.length(); i++) {
+			char c = characters.charAt(i);
+			allowed[c >> 6] |= 1L << (c & 63);
+		}
+	}
+
+	private static void addIf(List<ValidationRule> chain, boolean condition, ValidationRule rule) {
+		if (condition) {
+			chain.add(rule);
+		}
+	}
+}
@@ -0,0 +1,648 @@
+package com.concerto.crud.common.validationservice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.validationservice.SafeRegex.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:30:54 PM
+ * @Purpose : Regular expressions restricted to a subset that can be matched in
+ *          linear time. A pattern is compiled into a Thompson NFA and matched by
+ *          stepping all NFA states together over the input (Pike VM), so the
+ *          cost is bounded by input length times program size and never
+ *          backtracks. Supported: literals, '.', character classes with ranges
+ *          and negation, the escapes \d \D \w \W \s \S, groups, alternation and
+ *          the quantifiers * + ? {n} {n,} {n,m}. Back-references, look-around,
+ *          word boundaries, inline flags and possessive quantifiers are
+ *          rejected. The whole input must match; a leading ^ and a trailing $
+ *          are accepted and ignored. Compiled patterns are not cached here;
+ *          they are held by the field validators of the module snapshot and
+ *          dropped with it when the module file is reloaded.
+ * @Version : 1.0
+ */
+
+public final class SafeRegex {
+
+	private static final int MAX_INSTRUCTIONS = 4096;
+
+	private static final int MAX_REPEAT = 1000;
+
+	private static final int OP_CLASS = 0;
+
+	private static final int OP_SPLIT = 1;
+
+	private static final int OP_JUMP = 2;
+
+	private static final int OP_MATCH = 3;
+
+	private final String regex;
+
+	private final int[] opcodes;
+
+	private final int[] targets;
+
+	private final int[] alternatives;
+
+	private final CharClass[] classes;
+
+	private SafeRegex(String regex, Program program) {
+		this.regex = regex;
+		int size = program.opcodes.size();
+		this.opcodes = new int[size];
+		this.targets = new int[size];
+		this.alternatives = new int[size];
+		this.classes = program.classes.toArray(new CharClass[size]);
+		for (int i = 0; i < size; i++) {
+			opcodes[i] = program.opcodes.get(i);
+			targets[i] = program.targets.get(i);
+			alternatives[i] = program.alternatives.get(i);
+		}
+	}
+
+	/**
+	 * Compiles a pattern.
+	 *
+	 * @param regex
+	 *            The pattern to compile.
+	 * @return The compiled pattern.
+	 * @throws IllegalArgumentException
+	 *             If the pattern is malformed, uses an unsupported construct or
+	 *             compiles to a program that is too large.
+	 */
+	public static SafeRegex compile(String regex) {
+		Program program = new Program();
+		new Parser(regex).parse().emit(program);
+		program.add(OP_MATCH, 0, 0, null);
+		return new SafeRegex(regex, program);
+	}
+
+	/**
+	 * Tells whether the whole input matches the pattern.
+	 *
+	 * @param input
+	 *            The input to match.
+	 * @return True if the input matches.
+	 */
+	public boolean matches(CharSequence input) {
+		int size = opcodes.length;
+		int[] current = new int[size];
+		int[] next = new int[size];
+		int[] marks = new int[size];
+		int[] stack = new int[2 * size + 1];
+		int generation = 1;
+		int currentCount = addState(current, 0, 0, marks, generation, stack);
+		for (int i = 0; i < input.length() && currentCount > 0; i++) {
+			char c = input.charAt(i);
+			generation++;
+			int nextCount = 0;
+			for (int t = 0; t < currentCount; t++) {
+				int pc = current[t];
+				if (opcodes[pc] == OP_CLASS && classes[pc].matches(c)) {
+					nextCount = addState(next, nextCount, pc + 1, marks, generation, stack);
+				}
+			}
+			int[] swap = current;
+			current = next;
+			next = swap;
+			currentCount = nextCount;
+		}
+		for (int t = 0; t < currentCount; t++) {
+			if (opcodes[current[t]] == OP_MATCH) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the state at pc to the list, following jumps and splits, and returns
+	 * the new list size. Each state is added at most once per step.
+	 */
+	private int addState(int[] list, int count, int pc, int[] marks, int generation, int[] stack) {
+		int top = 0;
+		stack[top++] = pc;
+		while (top > 0) {
+			int state = stack[--top];
+			if (marks[state] == generation) {
+				continue;
+			}
+			marks[state] = generation;
+			if (opcodes[state] == OP_JUMP) {
+				stack[top++] = targets[state];
+			} else if (opcodes[state] == OP_SPLIT) {
+				stack[top++] = alternatives[state];
+				stack[top++] = targets[state];
+			} else {
+				list[count++] = state;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public String toString() {
+		return regex;
+	}
+
+	/**
+	 * Set of characters given as sorted, inclusive ranges.
+	 */
+	private static final class CharClass {
+
+		private final char[] ranges;
+
+		CharClass(char[] ranges) {
+			this.ranges = ranges;
+		}
+
+		boolean matches(char c) {
+			for (int i = 0; i < ranges.length; i += 2) {
+				if (c < ranges[i]) {
+					return false;
+				}
+				if (c <= ranges[i + 1]) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Collects character ranges and normalises them into a CharClass.
+	 */
+	private static final class CharClassBuilder {
+
+		private final List<char[]> ranges = new ArrayList<>();
+
+		CharClassBuilder add(char from, char to) {
+			ranges.add(new char[] { from, to });
+			return this;
+		}
+
+		boolean isSingle() {
+			return ranges.size() == 1 && ranges.get(0)[0] == ranges.get(0)[1];
+		}
+
+		CharClassBuilder addAll(CharClassBuilder other) {
+			ranges.addAll(other.ranges);
+			return this;
+		}
+
+		CharClassBuilder negate() {
+			char[] normalised = normalise();
+			List<char[]> complement = new ArrayList<>();
+			int start = Character.MIN_VALUE;
+			for (int i = 0; i < normalised.length; i += 2) {
+				if (normalised[i] > start) {
+					complement.add(new char[] { (char) start, (char) (normalised[i] - 1) });
+				}
+				start = normalised[i + 1] + 1;
+			}
+			if (start <= Character.MAX_VALUE) {
+				complement.add(new char[] { (char) start, Character.MAX_VALUE });
+			}
+			ranges.clear();
+			ranges.addAll(complement);
+			return this;
+		}
+
+		CharClass build() {
+			return new CharClass(normalise());
+		}
+
+		private char[] normalise() {
+			List<char[]> sorted = new ArrayList<>(ranges);
+			sorted.sort((left, right) -> Character.compare(left[0], right[0]));
+			List<char[]> merged = new ArrayList<>();
+			for (char[] range : sorted) {
+				char[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+				if (last != null && range[0] <= last[1] + 1) {
+					last[1] = (char) Math.max(last[1], range[1]);
+				} else {
+					merged.add(new char[] { range[0], range[1] });
+				}
+			}
+			char[] flat = new char[merged.size() * 2];
+			for (int i = 0; i < merged.size(); i++) {
+				flat[2 * i] = merged.get(i)[0];
+				flat[2 * i + 1] = merged.get(i)[1];
+			}
+			return flat;
+		}
+	}
+
+	/**
+	 * Program under construction.
+	 */
+	private static final class Program {
+
+		private final List<Integer> opcodes = new ArrayList<>();
+
+		private final List<Integer> targets = new ArrayList<>();
+
+		private final List<Integer> alternatives = new ArrayList<>();
+
+		private final List<CharClass> classes = new ArrayList<>();
+
+		int add(int opcode, int target, int alternative, CharClass charClass) {
+			if (opcodes.size() >= MAX_INSTRUCTIONS) {
+				throw new IllegalArgumentException("pattern is too large to be matched in bounded time");
+			}
+			opcodes.add(opcode);
+			targets.add(target);
+			alternatives.add(alternative);
+			classes.add(charClass);
+			return opcodes.size() - 1;
+		}
+
+		int size() {
+			return opcodes.size();
+		}
+	}
+
+	private abstract static class Node {
+
+		abstract void emit(Program program);
+	}
+
+	private static final class ClassNode extends Node {
+
+		private final CharClass charClass;
+
+		ClassNode(CharClass charClass) {
+			this.charClass = charClass;
+		}
+
+		@Override
+		void emit(Program program) {
+			program.add(OP_CLASS, 0, 0, charClass);
+		}
+	}
+
+	private static final class ConcatNode extends Node {
+
+		private final List<Node> nodes;
+
+		ConcatNode(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		void emit(Program program) {
+			for (Node node : nodes) {
+				node.emit(program);
+			}
+		}
+	}
+
+	private static final class AlternationNode extends Node {
+
+		private final List<Node> nodes;
+
+		AlternationNode(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		void emit(Program program) {
+			List<Integer> jumps = new ArrayList<>();
+			for (int i = 0; i < nodes.size() - 1; i++) {
+				int split = program.add(OP_SPLIT, program.size() + 1, 0, null);
+				nodes.get(i).emit(program);
+				jumps.add(program.add(OP_JUMP, 0, 0, null));
+				program.alternatives.set(split, program.size());
+			}
+			nodes.get(nodes.size() - 1).emit(program);
+			for (int jump : jumps) {
+				program.targets.set(jump, program.size());
+			}
+		}
+	}
+
+	private static final class RepeatNode extends Node {
+
+		private final Node node;
+
+		private final int min;
+
+		/** Maximum count, or -1 if unbounded. */
+		private final int max;
+
+		RepeatNode(Node node, int min, int max) {
+			this.node = node;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		void emit(Program program) {
+			for (int i = 0; i < min; i++) {
+				node.emit(program);
+			}
+			if (max < 0) {
+				int split = program.add(OP_SPLIT, program.size() + 1, 0, null);
+				node.emit(program);
+				program.add(OP_JUMP, split, 0, null);
+				program.alternatives.set(split, program.size());
+				return;
+			}
+			List<Integer> splits = new ArrayList<>();
+			for (int i = min; i < max; i++) {
+				splits.add(program.add(OP_SPLIT, program.size() + 1, 0, null));
+				node.emit(program);
+			}
+			for (int split : splits) {
+				program.alternatives.set(split, program.size());
+			}
+		}
+	}
+
+	/**
+	 * Recursive-descent parser producing the syntax tree of a pattern.
+	 */
+	private static final class Parser {
+
+		private final String regex;
+
+		private int pos;
+
+		private int end;
+
+		Parser(String regex) {
+			this.regex = regex;
+			this.end = regex.length();
+		}
+
+		Node parse() {
+			if (pos < end && regex.charAt(pos) == '^') {
+				pos++;
+			}
+			if (end > pos && regex.charAt(end - 1) == '$' && !isEscaped(end - 1)) {
+				end--;
+			}
+			Node node = alternation();
+			if (pos < end) {
+				throw error("unexpected ')'");
+			}
+			return node;
+		}
+
+		private Node alternation() {
+			List<Node> nodes = new ArrayList<>();
+			nodes.add(concatenation());
+			while (pos < end && regex.charAt(pos) == '|') {
+				pos++;
+				nodes.add(concatenation());
+			}
+			return nodes.size() == 1 ? nodes.get(0) : new AlternationNode(nodes);
+		}
+
+		private Node concatenation() {
+			List<Node> nodes = new ArrayList<>();
+			while (pos < end && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+				nodes.add(repetition());
+			}
+			return new ConcatNode(nodes);
+		}
+
+		private Node repetition() {
+			Node atom = atom();
+			if (pos >= end) {
+				return atom;
+			}
+			char c = regex.charAt(pos);
+			int min;
+			int max;
+			if (c == '*') {
+				min = 0;
+				max = -1;
+				pos++;
+			} else if (c == '+') {
+				min = 1;
+				max = -1;
+				pos++;
+			} else if (c == '?') {
+				min = 0;
+				max = 1;
+				pos++;
+			} else if (c == '{') {
+				pos++;
+				min = number();
+				max = min;
+				if (pos < end && regex.charAt(pos) == ',') {
+					pos++;
+					max = pos < end && regex.charAt(pos) == '}' ? -1 : number();
+				}
+				expect('}');
+				if (max >= 0 && max < min) {
+					throw error("invalid repetition range");
+				}
+			} else {
+				return atom;
+			}
+			if (pos < end) {
+				char modifier = regex.charAt(pos);
+				if (modifier == '?') {
+					pos++;
+				} else if (modifier == '+') {
+					throw error("possessive quantifiers are not supported");
+				}
+				if (pos < end && isQuantifier(regex.charAt(pos))) {
+					throw error("nested quantifier");
+				}
+			}
+			return new RepeatNode(atom, min, max);
+		}
+
+		private Node atom() {
+			char c = regex.charAt(pos++);
+			switch (c) {
+			case '(':
+				if (pos < end && regex.charAt(pos) == '?') {
+					if (pos + 1 < end && regex.charAt(pos + 1) == ':') {
+						pos += 2;
+					} else {
+						throw error("look-around, named groups and inline flags are not supported");
+					}
+				}
+				Node group = alternation();
+				expect(')');
+				return group;
+			case '[':
+				return new ClassNode(charClass().build());
+			case '.':
+				return new ClassNode(new CharClassBuilder().add('\n', '\n').add('\r', '\r')
+						.add('\u0085', '\u0085').add('\u2028', '\u2029').negate().build());
+			case '\\':
+				return new ClassNode(escape(false).build());
+			case '^':
+			case '$':
+				throw error("anchors are only supported at the start and end of the pattern");
+			case '*':
+			case '+':
+			case '?':
+			case '{':
+				throw error("dangling quantifier");
+			default:
+				return new ClassNode(new CharClassBuilder().add(c, c).build());
+			}
+		}
+
+		private CharClassBuilder charClass() {
+			boolean negated = pos < end && regex.charAt(pos) == '^';
+			if (negated) {
+				pos++;
+			}
+			CharClassBuilder builder = new CharClassBuilder();
+			boolean empty = true;
+			while (pos < end && (empty || regex.charAt(pos) != ']')) {
+				empty = false;
+				char c = regex.charAt(pos++);
+				if (c == '[' || (c == '&' && pos < end && regex.charAt(pos) == '&')) {
+					throw error("nested classes and class intersections are not supported");
+				}
+				char from = c;
+				if (c == '\\') {
+					CharClassBuilder item = escape(true);
+					if (!item.isSingle()) {
+						builder.addAll(item);
+						continue;
+					}
+					from = item.ranges.get(0)[0];
+				}
+				if (pos + 1 < end && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+					pos++;
+					char to = regex.charAt(pos++);
+					if (to == '\\') {
+						CharClassBuilder escaped = escape(true);
+						if (!escaped.isSingle()) {
+							throw error("invalid class range");
+						}
+						to = escaped.ranges.get(0)[0];
+					}
+					if (to < from) {
+						throw error("invalid class range");
+					}
+					builder.add(from, to);
+				} else {
+					builder.add(from, from);
+				}
+			}
+			expect(']');
+			return negated ? builder.negate() : builder;
+		}
+
+		private CharClassBuilder escape(boolean inClass) {
+			if (pos >= end) {
+				throw error("trailing backslash");
+			}
+			char c = regex.charAt(pos++);
+			switch (c) {
+			case 'd':
+				return digits();
+			case 'D':
+				return digits().negate();
+			case 'w':
+				return word();
+			case 'W':
+				return word().negate();
+			case 's':
+				return space();
+			case 'S':
+				return space().negate();
+			case 't':
+				return single('\t');
+			case 'n':
+				return single('\n');
+			case 'r':
+				return single('\r');
+			case 'f':
+				return single('\f');
+			case 'e':
+				return single('\u001B');
+			case 'x':
+				return single((char) hex(2));
+			case 'u':
+				return single((char) hex(4));
+			default:
+				if (Character.isLetterOrDigit(c)) {
+					throw error(inClass ? "unsupported escape \\" + c
+							: "back-references, boundaries and escape \\" + c + " are not supported");
+				}
+				return single(c);
+			}
+		}
+
+		private int number() {
+			int start = pos;
+			int value = 0;
+			while (pos < end && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') {
+				value = value * 10 + (regex.charAt(pos++) - '0');
+				if (value > MAX_REPEAT) {
+					throw error("repetition count above " + MAX_REPEAT);
+				}
+			}
+			if (pos == start) {
+				throw error("missing repetition count");
+			}
+			return value;
+		}
+
+		private int hex(int digits) {
+			if (pos + digits > end) {
+				throw error("incomplete hexadecimal escape");
+			}
+			try {
+				int value = Integer.parseInt(regex.substring(pos, pos + digits), 16);
+				pos += digits;
+				return value;
+			} catch (NumberFormatException e) {
+				throw error("invalid hexadecimal escape");
+			}
+		}
+
+		private void expect(char c) {
+			if (pos >= end || regex.charAt(pos) != c) {
+				throw error("missing '" + c + "'");
+			}
+			pos++;
+		}
+
+		private boolean isEscaped(int index) {
+			int backslashes = 0;
+			for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+				backslashes++;
+			}
+			return backslashes % 2 == 1;
+		}
+
+		private static boolean isQuantifier(char c) {
+			return c == '*' || c == '+' || c == '?' || c == '{';
+		}
+
+		private static CharClassBuilder single(char c) {
+			return new CharClassBuilder().add(c, c);
+		}
+
+		private static CharClassBuilder digits() {
+			return new CharClassBuilder().add('0', '9');
+		}
+
+		private static CharClassBuilder word() {
+			return new CharClassBuilder().add('a', 'z').add('A', 'Z').add('0', '9').add('_', '_');
+		}
+
+		private static CharClassBuilder space() {
+			return new CharClassBuilder().add(' ', ' ').add('\t', '\r');
+		}
+
+		private IllegalArgumentException error(String reason) {
+			return new IllegalArgumentException(
+					reason + " at index " + Math.min(pos, regex.length()) + " in '" + regex + "'");
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.concerto.crud.common.validationservice;
+
+import java.util.Locale;
+
+import org.springframework.context.MessageSource;
+
+import com.concerto.crud.common.init.WebMVCConfiguration;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.validationservice.ValidationMessages.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:26:00 PM
+ * @Purpose : Resolves the localized texts used to build validation messages.
+ *          Field names are looked up as message keys and fall back to the field
+ *          name itself when no translation exists.
+ * @Version : 1.0
+ */
+
+final class ValidationMessages {
+
+	private ValidationMessages() {
+	}
+
+	static String get(String key, Locale locale) {
+		return messageSource().getMessage(key, null, locale);
+	}
+
+	static String label(String fieldName, Locale locale) {
+		return messageSource().getMessage(fieldName, null, fieldName, locale);
+	}
+
+	private static MessageSource messageSource() {
+		return WebMVCConfiguration.getMessageSource();
+	}
+}
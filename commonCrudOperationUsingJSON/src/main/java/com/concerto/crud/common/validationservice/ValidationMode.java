@@ -0,0 +1,38 @@
+package com.concerto.crud.common.validationservice;
+
+import java.util.Locale;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.validationservice.ValidationMode.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:28:04 PM
+ * @Purpose : How far a request is validated. FAIL_FAST stops at the first
+ *          invalid value, COLLECT_ALL reports every invalid value with child
+ *          rows addressed as Beans[i].FIELD.
+ * @Version : 1.0
+ */
+
+public enum ValidationMode {
+
+	FAIL_FAST, COLLECT_ALL;
+
+	/**
+	 * Parses a mode name, ignoring case and treating '-' like '_'.
+	 *
+	 * @param name
+	 *            The mode name, possibly blank.
+	 * @param defaultMode
+	 *            The mode used when no name is given.
+	 * @return The selected mode.
+	 * @throws IllegalArgumentException
+	 *             If the name does not denote a mode.
+	 */
+	public static ValidationMode from(String name, ValidationMode defaultMode) {
+		if (name == null || name.trim().isEmpty()) {
+			return defaultMode;
+		}
+		return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,326 @@
+package com.concerto.crud.common.validationservice;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.validator.routines.EmailValidator;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.validationservice.ValidationRule.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 08:26:00 PM
+ * @Purpose : The checks behind the validation pattern codes of a field. Each
+ *          rule is stateless: the settings it needs (size limits, character
+ *          classes, field type) are read from the FieldValidator it is applied
+ *          for, so one rule instance is shared by every field and request.
+ * @Version : 1.0
+ */
+
+enum ValidationRule {
+
+	MANDATORY {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			return !(StringUtils.isBlank(inputText)
+					|| (AppConstant.FIELD_TYPE_DROP_DOWN.equals(validator.getFieldType())
+							&& inputText.toLowerCase().contains(AppConstant.FIELD_DROP_DOWN_DEFAULTS)));
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			String key = AppConstant.FIELD_TYPE_TEXT.equals(validator.getFieldType())
+					? AppConstant.VALIDATION_MANDATORY_ENTER
+					: AppConstant.VALIDATION_MANDATORY_SELECT;
+			return ValidationMessages.get(key, locale) + AppConstant.VALIDATION_SPACE + validator.getFieldName();
+		}
+	},
+
+	EMAIL {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			return EmailValidator.getInstance().isValid(inputText);
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_EMAIL, validator, locale);
+		}
+	},
+
+	AMOUNT {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			int length = inputText.length();
+			int point = 0;
+			while (point < length && isDigit(inputText.charAt(point))) {
+				point++;
+			}
+			int decimals = length - point - 1;
+			return point > 0 && point < length && inputText.charAt(point) == '.' && decimals >= 1 && decimals <= 2
+					&& isDigit(inputText.charAt(point + 1)) && isDigit(inputText.charAt(length - 1));
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_AMOUNT, validator, locale);
+		}
+	},
+
+	COLORPICKER {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			if (inputText.length() != 7 || inputText.charAt(0) != '#') {
+				return false;
+			}
+			for (int i = 1; i < 7; i++) {
+				if (!isAlphanumeric(inputText.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_COLORPICKER, validator, locale);
+		}
+	},
+
+	IP {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			return IPV4_PATTERN.matcher(inputText).matches();
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_IP, validator, locale);
+		}
+	},
+
+	PORT {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			try {
+				int port = Integer.parseInt(inputText);
+				return port >= 1 && port <= 65535;
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_PORT, validator, locale);
+		}
+	},
+
+	TELEPHONE {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			return StringUtils.isNumeric(inputText) && inputText.length() == 10;
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_TELEPHONE, validator, locale);
+		}
+	},
+
+	SIZE {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			int length = trimmedLength(inputText);
+			int min = validator.getMinimum();
+			int max = validator.getMaximum();
+			return !(min > 0 && length < min) && !(max > 0 && length > max);
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			int min = validator.getMinimum();
+			int max = validator.getMaximum();
+			if (max > 0) {
+				String chars = ValidationMessages.get(max == 1 ? AppConstant.VALIDATION_SIZE_CHARACTER
+						: AppConstant.VALIDATION_SIZE_CHARACTERS, locale);
+				if (min > 0) {
+					return ValidationMessages.get(AppConstant.VALIDATION_SIZE_MINMAX, locale)
+							+ AppConstant.VALIDATION_SPACE + min
+							+ ValidationMessages.get(AppConstant.VALIDATION_SIZE_AND, locale) + max + chars;
+				}
+				return ValidationMessages.get(AppConstant.VALIDATION_SIZE_MAX, locale) + AppConstant.VALIDATION_SPACE
+						+ max + chars;
+			}
+			String chars = ValidationMessages.get(min == 1 ? AppConstant.VALIDATION_SIZE_CHARACTER
+					: AppConstant.VALIDATION_SIZE_CHARACTERS, locale);
+			return ValidationMessages.get(AppConstant.VALIDATION_SIZE_MIN, locale) + AppConstant.VALIDATION_SPACE
+					+ min + chars;
+		}
+	},
+
+	WORKFLOW {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			int separators = 0;
+			int segmentLength = 0;
+			for (int i = 0; i < inputText.length(); i++) {
+				char c = inputText.charAt(i);
+				if (c == '_') {
+					if (segmentLength == 0 || ++separators > WORKFLOW_SEPARATORS) {
+						return false;
+					}
+					segmentLength = 0;
+				} else if (isAlphanumeric(c)) {
+					segmentLength++;
+				} else {
+					return false;
+				}
+			}
+			return separators == WORKFLOW_SEPARATORS && segmentLength > 0;
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return ValidationMessages.get(AppConstant.VALIDATION_INVALID_WORKFLOW, locale)
+					+ AppConstant.VALIDATION_SPACE + validator.getFieldName();
+		}
+	},
+
+	CHARACTERS {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			for (int i = 0; i < inputText.length(); i++) {
+				if (!validator.allows(inputText.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			boolean alpha = validator.isAlpha();
+			boolean numeric = validator.isNumeric();
+			boolean special = validator.isSpecial();
+			boolean space = validator.isSpace();
+			String error = "";
+			if (alpha && numeric) {
+				error = ValidationMessages.get(AppConstant.VALIDATION_ENTER_ALPHANUMERIC, locale)
+						+ AppConstant.VALIDATION_COMMA;
+			} else if (alpha) {
+				error = ValidationMessages.get(AppConstant.VALIDATION_ENTER_ALPHA, locale)
+						+ AppConstant.VALIDATION_COMMA;
+			} else if (numeric) {
+				error = ValidationMessages.get(AppConstant.VALIDATION_ENTER_NUMERIC, locale)
+						+ AppConstant.VALIDATION_COMMA;
+			}
+
+			if (special && space) {
+				error += ValidationMessages.get(AppConstant.VALIDATION_ENTER_SPECIAL, locale)
+						+ AppConstant.VALIDATION_SPACE + ValidationMessages.get(AppConstant.VALIDATION_SIZE_AND, locale)
+						+ AppConstant.VALIDATION_SPACE
+						+ ValidationMessages.get(AppConstant.VALIDATION_ENTER_SPACE, locale);
+			} else if (special || space) {
+				error = trimComma(error) + ValidationMessages.get(AppConstant.VALIDATION_SIZE_AND, locale)
+						+ AppConstant.VALIDATION_SPACE
+						+ ValidationMessages.get(special ? AppConstant.VALIDATION_ENTER_SPECIAL
+								: AppConstant.VALIDATION_ENTER_SPACE, locale);
+			}
+			return ValidationMessages.get(AppConstant.VALIDATION_ENTER_ONLY, locale) + AppConstant.VALIDATION_SPACE
+					+ trimComma(error) + AppConstant.VALIDATION_SPACE
+					+ ValidationMessages.get(AppConstant.VALIDATION_SIZE_CHARACTERS, locale);
+		}
+	},
+
+	DATE {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			return validator.parseDate(inputText) != null;
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_DATE, validator, locale);
+		}
+	},
+
+	REGEX {
+		@Override
+		boolean test(String inputText, FieldValidator validator) {
+			return validator.getRegex().matches(inputText);
+		}
+
+		@Override
+		String message(FieldValidator validator, Locale locale) {
+			return invalid(AppConstant.VALIDATION_INVALID_FORMAT, validator, locale);
+		}
+	};
+
+	private static final int WORKFLOW_SEPARATORS = 4;
+
+	private static final Pattern IPV4_PATTERN = Pattern.compile("^(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\."
+			+ "(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\." + "(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\."
+			+ "(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$");
+
+	/**
+	 * Checks a non-empty input against this rule.
+	 *
+	 * @param inputText
+	 *            The input to check.
+	 * @param validator
+	 *            The compiled validator of the field being checked.
+	 * @return True if the input satisfies the rule.
+	 */
+	abstract boolean test(String inputText, FieldValidator validator);
+
+	/**
+	 * Builds the message reported when the rule fails for a field.
+	 *
+	 * @param validator
+	 *            The compiled validator of the field being checked.
+	 * @param locale
+	 *            The locale of the message.
+	 * @return The localized validation message.
+	 */
+	abstract String message(FieldValidator validator, Locale locale);
+
+	private static String invalid(String key, FieldValidator validator, Locale locale) {
+		return ValidationMessages.get(key, locale) + AppConstant.VALIDATION_SPACE
+				+ ValidationMessages.label(validator.getFieldName(), locale);
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isAlphanumeric(char c) {
+		return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	/**
+	 * Length of the input as String.trim() would leave it, without creating the
+	 * trimmed string.
+	 */
+	private static int trimmedLength(String inputText) {
+		int start = 0;
+		int end = inputText.length();
+		while (start < end && inputText.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && inputText.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end - start;
+	}
+
+	private static String trimComma(String error) {
+		return error.endsWith(AppConstant.VALIDATION_COMMA)
+				? error.substring(0, error.length() - AppConstant.VALIDATION_COMMA.length())
+				: error;
+	}
+}
@@ -1,16 +1,19 @@
 package com.concerto.crud.common.validationservice;
 
-import java.text.SimpleDateFormat;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.context.MessageSource;
-import org.springframework.context.annotation.Scope;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -18,7 +21,6 @@ import com.concerto.crud.common.bean.Bean;
 import com.concerto.crud.common.bean.Field;
 import com.concerto.crud.common.bean.Module;
 import com.concerto.crud.common.constant.AppConstant;
-import com.concerto.crud.common.init.WebMVCConfiguration;
 import com.concerto.crud.common.util.Logging;
 
 /**
@@ -29,386 +31,290 @@ import com.concerto.crud.common.util.Logging;
  * @AddedDate : October 03, 2023 12:30:40 PM
  * @Purpose : Service class for performing validation checks on fields within a
  *          module. It supports checks for mandatory fields, character patterns,
- *          size constraints, and specific validation patterns.
+ *          size constraints, and specific validation patterns. The checks of
+ *          each field are compiled once into a FieldValidator; the service
+ *          itself is stateless and shared by all requests. Large child row
+ *          lists are split across a bounded fork/join pool; the merged result
+ *          is the same as a sequential run would give.
  * @Version : 1.0
  */
 
 @Service
-@Scope("prototype")
 public class ValidationService {
 
-	private static final Pattern ALPHA_PATTERN = Pattern.compile("[a-z]", Pattern.CASE_INSENSITIVE);
-	private static final Pattern NUMERIC_PATTERN = Pattern.compile("[0-9]", Pattern.CASE_INSENSITIVE);
-	private static final Pattern SPECIAL_PATTERN = Pattern.compile("[@.\\[$&+,:;=?#|<>\\-_*()%!\\]^]",
-			Pattern.CASE_INSENSITIVE);
-	private static final Pattern SPACE_PATTERN = Pattern.compile("\\s", Pattern.CASE_INSENSITIVE);
-	private static final Pattern AMOUNT_2D_PATTERN = Pattern.compile("^\\d+\\.\\d{2}$", Pattern.CASE_INSENSITIVE);
-	private static final Pattern AMOUNT_1D_PATTERN = Pattern.compile("^\\d+\\.\\d{1}$", Pattern.CASE_INSENSITIVE);
-	private static final Pattern COLORPICKER_PATTERN = Pattern.compile("^#[a-z0-9]+", Pattern.CASE_INSENSITIVE);
-	private static final String IPV4_REGEX = "^(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\."
-			+ "(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\." + "(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\."
-			+ "(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$";
-	private static final Pattern IPv4_PATTERN = Pattern.compile(IPV4_REGEX);
-	private static final String WORKFLOW_REGEX = "^[a-zA-Z\\d]+_[a-zA-Z\\d]+_[a-zA-Z\\d]+_[a-zA-Z\\d]+_[a-zA-Z\\d]+$";
-	private static final Pattern WORKFLOW_PATTERN = Pattern.compile(WORKFLOW_REGEX, Pattern.CASE_INSENSITIVE);
-	private static MessageSource messageSource = WebMVCConfiguration.getMessageSource();
-
-	String fieldName = "";
-	String fieldType = "text";
-	String checkValidation = "";
-	int min = 0;
-	int max = 0;
-	String dateFormat = "";
-	String message;
-	Locale locale;
+	@Value("${crud.validation.mode:COLLECT_ALL}")
+	private String defaultMode;
 
-	public Map<String, String> isValid(Field field, Object obj, Map<String, String> result) {
+	@Value("${crud.validation.parallel.threshold:2000}")
+	private int parallelThreshold;
 
-		fieldName = field.getName();
-		fieldType = field.getType();
-		checkValidation = field.getValidation().getPattern();
-		max = field.getValidation().getMaximum();
-		min = field.getValidation().getMinimum();
+	@Value("${crud.validation.parallel.threads:0}")
+	private int parallelThreads;
 
-		try {
-			String inputText = null;
-			if (obj != null) {
-				inputText = String.valueOf(obj);
-			}
-			locale = LocaleContextHolder.getLocale();
-			boolean validate = checkValidation != null && !checkValidation.trim().isEmpty();
-			if ((validate && !checkMandatory(inputText, result)) || (inputText == null || inputText.isEmpty())) {
+	@Value("${crud.validation.parallel.chunk-size:500}")
+	private int chunkSize;
 
-				return result;
-			}
-			if (validate
-					&& (!checkMail(inputText, result) || !checkAmount(inputText, result)
-							|| !checkColorpicker(inputText, result) || !checkIP(inputText, result)
-							|| !checkPort(inputText, result) || !checkTel(inputText, result))
-					|| !checkSize(inputText, result) || !checkWorkFlow(inputText, result)) {
-				return result;
-			}
-			if (dateFormat != null && !dateFormat.isEmpty() && !checkDate(inputText, result)) {
-				message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_DATE, null, locale)
-						+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-				return result;
-			}
-			if (validate && !checkCharacters(inputText, result)) {
-				return result;
-			}
+	private ForkJoinPool validationPool;
 
-		} catch (Exception e) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_FAILED, null, locale);
-		}
-		return result;
+	@PostConstruct
+	public void startPool() {
+		int threads = parallelThreads > 0 ? parallelThreads : Runtime.getRuntime().availableProcessors();
+		validationPool = new ForkJoinPool(threads, pool -> {
+			ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			worker.setName(AppConstant.VALIDATION_THREAD + worker.getPoolIndex());
+			return worker;
+		}, null, false);
 	}
 
-	@SuppressWarnings("unchecked")
-	public Map<String, String> checkValidation(Module module, Map<String, Object> map) {
-		Map<String, String> result = new HashMap<>();
-		List<Map<String, String>> beansData = (List<Map<String, String>>) map.get("Beans");
-		for (Field field : module.getFields()) {
-			result = isValid(field, map.get(field.getName()), result);
-		}
-
-		if (beansData != null) {
-			for (Bean bean : module.getBeans()) {
-				for (Field field : bean.getFields()) {
-					for (int i = 0; i < beansData.size(); i++) {
-						Map<String, String> beanMap = beansData.get(i);
-						result = isValid(field, beanMap.get(field.getName()), result);
-					}
-				}
-			}
-		}
-
-		return result;
+	@PreDestroy
+	public void stopPool() {
+		validationPool.shutdown();
 	}
 
-	public boolean checkWorkFlow(String inputText, Map<String, String> result) {
-		boolean valid = false;
-		boolean workflow = checkValidation.contains(AppConstant.VALIDATION_WORKFLOW);
-		if (!workflow) {
-			valid = true;
-		} else {
-			Matcher matcher = WORKFLOW_PATTERN.matcher(inputText);
-			inputText = matcher.replaceAll("");
-			if (!inputText.isEmpty()) {
-				message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_EMAIL, null, locale)
-						+ AppConstant.VALIDATION_SPACE + fieldName;
-				Logging.info(message);
-				result.put(fieldName, message);
-			}
-		}
-		return valid;
+	public Map<String, String> isValid(Field field, Object obj, Map<String, String> result) {
+		return isValid(field, obj, result, LocaleContextHolder.getLocale());
 	}
 
-	private boolean checkMandatory(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		if (checkValidation.contains(AppConstant.VALIDATION_MANDATORY)
-				&& (StringUtils.isBlank(inputText) || (AppConstant.FIELD_TYPE_DROP_DOWN.equals(fieldType)
-						&& inputText.toLowerCase().contains(AppConstant.FIELD_DROP_DOWN_DEFAULTS)))) {
-			valid = false;
-			if (AppConstant.FIELD_TYPE_RADIO.equals(fieldType)) {
-				message = messageSource.getMessage(AppConstant.VALIDATION_MANDATORY_SELECT, null, locale)
-						+ AppConstant.VALIDATION_SPACE + fieldName;
-			} else if (AppConstant.FIELD_TYPE_TEXT.equals(fieldType)) {
-				message = messageSource.getMessage(AppConstant.VALIDATION_MANDATORY_ENTER, null, locale)
-						+ AppConstant.VALIDATION_SPACE + fieldName;
-			} else {
-				message = messageSource.getMessage(AppConstant.VALIDATION_MANDATORY_SELECT, null, locale)
-						+ AppConstant.VALIDATION_SPACE + fieldName;
-			}
-			Logging.info(message);
-			result.put(fieldName, message);
+	/**
+	 * Validates one value of a field and records the message of the first
+	 * failing check under the field name.
+	 *
+	 * @param field
+	 *            The field the value belongs to.
+	 * @param obj
+	 *            The submitted value.
+	 * @param result
+	 *            The map collecting validation messages.
+	 * @param locale
+	 *            The locale of the messages.
+	 * @return The result map.
+	 */
+	public Map<String, String> isValid(Field field, Object obj, Map<String, String> result, Locale locale) {
+		String message = validate(field, obj, locale);
+		if (message != null) {
+			result.put(field.getName(), message);
 		}
-		return valid;
+		return result;
 	}
 
-	private boolean checkCharacters(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		boolean alpha = checkValidation.contains(AppConstant.VALIDATION_ALPHA);
-		boolean numeric = checkValidation.contains(AppConstant.VALIDATION_NUMERIC);
-		boolean special = checkValidation.contains(AppConstant.VALIDATION_SPECIAL);
-		boolean space = checkValidation.contains(AppConstant.VALIDATION_SPACE);
+	public Map<String, String> checkValidation(Module module, Map<String, Object> map) {
+		return checkValidation(module, map, (String) null);
+	}
 
-		if (!alpha && !numeric && !special) {
-			valid = true;
-		} else {
-			if (alpha) {
-				Matcher matcher = ALPHA_PATTERN.matcher(inputText);
-				inputText = matcher.replaceAll("");
-			}
-			if (numeric) {
-				Matcher matcher = NUMERIC_PATTERN.matcher(inputText);
-				inputText = matcher.replaceAll("");
-			}
-			if (special) {
-				Matcher matcher = SPECIAL_PATTERN.matcher(inputText);
-				inputText = matcher.replaceAll("");
-			}
-			if (space) {
-				Matcher matcher = SPACE_PATTERN.matcher(inputText);
-				inputText = matcher.replaceAll("");
-			}
+	/**
+	 * Validates a request in the given mode. The mode name is optional and
+	 * defaults to crud.validation.mode.
+	 *
+	 * @param module
+	 *            The module the request belongs to.
+	 * @param map
+	 *            The request body.
+	 * @param mode
+	 *            The name of the validation mode, possibly blank.
+	 * @return The validation messages, empty if the request is valid.
+	 * @throws IllegalArgumentException
+	 *             If the mode name does not denote a mode.
+	 */
+	public Map<String, String> checkValidation(Module module, Map<String, Object> map, String mode) {
+		return checkValidation(module, map,
+				ValidationMode.from(mode, ValidationMode.from(defaultMode, ValidationMode.COLLECT_ALL)));
+	}
 
-			if (inputText.equals("")) {
-				valid = true;
-			} else {
-				setCharactersError(alpha, numeric, special, space, result);
-				valid = false;
+	/**
+	 * Validates the parent fields of a request followed by its child rows, row
+	 * by row. Messages of parent fields are keyed by field name and those of
+	 * child rows by Beans[i].FIELD, in row order. Child row lists of at least
+	 * crud.validation.parallel.threshold rows are validated on the validation
+	 * pool, smaller ones on the calling thread.
+	 *
+	 * @param module
+	 *            The module the request belongs to.
+	 * @param map
+	 *            The request body.
+	 * @param mode
+	 *            FAIL_FAST to stop at the first invalid value, COLLECT_ALL to
+	 *            report all of them.
+	 * @return The validation messages, empty if the request is valid.
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, String> checkValidation(Module module, Map<String, Object> map, ValidationMode mode) {
+		Locale locale = LocaleContextHolder.getLocale();
+		boolean failFast = mode == ValidationMode.FAIL_FAST;
+		Map<String, String> result = new LinkedHashMap<>();
+		for (Field field : module.getFields()) {
+			String message = validate(field, map, locale);
+			if (message != null) {
+				result.put(field.getName(), message);
+				if (failFast) {
+					return result;
+				}
 			}
 		}
-		return valid;
-	}
 
-	private void setCharactersError(boolean alpha, boolean numeric, boolean special, boolean space,
-			Map<String, String> result) {
-		String error = "";
-		if (alpha && numeric) {
-			error = messageSource.getMessage(AppConstant.VALIDATION_ENTER_ALPHANUMERIC, null, locale)
-					+ AppConstant.VALIDATION_COMMA;
-		} else if (alpha) {
-			error = messageSource.getMessage(AppConstant.VALIDATION_ENTER_ALPHA, null, locale)
-					+ AppConstant.VALIDATION_COMMA;
-		} else if (numeric) {
-			error = messageSource.getMessage(AppConstant.VALIDATION_ENTER_NUMERIC, null, locale)
-					+ AppConstant.VALIDATION_COMMA;
+		List<Map<String, Object>> beansData = (List<Map<String, Object>>) map.get(AppConstant.BEANS);
+		if (beansData == null || module.getBeans() == null) {
+			return result;
 		}
-
-		if (special && space) {
-			error += messageSource.getMessage(AppConstant.VALIDATION_ENTER_SPECIAL, null, locale)
-					+ AppConstant.VALIDATION_SPACE
-					+ messageSource.getMessage(AppConstant.VALIDATION_SIZE_AND, null, locale)
-					+ AppConstant.VALIDATION_SPACE
-					+ messageSource.getMessage(AppConstant.VALIDATION_ENTER_SPACE, null, locale);
-		} else if (special) {
-			if (error.endsWith(AppConstant.VALIDATION_COMMA)) {
-				error = error.substring(0, error.length() - 2);
-			}
-			error += messageSource.getMessage(AppConstant.VALIDATION_SIZE_AND, null, locale)
-					+ AppConstant.VALIDATION_SPACE
-					+ messageSource.getMessage(AppConstant.VALIDATION_ENTER_SPECIAL, null, locale);
-		} else if (space) {
-			if (error.endsWith(AppConstant.VALIDATION_COMMA)) {
-				error = error.substring(0, error.length() - 2);
-			}
-			error += messageSource.getMessage(AppConstant.VALIDATION_SIZE_AND, null, locale)
-					+ AppConstant.VALIDATION_SPACE
-					+ messageSource.getMessage(AppConstant.VALIDATION_ENTER_SPACE, null, locale);
+		List<Field> beanFields = new ArrayList<>();
+		for (Bean bean : module.getBeans()) {
+			beanFields.addAll(bean.getFields());
 		}
-		if (error.endsWith(AppConstant.VALIDATION_COMMA)) {
-			error = error.substring(0, error.length() - 2);
+		RowValidation rows = new RowValidation(beanFields, beansData, locale, failFast);
+		if (parallelThreshold > 0 && beansData.size() >= parallelThreshold) {
+			result.putAll(validationPool.invoke(new RowValidationTask(rows, 0, beansData.size(),
+					Math.max(1, chunkSize))));
+		} else {
+			result.putAll(rows.validate(0, beansData.size()));
 		}
-		message = messageSource.getMessage(AppConstant.VALIDATION_ENTER_ONLY, null, locale)
-				+ AppConstant.VALIDATION_SPACE + error + AppConstant.VALIDATION_SPACE
-				+ messageSource.getMessage(AppConstant.VALIDATION_SIZE_CHARACTERS, null, locale);
-		String e = fieldName + " : " + message;
-		Logging.info(e);
-		result.put(fieldName, message);
+		return result;
 	}
 
-	// this method checks for other than numeric
-	private boolean checkTel(String tel, Map<String, String> result) {
-		boolean valid = true;
+	/**
+	 * Validates one value of a field.
+	 *
+	 * @return The validation message, or null if the value is valid.
+	 */
+	private static String validate(Field field, Object obj, Locale locale) {
+		String message;
 		try {
-			if (checkValidation.contains(AppConstant.VALIDATION_MOBILE)
-					&& (!StringUtils.isNumeric(tel) || tel.length() != 10)) {
-				valid = false;
-			}
+			message = validator(field).validate(obj, locale);
 		} catch (Exception e) {
-			valid = false;
+			Logging.error(AppConstant.VALIDATION_FAILED, e);
+			message = ValidationMessages.get(AppConstant.VALIDATION_FAILED, locale);
 		}
-		if (!valid) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_TELEPHONE, null, locale)
-					+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-			Logging.info(message);
-			result.put(fieldName, message);
+		if (message != null) {
+			Logging.info(field.getName() + " : " + message);
 		}
-		return valid;
+		return message;
 	}
 
-	private boolean checkSize(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		if (min > 0 && inputText.trim().length() < min) {
-			valid = false;
-		}
-		if (valid && max > 0 && inputText.trim().length() > max) {
-			valid = false;
-		}
-		String chars = messageSource.getMessage(AppConstant.VALIDATION_SIZE_CHARACTERS, null, locale);
-		if (max == 1) {
-			chars = messageSource.getMessage(AppConstant.VALIDATION_SIZE_CHARACTER, null, locale);
+	/**
+	 * Validates the value of a field held by a row, replacing a valid date by
+	 * its parsed value.
+	 *
+	 * @return The validation message, or null if the value is valid.
+	 */
+	private static String validate(Field field, Map<String, Object> row, Locale locale) {
+		String message;
+		try {
+			message = validator(field).validate(row, locale);
+		} catch (Exception e) {
+			Logging.error(AppConstant.VALIDATION_FAILED, e);
+			message = ValidationMessages.get(AppConstant.VALIDATION_FAILED, locale);
 		}
-		if (!valid && min > 0 && max > 0) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_SIZE_MINMAX, null, locale)
-					+ AppConstant.VALIDATION_SPACE + min
-					+ messageSource.getMessage(AppConstant.VALIDATION_SIZE_AND, null, locale) + max + chars;
-			Logging.info(message);
-			result.put(fieldName, message);
-		} else if (!valid && max > 0) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_SIZE_MAX, null, locale)
-					+ AppConstant.VALIDATION_SPACE + max + chars;
-			Logging.info(message);
-			result.put(fieldName, message);
-		} else if (!valid && min > 0) {
-			chars = messageSource.getMessage(AppConstant.VALIDATION_SIZE_CHARACTERS, null, locale);
-			if (min == 1) {
-				chars = messageSource.getMessage(AppConstant.VALIDATION_SIZE_CHARACTER, null, locale);
-			}
-			message = messageSource.getMessage(AppConstant.VALIDATION_SIZE_MIN, null, locale)
-					+ AppConstant.VALIDATION_SPACE + min + chars;
-			Logging.info(message);
-			result.put(fieldName, message);
+		if (message != null) {
+			Logging.info(field.getName() + " : " + message);
 		}
+		return message;
+	}
 
-		return valid;
+	private static String rowKey(int row, Field field) {
+		return AppConstant.BEANS + '[' + row + "]." + field.getName();
 	}
 
-	private boolean checkMail(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		if (checkValidation.contains(AppConstant.VALIDATION_EMAIL)) {
-			valid = org.apache.commons.validator.routines.EmailValidator.getInstance().isValid(inputText);
-		}
-		if (!valid) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_EMAIL, null, locale)
-					+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-			Logging.info(message);
-			result.put(fieldName, message);
+	/**
+	 * The child rows of one request together with how they are validated.
+	 * Shared by all tasks working on the request.
+	 */
+	private static final class RowValidation {
+
+		private final List<Field> fields;
+
+		private final List<Map<String, Object>> rows;
+
+		private final Locale locale;
+
+		private final boolean failFast;
+
+		/** Lowest row found invalid so far, used to stop fail-fast runs early. */
+		private final AtomicInteger firstInvalidRow = new AtomicInteger(Integer.MAX_VALUE);
+
+		RowValidation(List<Field> fields, List<Map<String, Object>> rows, Locale locale, boolean failFast) {
+			this.fields = fields;
+			this.rows = rows;
+			this.locale = locale;
+			this.failFast = failFast;
 		}
-		return valid;
-	}
 
-	private boolean checkColorpicker(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		if (checkValidation.contains(AppConstant.VALIDATION_COLORPICKER)) {
-			if (inputText.length() != 7 || !inputText.startsWith("#")) {
-				valid = false;
-				String e = fieldName + ": Invalid ColorPicker length";
-				Logging.info(e);
-				result.put(fieldName, message);
-			} else {
-				Matcher matcher = COLORPICKER_PATTERN.matcher(inputText);
-				inputText = matcher.replaceAll("");
-				if (!inputText.equals("")) {
-					valid = false;
+		/**
+		 * Validates the rows from (inclusive) to (exclusive) in order. In fail-fast
+		 * mode only the first message is kept, and rows after an invalid row found
+		 * by another task are skipped since they cannot hold the first message.
+		 */
+		Map<String, String> validate(int from, int to) {
+			Map<String, String> result = new LinkedHashMap<>();
+			for (int i = from; i < to; i++) {
+				if (failFast && i > firstInvalidRow.get()) {
+					break;
+				}
+				Map<String, Object> row = rows.get(i);
+				for (int f = 0; f < fields.size(); f++) {
+					Field field = fields.get(f);
+					String message = ValidationService.validate(field, row, locale);
+					if (message != null) {
+						result.put(rowKey(i, field), message);
+						if (failFast) {
+							firstInvalidRow.accumulateAndGet(i, Math::min);
+							return result;
+						}
+					}
 				}
 			}
+			return result;
 		}
-		if (!valid) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_COLORPICKER, null, locale)
-					+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-			Logging.info(message);
-			result.put(fieldName, message);
-		}
-		return valid;
 	}
 
-	private boolean checkIP(String ip, Map<String, String> result) {
-		boolean valid = true;
-		if (checkValidation.contains(AppConstant.VALIDATION_IP)) {
-			Matcher matcher = IPv4_PATTERN.matcher(ip);
-			if (!matcher.matches()) {
-				valid = false;
-				message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_IP, null, locale)
-						+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-				Logging.info(message);
-				result.put(fieldName, message);
-			}
-		}
-		return valid;
-	}
+	/**
+	 * Splits a row range in halves down to the chunk size and merges the
+	 * messages of the halves in row order.
+	 */
+	private static final class RowValidationTask extends RecursiveTask<Map<String, String>> {
 
-	private boolean checkPort(String port, Map<String, String> result) {
-		boolean valid = true;
-		try {
-			if (checkValidation.contains(AppConstant.VALIDATION_PORT)) {
-				int intPort = Integer.parseInt(port);
-				if (intPort < 1 || intPort > 65535) {
-					valid = false;
-				}
-			}
-		} catch (Exception e) {
-			valid = false;
-		}
-		if (!valid) {
-			message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_PORT, null, locale)
-					+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-			Logging.info(message);
-			result.put(fieldName, message);
+		private static final long serialVersionUID = 1L;
+
+		private final transient RowValidation rows;
+
+		private final int from;
+
+		private final int to;
+
+		private final int chunkSize;
+
+		RowValidationTask(RowValidation rows, int from, int to, int chunkSize) {
+			this.rows = rows;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
 		}
-		return valid;
-	}
 
-	private boolean checkAmount(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		if (checkValidation.contains(AppConstant.VALIDATION_AMOUNT)) {
-			inputText = AMOUNT_2D_PATTERN.matcher(inputText).replaceAll("");
-			inputText = AMOUNT_1D_PATTERN.matcher(inputText).replaceAll("");
-			if (!inputText.equals("")) {
-				valid = false;
-				message = messageSource.getMessage(AppConstant.VALIDATION_INVALID_AMOUNT, null, locale)
-						+ AppConstant.VALIDATION_SPACE + messageSource.getMessage(fieldName, null, locale);
-				Logging.info(message);
-				result.put(fieldName, message);
+		@Override
+		protected Map<String, String> compute() {
+			if (to - from <= chunkSize) {
+				return rows.validate(from, to);
+			}
+			int middle = (from + to) >>> 1;
+			RowValidationTask left = new RowValidationTask(rows, from, middle, chunkSize);
+			left.fork();
+			Map<String, String> right = new RowValidationTask(rows, middle, to, chunkSize).compute();
+			Map<String, String> result = left.join();
+			if (!(rows.failFast && !result.isEmpty())) {
+				result.putAll(right);
 			}
+			return result;
 		}
-		return valid;
 	}
 
-	private boolean checkDate(String inputText, Map<String, String> result) {
-		boolean valid = true;
-		try {
-			SimpleDateFormat format = new SimpleDateFormat(dateFormat);
-			format.setLenient(true);
-			format.parse(inputText);
-		} catch (Exception e) {
-			String e1 = fieldName + AppConstant.INVALID_DATE;
-			Logging.info(e1);
-			result.put(fieldName, AppConstant.INVALID_DATE);
-			valid = false;
+	/**
+	 * Returns the compiled validator of a field. Validators are compiled when
+	 * the modules are loaded; a field built elsewhere is compiled on first use.
+	 * Compiling twice is harmless since validators are immutable.
+	 */
+	private static FieldValidator validator(Field field) {
+		FieldValidator validator = field.getValidator();
+		if (validator == null) {
+			validator = FieldValidator.compile(field);
+			field.setValidator(validator);
 		}
-		return valid;
+		return validator;
 	}
-
 }
@@ -0,0 +1,112 @@
+package com.concerto.crud.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.cache.CountingBloomFilterTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:04:38 PM
+ * @Purpose : Tests adding, removing and saturating keys of the counting Bloom
+ *          filter, and that it never answers a false negative.
+ * @Version : 1.0
+ */
+
+class CountingBloomFilterTest {
+
+	@Test
+	void addedKeysAreAlwaysReported() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01, 1 << 20);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("KEY" + i);
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(filter.mightContain("KEY" + i), "KEY" + i);
+		}
+		assertEquals(1000, filter.getKeyCount());
+	}
+
+	@Test
+	void overfilledFilterHasNoFalseNegatives() {
+		CountingBloomFilter filter = new CountingBloomFilter(100, 0.01, 256);
+		for (int i = 0; i < 5000; i++) {
+			filter.add("KEY" + i);
+		}
+		for (int i = 0; i < 5000; i++) {
+			assertTrue(filter.mightContain("KEY" + i), "KEY" + i);
+		}
+	}
+
+	@Test
+	void absentKeysAreMostlyRejected() {
+		CountingBloomFilter filter = new CountingBloomFilter(10000, 0.01, 1 << 20);
+		for (int i = 0; i < 10000; i++) {
+			filter.add("PRESENT" + i);
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.mightContain("ABSENT" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+		assertEquals(0.01, filter.getEstimatedFalsePositiveRate(), 0.01);
+	}
+
+	@Test
+	void removedKeyIsForgotten() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01, 1 << 20);
+		filter.add("KEY");
+		filter.remove("KEY");
+		assertFalse(filter.mightContain("KEY"));
+		assertEquals(0, filter.getKeyCount());
+	}
+
+	@Test
+	void removingKeysKeepsTheOthers() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01, 1 << 20);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("KEY" + i);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			filter.remove("KEY" + i);
+		}
+		for (int i = 1; i < 1000; i += 2) {
+			assertTrue(filter.mightContain("KEY" + i), "KEY" + i);
+		}
+		assertEquals(500, filter.getKeyCount());
+	}
+
+	@Test
+	void removingFromEmptyFilterIsIgnored() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01, 1 << 20);
+		filter.remove("KEY");
+		assertEquals(0, filter.getKeyCount());
+		filter.add("KEY");
+		assertTrue(filter.mightContain("KEY"));
+	}
+
+	@Test
+	void saturatedCountersAreNeverDecremented() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01, 1 << 20);
+		for (int i = 0; i < 300; i++) {
+			filter.add("KEY");
+		}
+		for (int i = 0; i < 300; i++) {
+			filter.remove("KEY");
+		}
+		assertTrue(filter.mightContain("KEY"));
+		assertEquals(0, filter.getKeyCount());
+	}
+
+	@Test
+	void memoryIsCappedAtBudget() {
+		assertEquals(4096, new CountingBloomFilter(1000000, 0.01, 4096).getMemoryBytes());
+		assertEquals(64, new CountingBloomFilter(1, 0.5, 1 << 20).getMemoryBytes());
+	}
+}
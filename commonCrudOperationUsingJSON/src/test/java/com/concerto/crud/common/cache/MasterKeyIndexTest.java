@@ -0,0 +1,87 @@
+package com.concerto.crud.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.cache.MasterKeyIndexTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:04:38 PM
+ * @Purpose : Tests that master keys are normalised the way SQL Server compares
+ *          them, and that filters of different tenants and entities do not
+ *          share a slot.
+ * @Version : 1.0
+ */
+
+class MasterKeyIndexTest {
+
+	@Test
+	void numbersAreNormalisedByValue() {
+		String ten = MasterKeyIndex.normalise(10);
+		assertEquals("10", ten);
+		assertEquals(ten, MasterKeyIndex.normalise(10L));
+		assertEquals(ten, MasterKeyIndex.normalise("10"));
+		assertEquals(ten, MasterKeyIndex.normalise(" 10.00 "));
+		assertEquals(ten, MasterKeyIndex.normalise(new BigDecimal("1E+1")));
+		assertEquals("0", MasterKeyIndex.normalise("-0.0"));
+		assertEquals("0.5", MasterKeyIndex.normalise(0.50));
+	}
+
+	@Test
+	void stringsAreNormalisedWithoutCaseAndBlanks() {
+		assertEquals("ABC", MasterKeyIndex.normalise(" abc "));
+		assertEquals(MasterKeyIndex.normalise("Abc"), MasterKeyIndex.normalise("aBC\t"));
+		assertNotEquals(MasterKeyIndex.normalise("A B"), MasterKeyIndex.normalise("AB"));
+	}
+
+	@Test
+	void otherTypesAreNotNormalised() {
+		assertNull(MasterKeyIndex.normalise(null));
+		assertNull(MasterKeyIndex.normalise(new Date()));
+		assertNull(MasterKeyIndex.normalise(Boolean.TRUE));
+	}
+
+	@Test
+	void compositeKeyValuesDoNotRunTogether() {
+		List<String> primaryFields = Arrays.asList("A", "B");
+		assertNotEquals(MasterKeyIndex.toKey(primaryFields, row("X", "YZ")),
+				MasterKeyIndex.toKey(primaryFields, row("XY", "Z")));
+		assertEquals(MasterKeyIndex.toKey(primaryFields, row("x", 1)),
+				MasterKeyIndex.toKey(primaryFields, row(" X", "1.0")));
+	}
+
+	@Test
+	void keyWithMissingOrUnsupportedValueIsNull() {
+		List<String> primaryFields = Arrays.asList("A", "B");
+		assertNull(MasterKeyIndex.toKey(primaryFields, row("X", null)));
+		assertNull(MasterKeyIndex.toKey(primaryFields, row("X", new Date())));
+		assertNull(MasterKeyIndex.toKey(null, row("X", "Y")));
+	}
+
+	@Test
+	void slotsAreSeparatePerTenantAndEntity() {
+		assertNotEquals(MasterKeyIndex.slotKey("default", "BRANCH"), MasterKeyIndex.slotKey("sub", "BRANCH"));
+		assertNotEquals(MasterKeyIndex.slotKey("default", "BRANCH"), MasterKeyIndex.slotKey("default", "BANK"));
+		assertNotEquals(MasterKeyIndex.slotKey("ab", "C"), MasterKeyIndex.slotKey("a", "BC"));
+		assertEquals(MasterKeyIndex.slotKey("sub", "BRANCH"), MasterKeyIndex.slotKey("sub", "BRANCH"));
+	}
+
+	private static Map<String, Object> row(Object a, Object b) {
+		Map<String, Object> row = new HashMap<>();
+		row.put("A", a);
+		row.put("B", b);
+		return row;
+	}
+}
@@ -0,0 +1,117 @@
+package com.concerto.crud.common.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.dao.GradientLimiterTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:09:35 PM
+ * @Purpose : Tests that the gradient limiter refuses work beyond its limit,
+ *          grows the limit while latency is steady, shrinks it when latency
+ *          rises and keeps it within its bounds.
+ * @Version : 1.0
+ */
+
+class GradientLimiterTest {
+
+	private static final long FAST = 1000000L;
+
+	private static final long SLOW = 20000000L;
+
+	@Test
+	void initialLimitIsKeptWithinBounds() {
+		assertEquals(200, new GradientLimiter(500, 4, 200, 1.5, 0.2).getLimit());
+		assertEquals(4, new GradientLimiter(1, 4, 200, 1.5, 0.2).getLimit());
+		assertEquals(20, new GradientLimiter(20, 4, 200, 1.5, 0.2).getLimit());
+	}
+
+	@Test
+	void callsBeyondTheLimitAreRefused() {
+		GradientLimiter limiter = new GradientLimiter(4, 4, 200, 1.5, 0.2);
+		for (int i = 1; i <= 4; i++) {
+			assertEquals(i, limiter.tryAcquire());
+		}
+		assertEquals(-1, limiter.tryAcquire());
+		assertEquals(5, limiter.acquire());
+		limiter.release(FAST, 5, false);
+		limiter.release(FAST, 4, false);
+		assertEquals(3, limiter.getInflight());
+		assertEquals(4, limiter.tryAcquire());
+	}
+
+	@Test
+	void steadyLatencyGrowsTheLimitToItsMaximum() {
+		GradientLimiter limiter = new GradientLimiter(10, 4, 200, 1.5, 0.2);
+		for (int i = 0; i < 1000; i++) {
+			callUnderLoad(limiter, FAST);
+		}
+		assertEquals(200, limiter.getLimit());
+	}
+
+	@Test
+	void risingLatencyShrinksTheLimit() {
+		GradientLimiter limiter = new GradientLimiter(50, 4, 200, 1.5, 0.2);
+		for (int i = 0; i < 20; i++) {
+			callUnderLoad(limiter, FAST);
+		}
+		int before = limiter.getLimit();
+		for (int i = 0; i < 20; i++) {
+			callUnderLoad(limiter, SLOW);
+		}
+		assertTrue(limiter.getLimit() < before, limiter.getLimit() + " not below " + before);
+	}
+
+	@Test
+	void limitNeverDropsBelowItsMinimum() {
+		GradientLimiter limiter = new GradientLimiter(50, 4, 200, 1.5, 0.2);
+		for (int i = 0; i < 20; i++) {
+			callUnderLoad(limiter, FAST);
+		}
+		for (int i = 1; i <= 200; i++) {
+			callUnderLoad(limiter, SLOW * i);
+		}
+		assertEquals(4, limiter.getLimit());
+	}
+
+	@Test
+	void samplesWithLittleWorkInFlightLeaveTheLimit() {
+		GradientLimiter limiter = new GradientLimiter(20, 4, 200, 1.5, 0.2);
+		for (int i = 0; i < 100; i++) {
+			limiter.release(FAST, limiter.acquire(), true);
+		}
+		assertEquals(20, limiter.getLimit());
+		assertEquals(0, limiter.getInflight());
+	}
+
+	@Test
+	void skippedSamplesLeaveTheLimit() {
+		GradientLimiter limiter = new GradientLimiter(20, 4, 200, 1.5, 0.2);
+		for (int i = 0; i < 100; i++) {
+			limiter.release(SLOW, limiter.tryAcquire(), false);
+		}
+		assertEquals(20, limiter.getLimit());
+		assertEquals(0, limiter.getInflight());
+	}
+
+	/**
+	 * Completes one call while other calls keep the limiter full, as under
+	 * sustained load. Background calls left over after the limit shrinks end
+	 * without a sample.
+	 */
+	private static void callUnderLoad(GradientLimiter limiter, long rttNanos) {
+		while (limiter.getInflight() < limiter.getLimit() - 1) {
+			limiter.acquire();
+		}
+		while (limiter.getInflight() > limiter.getLimit() - 1) {
+			limiter.release(rttNanos, limiter.getInflight(), false);
+		}
+		int inflightAtStart = limiter.tryAcquire();
+		assertTrue(inflightAtStart > 0);
+		limiter.release(rttNanos, inflightAtStart, true);
+	}
+}
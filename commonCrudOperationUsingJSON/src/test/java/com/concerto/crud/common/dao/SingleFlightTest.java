@@ -0,0 +1,136 @@
+package com.concerto.crud.common.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.dao.SingleFlightTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:11:32 PM
+ * @Purpose : Tests that single flight runs concurrent calls of a key once,
+ *          shares the result or the original exception with the callers that
+ *          joined, and forgets the key once the run completes.
+ * @Version : 1.0
+ */
+
+class SingleFlightTest {
+
+	private static final int CALLERS = 4;
+
+	@Test
+	void concurrentCallsOfAKeyRunTheWorkOnce() throws Exception {
+		SingleFlight<String, Object> flight = new SingleFlight<>();
+		Object shared = new Object();
+		AtomicInteger runs = new AtomicInteger();
+		AtomicInteger joins = new AtomicInteger();
+		CountDownLatch joined = new CountDownLatch(CALLERS - 1);
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			results.add(executor.submit(() -> flight.execute("key", () -> {
+				runs.incrementAndGet();
+				await(joined);
+				return shared;
+			}, joins::incrementAndGet)));
+			while (runs.get() == 0) {
+				Thread.yield();
+			}
+			for (int i = 1; i < CALLERS; i++) {
+				results.add(executor.submit(() -> flight.execute("key", () -> {
+					runs.incrementAndGet();
+					return new Object();
+				}, () -> {
+					joins.incrementAndGet();
+					joined.countDown();
+				})));
+			}
+			for (Future<Object> result : results) {
+				assertSame(shared, result.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, runs.get());
+		assertEquals(CALLERS - 1, joins.get());
+	}
+
+	@Test
+	void joinedCallersGetTheOriginalException() throws Exception {
+		SingleFlight<String, Object> flight = new SingleFlight<>();
+		IllegalStateException failure = new IllegalStateException("failed");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch joined = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Throwable> leader = executor.submit(() -> {
+				try {
+					flight.execute("key", () -> {
+						started.countDown();
+						await(joined);
+						throw failure;
+					}, () -> {
+					});
+					return null;
+				} catch (IllegalStateException e) {
+					return e;
+				}
+			});
+			await(started);
+			IllegalStateException thrown = assertThrows(IllegalStateException.class,
+					() -> flight.execute("key", Object::new, joined::countDown));
+			assertSame(failure, thrown);
+			assertSame(failure, leader.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void keyIsReleasedOnceTheRunCompletes() {
+		SingleFlight<String, Integer> flight = new SingleFlight<>();
+		AtomicInteger runs = new AtomicInteger();
+		AtomicInteger joins = new AtomicInteger();
+		assertEquals(1, flight.execute("key", runs::incrementAndGet, joins::incrementAndGet).intValue());
+		assertEquals(2, flight.execute("key", runs::incrementAndGet, joins::incrementAndGet).intValue());
+		assertThrows(IllegalStateException.class, () -> flight.execute("key", () -> {
+			throw new IllegalStateException("failed");
+		}, joins::incrementAndGet));
+		assertEquals(3, flight.execute("key", runs::incrementAndGet, joins::incrementAndGet).intValue());
+		assertEquals(0, joins.get());
+	}
+
+	@Test
+	void differentKeysRunIndependently() {
+		SingleFlight<String, String> flight = new SingleFlight<>();
+		AtomicInteger joins = new AtomicInteger();
+		String outer = flight.execute("a", () -> flight.execute("b", () -> "b", joins::incrementAndGet) + "a",
+				joins::incrementAndGet);
+		assertEquals("ba", outer);
+		assertEquals(0, joins.get());
+		assertEquals("again", flight.execute("a", () -> "again", joins::incrementAndGet));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
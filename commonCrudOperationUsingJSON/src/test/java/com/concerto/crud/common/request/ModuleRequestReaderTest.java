@@ -0,0 +1,141 @@
+package com.concerto.crud.common.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.FieldIndex;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.bean.Validation;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.RequestRejectedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.request.ModuleRequestReaderTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:36:52 PM
+ * @Purpose : Tests that request bodies are read into typed rows with field
+ *          names resolved regardless of case, and that unknown fields, values
+ *          longer than their field allows, values nested too deep and bodies
+ *          with too many rows are rejected.
+ * @Version : 1.0
+ */
+
+class ModuleRequestReaderTest {
+
+	private final ModuleRequestReader reader = new ModuleRequestReader(new ObjectMapper());
+
+	private final Module module = module();
+
+	ModuleRequestReaderTest() {
+		ReflectionTestUtils.setField(reader, "maxValueLength", 8);
+		ReflectionTestUtils.setField(reader, "maxDepth", 2);
+		ReflectionTestUtils.setField(reader, "maxRows", 2);
+		ReflectionTestUtils.setField(reader, "rejectUnknownFields", true);
+	}
+
+	@Test
+	void bodyIsReadIntoTypedRows() {
+		Map<String, Object> parent = read("{'branch_code':'AB1','BRANCH_NAME':'Main','REMARKS':[1,2],"
+				+ "'Beans':[{'account_no':12,'BALANCE':1.5},{'ACCOUNT_NO':13}]}");
+
+		assertTrue(parent instanceof TypedRow);
+		assertEquals("AB1", parent.get("BRANCH_CODE"));
+		assertEquals("Main", parent.get("BRANCH_NAME"));
+		assertEquals(Arrays.asList(1, 2), parent.get("REMARKS"));
+		@SuppressWarnings("unchecked")
+		List<Map<String, Object>> rows = (List<Map<String, Object>>) parent.get(AppConstant.BEANS);
+		assertEquals(2, rows.size());
+		assertEquals(12, rows.get(0).get("ACCOUNT_NO"));
+		assertEquals(1.5, rows.get(0).get("BALANCE"));
+		assertEquals(1, rows.get(1).size());
+	}
+
+	@Test
+	void unknownFieldsAreRejected() {
+		assertRejected(String.format(AppConstant.REQUEST_UNKNOWN_FIELD, "BRANCH_CITY"),
+				"{'BRANCH_CODE':'AB1','BRANCH_CITY':'Pune'}");
+		assertRejected(String.format(AppConstant.REQUEST_UNKNOWN_FIELD, "Beans[1].BRANCH_NAME"),
+				"{'Beans':[{'ACCOUNT_NO':12},{'BRANCH_NAME':'Main'}]}");
+	}
+
+	@Test
+	void unknownFieldsAreKeptWhenAllowed() {
+		ReflectionTestUtils.setField(reader, "rejectUnknownFields", false);
+		assertEquals("Pune", read("{'BRANCH_CITY':'Pune'}").get("BRANCH_CITY"));
+	}
+
+	@Test
+	void valuesLongerThanTheConfiguredLengthAreRejected() {
+		assertEquals("12345678", read("{'BRANCH_NAME':'12345678'}").get("BRANCH_NAME"));
+		assertRejected(tooLong("BRANCH_NAME", 8), "{'BRANCH_NAME':'123456789'}");
+		assertRejected(tooLong("Beans[0].BALANCE", 8), "{'Beans':[{'BALANCE':123456789}]}");
+		assertRejected(tooLong("Beans[0].BALANCE", 8), "{'Beans':[{'BALANCE':1234.56789}]}");
+		assertRejected(tooLong("REMARKS", 8), "{'REMARKS':{'note':'long'}}");
+	}
+
+	@Test
+	void valuesLongerThanTheFieldMaximumAreRejected() {
+		assertEquals("AB12", read("{'BRANCH_CODE':'AB12'}").get("BRANCH_CODE"));
+		assertRejected(tooLong("BRANCH_CODE", 4), "{'BRANCH_CODE':'AB123'}");
+		assertRejected(tooLong("BRANCH_CODE", 4), "{'BRANCH_CODE':12345}");
+	}
+
+	@Test
+	void valuesNestedTooDeepAreRejected() {
+		assertEquals(Arrays.asList(Arrays.asList(1)), read("{'REMARKS':[[1]]}").get("REMARKS"));
+		assertRejected(String.format(AppConstant.REQUEST_VALUE_TOO_DEEP, "REMARKS", 2), "{'REMARKS':[[[1]]]}");
+	}
+
+	@Test
+	void tooManyRowsAreRejected() {
+		assertRejected(String.format(AppConstant.REQUEST_TOO_MANY_ROWS, 2),
+				"{'Beans':[{'ACCOUNT_NO':1},{'ACCOUNT_NO':2},{'ACCOUNT_NO':3}]}");
+	}
+
+	private Map<String, Object> read(String body) {
+		return reader.read(new ByteArrayInputStream(body.replace('\'', '"').getBytes(StandardCharsets.UTF_8)),
+				module);
+	}
+
+	private void assertRejected(String message, String body) {
+		assertEquals(message, assertThrows(RequestRejectedException.class, () -> read(body)).getMessage());
+	}
+
+	private static String tooLong(String location, int maxLength) {
+		return String.format(AppConstant.REQUEST_VALUE_TOO_LONG, location, maxLength);
+	}
+
+	private static Module module() {
+		Module module = new Module();
+		module.setModuleName("BRANCH");
+		module.setFields(Arrays.asList(field("BRANCH_CODE", 4), field("BRANCH_NAME", 0), field("REMARKS", 0)));
+		module.setFieldIndex(FieldIndex.of(module.getFields()));
+		module.setRowIndex(FieldIndex.of(Arrays.asList(field("ACCOUNT_NO", 0), field("BALANCE", 0))));
+		return module;
+	}
+
+	private static Field field(String name, int maximum) {
+		Field field = new Field();
+		field.setName(name);
+		if (maximum > 0) {
+			Validation validation = new Validation();
+			validation.setMaximum(maximum);
+			field.setValidation(validation);
+		}
+		return field;
+	}
+}
@@ -0,0 +1,140 @@
+package com.concerto.crud.common.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Test;
+
+import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.FieldIndex;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.request.TypedRowTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:36:52 PM
+ * @Purpose : Tests that a typed row behaves as an ordinary Map: its size
+ *          follows puts and removes of declared fields and added keys alike,
+ *          its iterator removes entries, and a copy without a key leaves the
+ *          original row as it was.
+ * @Version : 1.0
+ */
+
+class TypedRowTest {
+
+	private final FieldIndex index = FieldIndex.of(Arrays.asList(field("BRANCH_CODE"), field("BRANCH_NAME")));
+
+	@Test
+	void sizeFollowsPutsAndRemoves() {
+		TypedRow row = new TypedRow(index);
+		assertTrue(row.isEmpty());
+
+		assertNull(row.put("BRANCH_CODE", "AB1"));
+		assertEquals("AB1", row.put("BRANCH_CODE", "AB2"));
+		row.put("BRANCH_NAME", null);
+		row.put("Status", "Pending");
+		row.put("Status", "Approved");
+		assertEquals(3, row.size());
+		assertTrue(row.containsKey("BRANCH_NAME"));
+		assertFalse(row.containsKey("REMARKS"));
+
+		assertEquals("AB2", row.remove("BRANCH_CODE"));
+		assertNull(row.remove("BRANCH_CODE"));
+		assertEquals("Approved", row.remove("Status"));
+		assertNull(row.remove("Status"));
+		assertEquals(1, row.size());
+
+		row.clear();
+		assertTrue(row.isEmpty());
+		assertFalse(row.containsKey("BRANCH_NAME"));
+	}
+
+	@Test
+	void rowEqualsAMapWithTheSameEntries() {
+		TypedRow row = new TypedRow(index);
+		row.put("Status", "Pending");
+		row.put("BRANCH_NAME", "Main");
+		row.put("BRANCH_CODE", "AB1");
+
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("BRANCH_CODE", "AB1");
+		expected.put("BRANCH_NAME", "Main");
+		expected.put("Status", "Pending");
+		assertEquals(expected, row);
+		assertEquals(Arrays.asList("BRANCH_CODE", "BRANCH_NAME", "Status"), new ArrayList<>(row.keySet()));
+	}
+
+	@Test
+	void iteratorRemovesEntries() {
+		TypedRow row = new TypedRow(index);
+		row.put("BRANCH_CODE", "AB1");
+		row.put("BRANCH_NAME", "Main");
+		row.put("Status", "Pending");
+		row.put("Remarks", "none");
+
+		Iterator<Entry<String, Object>> entries = row.entrySet().iterator();
+		assertThrows(IllegalStateException.class, entries::remove);
+		List<String> kept = new ArrayList<>();
+		while (entries.hasNext()) {
+			Entry<String, Object> entry = entries.next();
+			if ("BRANCH_CODE".equals(entry.getKey()) || "Status".equals(entry.getKey())) {
+				entries.remove();
+			} else {
+				kept.add(entry.getKey());
+			}
+		}
+
+		assertEquals(Arrays.asList("BRANCH_NAME", "Remarks"), kept);
+		assertEquals(2, row.size());
+		assertFalse(row.containsKey("BRANCH_CODE"));
+		assertFalse(row.containsKey("Status"));
+		assertEquals("Main", row.get("BRANCH_NAME"));
+	}
+
+	@Test
+	void entryValueCanBeReplaced() {
+		TypedRow row = new TypedRow(index);
+		row.put("BRANCH_CODE", "AB1");
+		row.entrySet().iterator().next().setValue("AB2");
+		assertEquals("AB2", row.get("BRANCH_CODE"));
+	}
+
+	@Test
+	void copyWithoutLeavesTheRowAsItWas() {
+		TypedRow row = new TypedRow(index);
+		row.put("BRANCH_CODE", "AB1");
+		row.put("BRANCH_NAME", "Main");
+		row.put("Status", "Pending");
+
+		TypedRow withoutName = row.copyWithout("BRANCH_NAME");
+		TypedRow withoutStatus = row.copyWithout("Status");
+		withoutName.put("Remarks", "none");
+
+		assertEquals(3, withoutName.size());
+		assertFalse(withoutName.containsKey("BRANCH_NAME"));
+		assertEquals(2, withoutStatus.size());
+		assertFalse(withoutStatus.containsKey("Status"));
+		assertEquals(3, row.size());
+		assertEquals("Main", row.get("BRANCH_NAME"));
+		assertEquals("Pending", row.get("Status"));
+		assertFalse(row.containsKey("Remarks"));
+	}
+
+	private static Field field(String name) {
+		Field field = new Field();
+		field.setName(name);
+		return field;
+	}
+}
@@ -0,0 +1,85 @@
+package com.concerto.crud.common.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.concerto.crud.common.transaction.CommitGroup.Member;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.CommitGroupTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:27:39 PM
+ * @Purpose : Tests that a commit group closes when its collection window
+ *          passes or as soon as it is full, keeps its members in the order
+ *          they joined and turns away work once closed.
+ * @Version : 1.0
+ */
+
+class CommitGroupTest {
+
+	private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private static final long LONG_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+	private static final Supplier<Object> WORK = Object::new;
+
+	@Test
+	void groupClosesWhenTheWindowPasses() {
+		CommitGroup group = new CommitGroup(10);
+		Member first = group.join(WORK);
+		Member second = group.join(WORK);
+
+		long start = System.nanoTime();
+		List<Member> members = group.close(WINDOW_NANOS);
+		assertTrue(System.nanoTime() - start >= WINDOW_NANOS);
+
+		assertEquals(2, members.size());
+		assertSame(first, members.get(0));
+		assertSame(second, members.get(1));
+		assertNull(group.join(WORK));
+	}
+
+	@Test
+	void fullGroupClosesBeforeTheWindowPasses() throws Exception {
+		CommitGroup group = new CommitGroup(3);
+		assertNotNull(group.join(WORK));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			long start = System.nanoTime();
+			Future<List<Member>> closed = executor.submit(() -> group.close(LONG_WINDOW_NANOS));
+			assertNotNull(group.join(WORK));
+			assertNotNull(group.join(WORK));
+
+			assertEquals(3, closed.get(5, TimeUnit.SECONDS).size());
+			assertTrue(System.nanoTime() - start < LONG_WINDOW_NANOS);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertNull(group.join(WORK));
+	}
+
+	@Test
+	void groupThatFillsBeforeClosingIsNotKeptOpen() {
+		CommitGroup group = new CommitGroup(1);
+		assertNotNull(group.join(WORK));
+		assertNull(group.join(WORK));
+
+		long start = System.nanoTime();
+		assertEquals(1, group.close(LONG_WINDOW_NANOS).size());
+		assertTrue(System.nanoTime() - start < LONG_WINDOW_NANOS);
+	}
+}
@@ -0,0 +1,175 @@
+package com.concerto.crud.common.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.concerto.crud.common.bean.Field;
+import com.concerto.crud.common.bean.FieldIndex;
+import com.concerto.crud.common.bean.Module;
+import com.concerto.crud.common.constant.AppConstant;
+import com.concerto.crud.common.exception.ServiceOverloadedException;
+import com.concerto.crud.common.tenant.TenantContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.StripedKeyLockTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:33:10 PM
+ * @Purpose : Tests that record keys ignore the case and surrounding blanks of
+ *          key values and the case of field names, that work on a row without
+ *          a complete primary key runs unlocked, and that work waiting too
+ *          long for its record is refused and counted.
+ * @Version : 1.0
+ */
+
+class StripedKeyLockTest {
+
+	private static final String ENTITY = "BRANCH";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final Module module = module(field("BANK_CODE", true), field("BRANCH_CODE", true),
+			field("BRANCH_NAME", false));
+
+	@Test
+	void keysIgnoreCaseAndBlanks() {
+		String key = StripedKeyLock.recordKey(module, row("BANK_CODE", "sbi", "BRANCH_CODE", " ab1 "));
+		assertEquals(AppConstant.DEFAULT_TENANT + ":BRANCH:SBI:AB1", key);
+		assertEquals(key, StripedKeyLock.recordKey(module, row("bank_code", "SBI\t", "Branch_Code", "aB1")));
+		assertNotEquals(key, StripedKeyLock.recordKey(module, row("BANK_CODE", "sbi", "BRANCH_CODE", "ab2")));
+	}
+
+	@Test
+	void keysAreSeparatePerTenant() {
+		Map<String, Object> row = row("BANK_CODE", "SBI", "BRANCH_CODE", "AB1");
+		AtomicReference<String> tenantKey = new AtomicReference<>();
+		TenantContext.runAs("sub", () -> tenantKey.set(StripedKeyLock.recordKey(module, row)));
+		assertNotEquals(StripedKeyLock.recordKey(module, row), tenantKey.get());
+	}
+
+	@Test
+	void rowWithoutCompleteKeyHasNoKey() {
+		assertNull(StripedKeyLock.recordKey(module, row("BANK_CODE", "SBI", "BRANCH_NAME", "Main")));
+		assertNull(StripedKeyLock.recordKey(module, row("BANK_CODE", "SBI", "BRANCH_CODE", null)));
+		assertNull(StripedKeyLock.recordKey(module, null));
+		assertNull(StripedKeyLock.recordKey(module(field("BRANCH_NAME", false)), row("BRANCH_NAME", "Main")));
+	}
+
+	@Test
+	void rowWithoutCompleteKeyRunsUnlocked() throws Exception {
+		StripedKeyLock keyLock = keyLock(60_000);
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> holder = executor.submit(() -> keyLock.withLock(module,
+					row("BANK_CODE", "SBI", "BRANCH_CODE", "AB1"), () -> {
+						locked.countDown();
+						await(release);
+						return null;
+					}));
+			await(locked);
+
+			assertEquals("done", keyLock.withLock(module, row("BANK_CODE", "SBI"), () -> "done"));
+			release.countDown();
+			assertNull(holder.get(5, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void lockTimeoutIsRefusedAndCounted() throws Exception {
+		StripedKeyLock keyLock = keyLock(50);
+		Map<String, Object> row = row("BANK_CODE", "SBI", "BRANCH_CODE", "AB1");
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> holder = executor.submit(() -> keyLock.withLock(module, row, () -> {
+				locked.countDown();
+				await(release);
+				return null;
+			}));
+			await(locked);
+
+			ServiceOverloadedException thrown = assertThrows(ServiceOverloadedException.class,
+					() -> keyLock.withLock(module, row("bank_code", "sbi ", "BRANCH_CODE", "ab1"), () -> "late"));
+			assertEquals(AppConstant.RECORD_BUSY, thrown.getMessage());
+			assertEquals(1, meterRegistry.counter(AppConstant.METRIC_KEY_LOCK_TIMEOUTS,
+					AppConstant.METRIC_TAG_ENTITY, ENTITY).count(), 0);
+
+			release.countDown();
+			assertNull(holder.get(5, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+		assertEquals("done", keyLock.withLock(module, row, () -> "done"));
+	}
+
+	/**
+	 * Builds a lock with a single stripe, so every keyed piece of work shares
+	 * the same lock.
+	 */
+	private StripedKeyLock keyLock(long timeoutMs) {
+		StripedKeyLock keyLock = new StripedKeyLock(meterRegistry);
+		ReflectionTestUtils.setField(keyLock, "enabled", true);
+		ReflectionTestUtils.setField(keyLock, "stripeCount", 1);
+		ReflectionTestUtils.setField(keyLock, "timeoutMs", timeoutMs);
+		keyLock.createStripes();
+		return keyLock;
+	}
+
+	private static Module module(Field... fields) {
+		Module module = new Module();
+		module.setModuleName(ENTITY);
+		module.setFields(Arrays.asList(fields));
+		module.setFieldIndex(FieldIndex.of(module.getFields()));
+		return module;
+	}
+
+	private static Field field(String name, boolean primaryKey) {
+		Field field = new Field();
+		field.setName(name);
+		field.setPrimaryKey(primaryKey);
+		return field;
+	}
+
+	private static Map<String, Object> row(Object... namesAndValues) {
+		Map<String, Object> row = new HashMap<>();
+		for (int i = 0; i < namesAndValues.length; i += 2) {
+			row.put((String) namesAndValues[i], namesAndValues[i + 1]);
+		}
+		return row;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.concerto.crud.common.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.TransactionRetryPolicyTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:12:17 PM
+ * @Purpose : Tests that the retry policy finds deadlocks, lock timeouts and
+ *          serialization failures anywhere in the cause chain, and that
+ *          replays stop at the attempt limit and when the budget runs out.
+ * @Version : 1.0
+ */
+
+class TransactionRetryPolicyTest {
+
+	private static final SQLException DEADLOCK = new SQLException("deadlock victim", "40001", 1205);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void retryableFailuresAreRecognised() {
+		assertEquals(AppConstant.RETRY_REASON_DEADLOCK, TransactionRetryPolicy.retryReason(DEADLOCK));
+		assertEquals(AppConstant.RETRY_REASON_LOCK_TIMEOUT,
+				TransactionRetryPolicy.retryReason(new SQLException("lock timeout", "S00051", 1222)));
+		assertEquals(AppConstant.RETRY_REASON_SERIALIZATION,
+				TransactionRetryPolicy.retryReason(new SQLException("serialization", "40001", 0)));
+	}
+
+	@Test
+	void causeChainIsSearched() {
+		RuntimeException wrapped = new IllegalStateException(new RuntimeException("rolled back", DEADLOCK));
+		assertEquals(AppConstant.RETRY_REASON_DEADLOCK, TransactionRetryPolicy.retryReason(wrapped));
+
+		SQLException outer = new SQLException("batch failed", "HY000", 0);
+		outer.initCause(new SQLException("lock timeout", "S00051", 1222));
+		assertEquals(AppConstant.RETRY_REASON_LOCK_TIMEOUT, TransactionRetryPolicy.retryReason(outer));
+	}
+
+	@Test
+	void otherFailuresAreNotRetried() {
+		assertNull(TransactionRetryPolicy.retryReason(null));
+		assertNull(TransactionRetryPolicy.retryReason(new IllegalStateException("failed")));
+		assertNull(TransactionRetryPolicy.retryReason(new SQLException("duplicate key", "23000", 2627)));
+		assertNull(TransactionRetryPolicy.retryReason(new RuntimeException(new SQLException("null", "23000", 515))));
+	}
+
+	@Test
+	void retriesStopAtTheAttemptLimit() {
+		TransactionRetryPolicy policy = policy(3, 10, 0.1);
+		assertTrue(policy.retry(DEADLOCK, 1));
+		assertTrue(policy.retry(DEADLOCK, 2));
+		assertFalse(policy.retry(DEADLOCK, 3));
+		assertEquals(2, count(AppConstant.METRIC_RESULT_RETRIED), 0);
+		assertEquals(1, count(AppConstant.METRIC_RESULT_EXHAUSTED), 0);
+	}
+
+	@Test
+	void otherFailuresDoNotSpendTheBudget() {
+		TransactionRetryPolicy policy = policy(3, 1, 0.1);
+		assertFalse(policy.retry(new IllegalStateException("failed"), 1));
+		assertTrue(policy.retry(DEADLOCK, 1));
+	}
+
+	@Test
+	void retriesStopWhenTheBudgetIsSpent() {
+		TransactionRetryPolicy policy = policy(10, 2, 0.5);
+		assertTrue(policy.retry(DEADLOCK, 1));
+		assertTrue(policy.retry(DEADLOCK, 1));
+		assertFalse(policy.retry(DEADLOCK, 1));
+		assertEquals(1, count(AppConstant.METRIC_RESULT_BUDGET_EXHAUSTED), 0);
+
+		policy.onTransaction();
+		assertFalse(policy.retry(DEADLOCK, 1));
+		policy.onTransaction();
+		assertTrue(policy.retry(DEADLOCK, 1));
+	}
+
+	@Test
+	void budgetNeverGrowsBeyondTheReserve() {
+		TransactionRetryPolicy policy = policy(10, 2, 0.5);
+		for (int i = 0; i < 100; i++) {
+			policy.onTransaction();
+		}
+		assertTrue(policy.retry(DEADLOCK, 1));
+		assertTrue(policy.retry(DEADLOCK, 1));
+		assertFalse(policy.retry(DEADLOCK, 1));
+	}
+
+	@Test
+	void nothingIsRetriedWhenDisabled() {
+		TransactionRetryPolicy policy = policy(3, 10, 0.1);
+		ReflectionTestUtils.setField(policy, "enabled", false);
+		assertFalse(policy.retry(DEADLOCK, 1));
+		assertEquals(0, count(AppConstant.METRIC_RESULT_RETRIED), 0);
+	}
+
+	private TransactionRetryPolicy policy(int maxAttempts, double budgetReserve, double budgetRatio) {
+		TransactionRetryPolicy policy = new TransactionRetryPolicy(meterRegistry);
+		ReflectionTestUtils.setField(policy, "enabled", true);
+		ReflectionTestUtils.setField(policy, "maxAttempts", maxAttempts);
+		ReflectionTestUtils.setField(policy, "initialBackoffMs", 0L);
+		ReflectionTestUtils.setField(policy, "maxBackoffMs", 0L);
+		ReflectionTestUtils.setField(policy, "budgetReserve", budgetReserve);
+		ReflectionTestUtils.setField(policy, "budgetRatio", budgetRatio);
+		policy.fillBudget();
+		return policy;
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter(AppConstant.METRIC_TRANSACTION_RETRIES, AppConstant.METRIC_TAG_REASON,
+				AppConstant.RETRY_REASON_DEADLOCK, AppConstant.METRIC_TAG_RESULT, result).count();
+	}
+}
@@ -0,0 +1,198 @@
+package com.concerto.crud.common.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.concerto.crud.common.constant.AppConstant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.transaction.UnitOfWorkManagerTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:27:39 PM
+ * @Purpose : Tests group commit on a mocked connection: a group is committed
+ *          once when its window passes or it fills up, a failing member is
+ *          rolled back to its own savepoint while the others commit, and a
+ *          deadlock fails the group and replays each member on its own.
+ * @Version : 1.0
+ */
+
+class UnitOfWorkManagerTest {
+
+	private static final String GROUP = "employee";
+
+	private static final Duration LONG_WINDOW = Duration.ofSeconds(30);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final DataSource dataSource = mock(DataSource.class);
+
+	private final Connection connection = mock(Connection.class);
+
+	private final AtomicReference<Savepoint> lastSavepoint = new AtomicReference<>();
+
+	UnitOfWorkManagerTest() throws SQLException {
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.setSavepoint()).thenAnswer(invocation -> {
+			Savepoint savepoint = mock(Savepoint.class);
+			lastSavepoint.set(savepoint);
+			return savepoint;
+		});
+	}
+
+	@Test
+	void loneMemberIsCommittedWhenTheWindowPasses() throws Exception {
+		UnitOfWorkManager manager = manager(32, Duration.ofMillis(20));
+		AtomicInteger afterCommits = new AtomicInteger();
+
+		assertEquals("saved", manager.executeGrouped(GROUP, () -> {
+			UnitOfWork.runAfterCommit(afterCommits::incrementAndGet);
+			return "saved";
+		}));
+
+		verify(connection).setAutoCommit(false);
+		verify(connection).setSavepoint();
+		verify(connection).commit();
+		verify(connection, never()).rollback();
+		assertEquals(1, afterCommits.get());
+		assertEquals(1, meterRegistry.summary(AppConstant.METRIC_GROUP_COMMIT_SIZE).count());
+	}
+
+	@Test
+	void fullGroupIsCommittedOnceInOneTransaction() throws Exception {
+		UnitOfWorkManager manager = manager(3, LONG_WINDOW);
+		AtomicInteger afterCommits = new AtomicInteger();
+		Supplier<Object> work = () -> {
+			UnitOfWork.runAfterCommit(afterCommits::incrementAndGet);
+			return "saved";
+		};
+
+		for (Future<Object> result : submitAll(manager, Arrays.asList(work, work, work))) {
+			assertEquals("saved", result.get(5, TimeUnit.SECONDS));
+		}
+
+		verify(dataSource).getConnection();
+		verify(connection, times(3)).setSavepoint();
+		verify(connection).commit();
+		assertEquals(3, afterCommits.get());
+		assertEquals(3, meterRegistry.summary(AppConstant.METRIC_GROUP_COMMIT_SIZE).totalAmount(), 0);
+	}
+
+	@Test
+	void failingMemberIsRolledBackToItsOwnSavepoint() throws Exception {
+		UnitOfWorkManager manager = manager(3, LONG_WINDOW);
+		AtomicInteger afterCommits = new AtomicInteger();
+		AtomicReference<Savepoint> failedAt = new AtomicReference<>();
+		IllegalStateException failure = new IllegalStateException("invalid row");
+		Supplier<Object> work = () -> {
+			UnitOfWork.runAfterCommit(afterCommits::incrementAndGet);
+			return "saved";
+		};
+		Supplier<Object> failing = () -> {
+			UnitOfWork.runAfterCommit(afterCommits::incrementAndGet);
+			failedAt.set(lastSavepoint.get());
+			throw failure;
+		};
+
+		List<Future<Object>> results = submitAll(manager, Arrays.asList(work, failing, work));
+		assertEquals("saved", results.get(0).get(5, TimeUnit.SECONDS));
+		ExecutionException thrown = assertThrows(ExecutionException.class,
+				() -> results.get(1).get(5, TimeUnit.SECONDS));
+		assertSame(failure, thrown.getCause());
+		assertEquals("saved", results.get(2).get(5, TimeUnit.SECONDS));
+
+		verify(connection).rollback(failedAt.get());
+		verify(connection).rollback(any(Savepoint.class));
+		verify(connection, never()).rollback();
+		verify(connection).commit();
+		assertEquals(2, afterCommits.get());
+	}
+
+	@Test
+	void deadlockFailsTheGroupAndReplaysEachMemberOnItsOwn() throws Exception {
+		UnitOfWorkManager manager = manager(2, LONG_WINDOW);
+		AtomicInteger runs = new AtomicInteger();
+		Supplier<Object> deadlocking = () -> {
+			if (runs.incrementAndGet() == 1) {
+				throw new IllegalStateException(new SQLException("deadlock victim", "40001", 1205));
+			}
+			return "replayed";
+		};
+		Supplier<Object> work = () -> "saved";
+
+		List<Future<Object>> results = submitAll(manager, Arrays.asList(deadlocking, work));
+		assertEquals("replayed", results.get(0).get(5, TimeUnit.SECONDS));
+		assertEquals("saved", results.get(1).get(5, TimeUnit.SECONDS));
+
+		assertEquals(2, runs.get());
+		verify(dataSource, times(3)).getConnection();
+		verify(connection).rollback();
+		verify(connection, never()).rollback(any(Savepoint.class));
+		verify(connection, times(2)).commit();
+	}
+
+	/**
+	 * Submits each work from its own thread. The group is full once every
+	 * work has joined, so the window never has to pass.
+	 */
+	private static List<Future<Object>> submitAll(UnitOfWorkManager manager, List<Supplier<Object>> works) {
+		ExecutorService executor = Executors.newFixedThreadPool(works.size());
+		List<Future<Object>> results = new ArrayList<>();
+		try {
+			for (Supplier<Object> work : works) {
+				results.add(executor.submit(() -> manager.executeGrouped(GROUP, work)));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return results;
+	}
+
+	private UnitOfWorkManager manager(int maxSize, Duration window) {
+		TransactionRetryPolicy retryPolicy = new TransactionRetryPolicy(meterRegistry);
+		ReflectionTestUtils.setField(retryPolicy, "enabled", true);
+		ReflectionTestUtils.setField(retryPolicy, "maxAttempts", 3);
+		ReflectionTestUtils.setField(retryPolicy, "initialBackoffMs", 0L);
+		ReflectionTestUtils.setField(retryPolicy, "maxBackoffMs", 0L);
+		ReflectionTestUtils.setField(retryPolicy, "budgetReserve", 10.0);
+		ReflectionTestUtils.setField(retryPolicy, "budgetRatio", 0.1);
+		retryPolicy.fillBudget();
+
+		UnitOfWorkManager manager = new UnitOfWorkManager(dataSource, retryPolicy, meterRegistry);
+		ReflectionTestUtils.setField(manager, "groupCommitEnabled", true);
+		ReflectionTestUtils.setField(manager, "groupCommitWindow", window);
+		ReflectionTestUtils.setField(manager, "groupCommitMaxSize", maxSize);
+		return manager;
+	}
+}
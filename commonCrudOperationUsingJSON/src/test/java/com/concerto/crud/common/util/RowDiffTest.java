@@ -0,0 +1,131 @@
+package com.concerto.crud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.concerto.crud.common.bean.Bean;
+import com.concerto.crud.common.bean.Field;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.util.RowDiffTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:06:14 PM
+ * @Purpose : Tests that incoming values are compared with master values the
+ *          way the DAO writes them, and that only changed non-key fields are
+ *          reported.
+ * @Version : 1.0
+ */
+
+class RowDiffTest {
+
+	@Test
+	void numbersAreComparedByValue() {
+		assertTrue(RowDiff.isSameValue("10", new BigDecimal("10.00")));
+		assertTrue(RowDiff.isSameValue(10, 10L));
+		assertTrue(RowDiff.isSameValue(" 2.5 ", 2.5));
+		assertFalse(RowDiff.isSameValue("10.01", new BigDecimal("10.00")));
+		assertFalse(RowDiff.isSameValue("ten", 10));
+	}
+
+	@Test
+	void booleansAreComparedByMeaning() {
+		assertTrue(RowDiff.isSameValue("1", Boolean.TRUE));
+		assertTrue(RowDiff.isSameValue("FALSE", Boolean.FALSE));
+		assertTrue(RowDiff.isSameValue(Boolean.TRUE, Boolean.TRUE));
+		assertFalse(RowDiff.isSameValue("0", Boolean.TRUE));
+		assertFalse(RowDiff.isSameValue("yes", Boolean.TRUE));
+	}
+
+	@Test
+	void datesAreComparedByInstant() {
+		LocalDateTime dateTime = LocalDateTime.of(2026, 10, 18, 12, 30, 15);
+		assertTrue(RowDiff.isSameValue(dateTime, Timestamp.valueOf(dateTime)));
+		assertFalse(RowDiff.isSameValue(dateTime.plusSeconds(1), Timestamp.valueOf(dateTime)));
+		assertFalse(RowDiff.isSameValue("2026-10-18 12:30:15", Timestamp.valueOf(dateTime)));
+	}
+
+	@Test
+	void nullsAreOnlyEqualToNull() {
+		assertTrue(RowDiff.isSameValue(null, null));
+		assertFalse(RowDiff.isSameValue(null, "A"));
+		assertFalse(RowDiff.isSameValue("A", null));
+	}
+
+	@Test
+	void stringsAreComparedExactly() {
+		assertTrue(RowDiff.isSameValue("Pune", "Pune"));
+		assertFalse(RowDiff.isSameValue("Pune", "PUNE"));
+		assertFalse(RowDiff.isSameValue("Pune", "Pune "));
+	}
+
+	@Test
+	void objectsAreComparedBySerialisedForm() {
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("city", "Pune");
+		value.put("pin", 411001);
+		assertTrue(RowDiff.isSameValue(value, "{\"city\":\"Pune\",\"pin\":411001}"));
+		assertFalse(RowDiff.isSameValue(value, "{\"city\":\"Mumbai\",\"pin\":411001}"));
+	}
+
+	@Test
+	void onlyChangedNonKeyFieldsAreReportedInFieldOrder() {
+		Bean bean = bean("ID", "NAME", "AMOUNT", "CITY");
+		Map<String, Object> incoming = new HashMap<>();
+		incoming.put("ID", "2");
+		incoming.put("NAME", "Asha");
+		incoming.put("AMOUNT", "100.50");
+		incoming.put("CITY", "Nashik");
+		Map<String, Object> current = new HashMap<>();
+		current.put("ID", 1);
+		current.put("NAME", "Asha");
+		current.put("AMOUNT", new BigDecimal("100.5"));
+		current.put("CITY", "Pune");
+
+		assertEquals(Collections.singletonList("CITY"), RowDiff.changedFields(bean, incoming, current));
+
+		incoming.put("NAME", null);
+		assertEquals(Arrays.asList("NAME", "CITY"), RowDiff.changedFields(bean, incoming, current));
+	}
+
+	@Test
+	void unchangedRowReportsNothing() {
+		Bean bean = bean("ID", "NAME");
+		Map<String, Object> row = new HashMap<>();
+		row.put("ID", 1);
+		row.put("NAME", "Asha");
+		assertTrue(RowDiff.changedFields(bean, row, new HashMap<>(row)).isEmpty());
+	}
+
+	/**
+	 * Creates a bean whose first field is its primary key.
+	 */
+	private static Bean bean(String... fieldNames) {
+		List<Field> fields = new ArrayList<>();
+		for (String fieldName : fieldNames) {
+			Field field = new Field();
+			field.setName(fieldName);
+			field.setPrimaryKey(fields.isEmpty());
+			fields.add(field);
+		}
+		Bean bean = new Bean();
+		bean.setBeanName("ACCOUNT");
+		bean.setFields(fields);
+		return bean;
+	}
+}
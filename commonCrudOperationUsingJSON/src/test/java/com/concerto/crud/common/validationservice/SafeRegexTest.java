@@ -0,0 +1,138 @@
+package com.concerto.crud.common.validationservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copyright (C) Concerto Software and Systems (P) LTD | All Rights Reserved
+ *
+ * @File : com.concerto.crud.common.validationservice.SafeRegexTest.java
+ * @Author : agent
+ * @AddedDate : October 18, 2026 09:07:07 PM
+ * @Purpose : Tests that SafeRegex gives the same answer as Matcher.matches of
+ *          java.util.regex for the constructs it supports, and that it rejects
+ *          the constructs and sizes it cannot match in linear time.
+ * @Version : 1.0
+ */
+
+class SafeRegexTest {
+
+	private static final String[] INPUTS = { "", "a", "c", "x", "A", "aa", "aaa", "aaaa", "aaaaa", "ab", "abc",
+			"ABC", "abab", "ababab", "abababab", "aab", "ac", "abbc", "cat", "cats", "dog", "dogs", "catdog", "xy",
+			"xxy", "yy", "123", "0", "12.5-", "1a", "a_b9", "a b", "joe@mail.com", "joe@mail.org", " \t x", "a\nc",
+			"a\rc", "a\u2028c", "abc\n", "]", "-", "a-c", "AB", "\t", ".", "a.b", "\u00DC" };
+
+	@Test
+	void characterClassesMatchLikeJavaRegex() {
+		assertSameAsJava("[a-z]+", "[A-Za-z0-9_]{2,4}", "[abc]", "[a-c-]+", "[\\d.-]+", "[\\s]*x", "[\\w]+",
+				"[a\\-z]+", "[\\x41-\\x43]+", "[\\u0041B]+", "\\d+", "\\w+@\\w+\\.com", "\\s+x", "[.]", "\\.");
+	}
+
+	@Test
+	void negatedClassesMatchLikeJavaRegex() {
+		assertSameAsJava("[^abc]", "[^0-9]*", "[^\\s]+", "[^a-z]+", "\\D+", "\\W", "\\S+", "[^\\d\\s]+");
+	}
+
+	@Test
+	void dotMatchesLikeJavaRegex() {
+		assertSameAsJava(".", ".*", "a.c", ".+c", "a.*", "..");
+	}
+
+	@Test
+	void boundedRepeatsMatchLikeJavaRegex() {
+		assertSameAsJava("a{3}", "a{2,}", "a{2,4}", "a{0,1}", "(ab){1,3}", "(ab){2}", "a?b?c?", "x{1}y{0,2}",
+				"a{2,3}?", "(a{1,2}){2}");
+	}
+
+	@Test
+	void unboundedRepeatsMatchLikeJavaRegex() {
+		assertSameAsJava("a*", "a+", "x*y", "x+y?", "(ab)*", "(ab)+", "(a|b)*c", "a+?b", "(a*)*", "(a|aa)+",
+				"[a-z]*[0-9]*");
+	}
+
+	@Test
+	void alternationMatchesLikeJavaRegex() {
+		assertSameAsJava("cat|dog", "(cat|dog)s?", "a|", "|a", "a|b|c", "(?:cat|dog)+", "cat(s|)", "ab|abc",
+				"(a|ab)(c|bcd)?");
+	}
+
+	@Test
+	void anchorsMatchLikeJavaRegex() {
+		assertSameAsJava("^abc$", "^[0-9]+$", "^a*", "b*$", "^$", "^(cat|dog)$", "abc\\$|abc");
+	}
+
+	@Test
+	void nestedStarsRunInLinearTime() {
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 100000; i++) {
+			input.append('a');
+		}
+		long start = System.nanoTime();
+		assertFalse(SafeRegex.compile("(a*)*b").matches(input));
+		assertFalse(SafeRegex.compile("(a|aa)+b").matches(input));
+		assertTrue(SafeRegex.compile("(a|aa)+").matches(input));
+		assertTrue(System.nanoTime() - start < 5000000000L, "matching took too long");
+	}
+
+	@Test
+	void tooLargeProgramIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("a{1000}b{1000}c{1000}d{1000}e{1000}"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(a{100}){100}"));
+	}
+
+	@Test
+	void repeatCountAboveLimitIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("a{1001}"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("a{1,1001}"));
+		assertTrue(SafeRegex.compile("a{1000}").matches(repeat('a', 1000)));
+	}
+
+	@Test
+	void lookAroundIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(?=a)a"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(?!a)b"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(?<=a)b"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(?<!a)b"));
+	}
+
+	@Test
+	void backReferencesAndBoundariesAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(a)\\1"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("\\bword\\b"));
+		assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile("(?<name>a)\\k<name>"));
+	}
+
+	@Test
+	void otherUnsupportedOrMalformedPatternsAreRejected() {
+		String[] patterns = { "(?i)abc", "a*+", "a**", "a^b", "a$b", "*a", "(abc", "abc)", "[abc", "a{2,1}", "a{",
+				"[z-a]", "[a[b]]", "[a&&b]", "\\" };
+		for (String pattern : patterns) {
+			assertThrows(IllegalArgumentException.class, () -> SafeRegex.compile(pattern));
+		}
+	}
+
+	private static void assertSameAsJava(String... patterns) {
+		for (String regex : patterns) {
+			SafeRegex safeRegex = SafeRegex.compile(regex);
+			Pattern pattern = Pattern.compile(regex);
+			for (String input : INPUTS) {
+				assertEquals(pattern.matcher(input).matches(), safeRegex.matches(input),
+						"'" + regex + "' against '" + input + "'");
+			}
+		}
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(c);
+		}
+		return text.toString();
+	}
+}